@@ -0,0 +1,81 @@
+package kr.co._29cm.homework.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 금액 계산 벤치마크
+ * 
+ * 주문 항목별 소계(단가 × 수량) 합산과 배송비 적용을
+ * 기존 BigDecimal 연산(매 연산마다 setScale)과 최소 단위 long 연산으로 비교합니다.
+ * 가비지 생성량은 {@code -prof gc} 옵션으로 확인할 수 있습니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+
+    private static final BigDecimal THRESHOLD = BigDecimal.valueOf(50000);
+    private static final BigDecimal FEE = BigDecimal.valueOf(2500);
+    private static final long THRESHOLD_MINOR = Money.toMinorUnits(THRESHOLD);
+    private static final long FEE_MINOR = Money.toMinorUnits(FEE);
+
+    @Param({"3", "20"})
+    private int lines;
+
+    private BigDecimal[] unitPrices;
+    private long[] unitPriceMinorUnits;
+    private int[] quantities;
+
+    @Setup
+    public void setUp() {
+        unitPrices = new BigDecimal[lines];
+        unitPriceMinorUnits = new long[lines];
+        quantities = new int[lines];
+        for (int i = 0; i < lines; i++) {
+            unitPrices[i] = BigDecimal.valueOf(2800 + i * 1700L);
+            unitPriceMinorUnits[i] = Money.toMinorUnits(unitPrices[i]);
+            quantities[i] = 1 + i % 3;
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalTotal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < lines; i++) {
+            BigDecimal subtotal = unitPrices[i].multiply(BigDecimal.valueOf(quantities[i])).setScale(2, RoundingMode.HALF_UP);
+            total = total.add(subtotal);
+        }
+        BigDecimal fee = total.compareTo(THRESHOLD) < 0 ? FEE : BigDecimal.ZERO;
+        return total.add(fee).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public long minorUnitTotal() {
+        long total = 0;
+        for (int i = 0; i < lines; i++) {
+            total = Math.addExact(total, Math.multiplyExact(unitPriceMinorUnits[i], quantities[i]));
+        }
+        long fee = total < THRESHOLD_MINOR ? FEE_MINOR : 0;
+        return Math.addExact(total, fee);
+    }
+
+    @Benchmark
+    public long moneyTotal() {
+        Money total = Money.ofMinorUnits(0);
+        for (int i = 0; i < lines; i++) {
+            total = total.add(Money.ofMinorUnits(unitPriceMinorUnits[i]).multiply(quantities[i]));
+        }
+        return total.getMinorUnits();
+    }
+}
@@ -0,0 +1,86 @@
+package kr.co._29cm.homework.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 CSV 파싱 벤치마크
+ * 
+ * 100만 행 파일을 스트림 읽기({@link ProductCsvReader})와 메모리 맵 병렬 파싱({@link MappedProductCsvParser})으로 읽습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProductCsvParserBenchmark {
+
+    private Path file;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("products", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("상품번호,상품명,판매가격,재고수량\n");
+            for (int i = 0; i < 1_000_000; i++) {
+                writer.write((100000 + i) + ",\"[브랜드] 상품, 옵션 " + i + "\"," + (1000 + i % 50000) + ".50," + (i % 100) + "\n");
+            }
+        }
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long streamReader() throws IOException {
+        LongAdder rows = new LongAdder();
+        try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            new ProductCsvReader(reader).readAll(new ProductCsvReader.Handler() {
+                @Override
+                public void row(ProductCsvReader.Row row) {
+                    rows.increment();
+                }
+
+                @Override
+                public void error(long lineNumber, String message) {
+                }
+            });
+        }
+        return rows.sum();
+    }
+
+    @Benchmark
+    public long mappedParallel() throws IOException {
+        LongAdder rows = new LongAdder();
+        new MappedProductCsvParser(4 << 20, 1000).parse(file, pool, new MappedProductCsvParser.Sink() {
+            @Override
+            public void rows(List<ProductCsvReader.Row> batch) {
+                rows.add(batch.size());
+            }
+
+            @Override
+            public void error(long lineNumber, String message) {
+            }
+        });
+        return rows.sum();
+    }
+}
@@ -0,0 +1,72 @@
+package kr.co._29cm.homework.service;
+
+import kr.co._29cm.homework.domain.OrderItem;
+import kr.co._29cm.homework.domain.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배송비 규칙 평가 벤치마크
+ * 
+ * 금액 구간 10개, 상품 규칙 1000개인 규칙으로 주문 항목 5개(주문용)와 같은 상품의 배열(견적용)을 평가합니다.
+ * 평가 경로가 객체를 만들지 않는지는 -prof gc의 gc.alloc.rate.norm(0 B/op)으로 확인합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ShippingRulesBenchmark {
+
+    private ShippingRules rules;
+    private List<OrderItem> items;
+    private long[] productNumbers;
+    private int[] quantities;
+
+    @Setup
+    public void setUp() {
+        List<ShippingRuleDefinition.Tier> tiers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tiers.add(new ShippingRuleDefinition.Tier(BigDecimal.valueOf(i * 10000L), BigDecimal.valueOf(5000 - i * 500L)));
+        }
+        List<Long> freeShippingProducts = new ArrayList<>();
+        List<ShippingRuleDefinition.Surcharge> surcharges = new ArrayList<>();
+        for (long productNumber = 100000; productNumber < 101000; productNumber++) {
+            if (productNumber % 2 == 0) {
+                freeShippingProducts.add(productNumber);
+            } else {
+                surcharges.add(new ShippingRuleDefinition.Surcharge(productNumber, BigDecimal.valueOf(3000)));
+            }
+        }
+        rules = ShippingRules.compile(new ShippingRuleDefinition(tiers, freeShippingProducts, surcharges));
+
+        items = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            items.add(new OrderItem(new Product(100001L + i * 7, "상품" + i, BigDecimal.valueOf(10000), 100), 1 + i));
+        }
+        productNumbers = new long[items.size()];
+        quantities = new int[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            productNumbers[i] = items.get(i).getProductNumber();
+            quantities[i] = items.get(i).getQuantity();
+        }
+    }
+
+    @Benchmark
+    public long evaluate() {
+        return rules.shippingFee(4_500_000L, items);
+    }
+
+    @Benchmark
+    public long evaluateArrays() {
+        return rules.shippingFee(4_500_000L, productNumbers, quantities);
+    }
+}
@@ -0,0 +1,48 @@
+package kr.co._29cm.homework.config;
+
+import kr.co._29cm.homework.dto.response.CatalogImportStatusResponse;
+import kr.co._29cm.homework.service.CatalogImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카탈로그 적재 상태 헬스 인디케이터 ("catalog")
+ *
+ * readiness 그룹에 포함되어, 기동 후 카탈로그 적재와 스냅샷 생성이 끝날 때까지 OUT_OF_SERVICE로 응답하므로
+ * 인스턴스가 트래픽에서 제외됩니다. 적재에 실패하면 DOWN입니다.
+ * liveness 그룹에는 포함하지 않으므로 적재가 오래 걸려도 재시작되지 않습니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogHealthIndicator implements HealthIndicator {
+
+    private final CsvDataLoader csvDataLoader;
+    private final CatalogImportService catalogImportService;
+
+    @Override
+    public Health health() {
+        CsvDataLoader.Phase phase = csvDataLoader.getPhase();
+        Health.Builder builder = switch (phase) {
+            case READY -> Health.up();
+            case FAILED -> Health.down();
+            default -> Health.outOfService();
+        };
+        CatalogImportStatusResponse status = catalogImportService.status();
+        builder.withDetail("phase", phase.name())
+                .withDetail("importState", status.getState())
+                .withDetail("rowsRead", status.getRowsRead());
+        if (status.getProgressPercent() != null) {
+            builder.withDetail("progressPercent", Math.round(status.getProgressPercent() * 10) / 10.0);
+        }
+        if (status.getEtaSeconds() != null) {
+            builder.withDetail("etaSeconds", status.getEtaSeconds());
+        }
+        return builder.build();
+    }
+}
@@ -1,74 +1,207 @@
 package kr.co._29cm.homework.config;
 
-import jakarta.annotation.PostConstruct;
-import kr.co._29cm.homework.domain.Product;
-import kr.co._29cm.homework.repository.ProductRepository;
-import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.ClassPathResource;
+import kr.co._29cm.homework.service.CatalogImportService;
+import kr.co._29cm.homework.service.CatalogSnapshotService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
 
+/**
+ * 기동 후 상품 CSV 적재
+ *
+ * catalog.import.location의 CSV가 있으면 기동 완료 후 백그라운드 스레드에서 {@link CatalogImportService}로
+ * 일괄 가져오고, 카탈로그 스냅샷을 미리 만들어 둔 뒤 준비 완료로 표시합니다.
+ * 기동은 카탈로그 크기와 관계없이 끝나며, 적재가 끝날 때까지는 readiness 상태로 트래픽에서 제외됩니다
+ * ({@link CatalogHealthIndicator}).
+ *
+ * 파일 시스템의 파일이면 메모리 맵 병렬 파싱을, 그 밖의 리소스(jar 내부 등)는 스트림 읽기를 사용합니다.
+ * 
+ * catalog.import.snapshot-file을 지정하면 적재된 카탈로그를 바이너리 스냅샷으로 저장해 두고(적재 직후와 정상 종료 시),
+ * 다음 기동에서 원본 CSV의 크기와 수정 시각이 그대로이면 CSV 대신 스냅샷에서 적재합니다.
+ * 스냅샷이 손상되었거나 맞지 않으면 CSV에서 적재합니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class CsvDataLoader {
 
-    private final ProductRepository productRepository;
+    /**
+     * 적재 단계
+     */
+    public enum Phase {
+        /** 기동 완료 전 */
+        PENDING,
+        /** CSV 또는 바이너리 스냅샷에서 가져오는 중 */
+        LOADING,
+        /** 카탈로그 스냅샷 생성 중 */
+        WARMING,
+        /** 트래픽 처리 가능 */
+        READY,
+        /** 가져오기 실패 */
+        FAILED
+    }
+
+    private final CatalogImportService catalogImportService;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final ResourceLoader resourceLoader;
+    private final String location;
+    private final String snapshotFile;
+
+    private volatile Phase phase = Phase.PENDING;
+
+    public CsvDataLoader(CatalogImportService catalogImportService,
+                         CatalogSnapshotService catalogSnapshotService,
+                         ResourceLoader resourceLoader,
+                         @Value("${catalog.import.location:classpath:products.csv}") String location,
+                         @Value("${catalog.import.snapshot-file:}") String snapshotFile) {
+        this.catalogImportService = catalogImportService;
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.resourceLoader = resourceLoader;
+        this.location = location;
+        this.snapshotFile = snapshotFile;
+    }
 
-    @PostConstruct
+    /**
+     * 기동 완료 후 백그라운드에서 적재 시작 (기동을 지연시키지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        phase = Phase.LOADING;
+        Thread thread = new Thread(() -> {
+            try {
+                loadProducts();
+            } catch (Exception e) {
+                phase = Phase.FAILED;
+                log.error("상품 CSV 적재 실패: {}", location, e);
+            }
+        }, "catalog-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 상품 CSV(또는 바이너리 스냅샷)를 가져오고 카탈로그 스냅샷을 만든 뒤 준비 완료로 표시
+     */
     public void loadProducts() {
+        phase = Phase.LOADING;
+        long startNanos = System.nanoTime();
+        Resource resource = resourceLoader.getResource(location);
+        boolean imported = false;
+        if (!resource.exists()) {
+            log.debug("상품 CSV 없음: {}", location);
+        } else if (restoreSnapshot(resource)) {
+            log.info("바이너리 스냅샷에서 카탈로그 적재: {}", snapshotFile);
+        } else if (importResource(resource)) {
+            imported = true;
+        } else {
+            phase = Phase.FAILED;
+            return;
+        }
+
+        phase = Phase.WARMING;
+        catalogSnapshotService.refreshIfStale();
+        phase = Phase.READY;
+        log.info("카탈로그 준비 완료: {}ms", (System.nanoTime() - startNanos) / 1_000_000);
+        if (imported) {
+            saveSnapshot(resource);
+        }
+    }
+
+    /**
+     * 정상 종료 시 바이너리 스냅샷 저장 (가동 중 바뀐 재고와 동기화 결과 포함)
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void saveOnShutdown() {
+        if (phase != Phase.READY) {
+            return;
+        }
+        Resource resource = resourceLoader.getResource(location);
+        if (resource.exists()) {
+            saveSnapshot(resource);
+        }
+    }
+
+    /**
+     * @return 스냅샷에서 적재를 마쳤으면 true
+     */
+    private boolean restoreSnapshot(Resource resource) {
+        if (snapshotFile.isBlank()) {
+            return false;
+        }
+        Optional<String> state = catalogImportService
+                .restoreSnapshot(Path.of(snapshotFile), contentLength(resource), lastModified(resource))
+                .map(response -> response.getState());
+        if (state.isPresent() && !isCompleted(state.get())) {
+            log.warn("바이너리 스냅샷 적재 실패, CSV에서 다시 적재합니다: {}", snapshotFile);
+            return false;
+        }
+        return state.isPresent();
+    }
+
+    private void saveSnapshot(Resource resource) {
+        if (snapshotFile.isBlank()) {
+            return;
+        }
         try {
-            ClassPathResource resource = new ClassPathResource("products.csv");
-            if (!resource.exists()) {
-                return;
-            }
-            try (BufferedReader br = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
-                String line;
-                boolean headerSkipped = false;
-                while ((line = br.readLine()) != null) {
-                    if (!headerSkipped) { // skip header
-                        headerSkipped = true;
-                        continue;
-                    }
-                    // CSV: 상품번호,상품명,판매가격,재고수량
-                    String[] parts = splitCsv(line);
-                    if (parts.length < 4) continue;
-                    Long productNumber = Long.valueOf(parts[0]);
-                    String name = parts[1];
-                    BigDecimal price = new BigDecimal(parts[2]);
-                    Integer stock = Integer.valueOf(parts[3]);
-
-                    productRepository.findByProductNumber(productNumber)
-                            .orElseGet(() -> productRepository.save(new Product(productNumber, name, price, stock)));
-                }
-            }
-        } catch (Exception ignored) {
+            catalogImportService.saveSnapshot(Path.of(snapshotFile), contentLength(resource), lastModified(resource));
+        } catch (IOException | RuntimeException e) {
+            log.warn("바이너리 스냅샷 저장 실패: {}", snapshotFile, e);
         }
     }
 
-    private String[] splitCsv(String line) {
-        // 간단한 CSV 파서: 따옴표 포함 가능성 처리
-        // 정교한 파싱이 필요하면 OpenCSV 등을 사용할 수 있음
-        boolean inQuote = false;
-        StringBuilder token = new StringBuilder();
-        java.util.List<String> tokens = new java.util.ArrayList<>();
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-            if (c == '"') {
-                inQuote = !inQuote;
-            } else if (c == ',' && !inQuote) {
-                tokens.add(token.toString());
-                token.setLength(0);
-            } else {
-                token.append(c);
+    /**
+     * @return 가져오기에 성공했으면 true
+     */
+    private boolean importResource(Resource resource) {
+        try {
+            if (resource.isFile()) {
+                return isCompleted(catalogImportService.importFile(resource.getFile().toPath(), location).getState());
             }
+        } catch (IOException e) {
+            log.debug("상품 CSV를 파일로 열 수 없어 스트림으로 읽습니다: {}", location, e);
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return isCompleted(catalogImportService.importStream(in, contentLength(resource), location).getState());
+        } catch (IOException e) {
+            log.error("상품 CSV를 열 수 없습니다: {}", location, e);
+            return false;
         }
-        tokens.add(token.toString());
-        return tokens.toArray(new String[0]);
     }
-}
 
+    private static boolean isCompleted(String state) {
+        return CatalogImportService.State.COMPLETED.name().equals(state);
+    }
 
+    private static long contentLength(Resource resource) {
+        try {
+            return resource.contentLength();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+}
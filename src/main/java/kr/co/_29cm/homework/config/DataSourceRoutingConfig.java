@@ -0,0 +1,104 @@
+package kr.co._29cm.homework.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+
+/**
+ * 읽기/쓰기 데이터소스 라우팅 설정
+ *
+ * datasource.routing.enabled=true 인 경우에만 활성화되며,
+ * 프라이머리(spring.datasource.*)와 레플리카(datasource.routing.replica.*) 커넥션 풀을 만들고
+ * 읽기 전용 트랜잭션을 레플리카로 보내는 라우팅 데이터소스를 기본 데이터소스로 등록합니다.
+ * 레플리카 반영 위치는 datasource.routing.replica.h2-stand-in=true면 로컬 H2 복제 대역이,
+ * 그 외(실제 레플리카)에는 heartbeat 확인({@link ReplicationHeartbeatProbe})이 기록하며,
+ * 둘 다 프라이머리의 DB 전역 복제 위치({@link ReplicationPosition})를 기준으로 합니다.
+ * 비활성화 상태에서는 기존과 같이 단일 데이터소스를 사용합니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.routing.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${datasource.routing.replica.url}") String url,
+                                              @Value("${datasource.routing.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${datasource.routing.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicationState replicationState() {
+        return new ReplicationState();
+    }
+
+    @Bean
+    public ReplicationPosition replicationPosition(@Qualifier("primaryDataSource") DataSource primary) {
+        return new ReplicationPosition(primary);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicationState replicationState,
+                                 ReplicationPosition replicationPosition) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primary, replica, replicationState, replicationPosition));
+    }
+
+    @Bean
+    public ReadConsistencyFilter readConsistencyFilter() {
+        return new ReadConsistencyFilter();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.routing.replica.h2-stand-in", havingValue = "true")
+    public H2ReplicationStandIn h2ReplicationStandIn(@Qualifier("primaryDataSource") DataSource primary,
+                                                     @Qualifier("replicaDataSource") DataSource replica,
+                                                     ReplicationState replicationState,
+                                                     ReplicationPosition replicationPosition) {
+        return new H2ReplicationStandIn(primary, replica, replicationState, replicationPosition);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.routing.replica.h2-stand-in", havingValue = "false", matchIfMissing = true)
+    public ReplicationHeartbeatProbe replicationHeartbeatProbe(ReplicationPosition replicationPosition,
+                                                               @Qualifier("replicaDataSource") DataSource replica,
+                                                               ReplicationState replicationState,
+                                                               @Value("${datasource.routing.replica.max-lag-ms:5000}") long maxLagMillis) {
+        return new ReplicationHeartbeatProbe(replicationPosition, replica, replicationState, maxLagMillis, Clock.systemUTC());
+    }
+}
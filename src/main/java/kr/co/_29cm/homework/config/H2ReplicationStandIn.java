@@ -0,0 +1,102 @@
+package kr.co._29cm.homework.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 로컬 개발/테스트용 H2 복제 대역
+ *
+ * 실제 복제 대신 이 인스턴스에서 쓰기가 커밋되었으면 DB 전역 복제 위치({@link ReplicationPosition})를 올리고
+ * 프라이머리 H2 전체를 스크립트로 내보내 레플리카 H2에 다시 적재합니다.
+ * 적재한 레플리카의 복제 위치 행을 읽어 레플리카 반영 위치로 기록하며,
+ * 적재하는 동안에는 레플리카를 사용할 수 없는 상태로 두어 읽기가 프라이머리로 가도록 하고,
+ * 이미 레플리카에서 진행 중인 읽기 트랜잭션이 끝난 뒤에 기존 객체를 지웁니다.
+ * 제한 시간 안에 읽기가 끝나지 않으면 이번 동기화를 건너뜁니다.
+ * 단일 인스턴스 로컬 환경용이며, 운영 환경에서는 DB 자체 복제를 사용하고 이 대역은 비활성화합니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+public class H2ReplicationStandIn {
+
+    /** 진행 중인 레플리카 읽기를 기다리는 최대 시간 */
+    private static final long DRAIN_TIMEOUT_MILLIS = 10_000;
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicationState replicationState;
+    private final ReplicationPosition replicationPosition;
+
+    /** 마지막 동기화 때의 쓰기 커밋 수 */
+    private long syncedWrites = -1;
+
+    public H2ReplicationStandIn(DataSource primary, DataSource replica, ReplicationState replicationState,
+                                ReplicationPosition replicationPosition) {
+        this.primary = primary;
+        this.replica = replica;
+        this.replicationState = replicationState;
+        this.replicationPosition = replicationPosition;
+    }
+
+    /**
+     * 프라이머리 변경분이 있으면 레플리카에 반영
+     */
+    @Scheduled(fixedDelayString = "${datasource.routing.replica.sync-delay-ms:1000}")
+    public synchronized void sync() {
+        long writes = replicationState.writes();
+        if (writes == syncedWrites && replicationState.replicaLsn() != ReplicationState.UNAVAILABLE) {
+            return;
+        }
+
+        Path script = null;
+        try {
+            replicationPosition.advance(System.currentTimeMillis());
+            script = Files.createTempFile("replica-sync-", ".sql");
+            String path = script.toAbsolutePath().toString().replace("'", "''");
+            try (Connection connection = primary.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute("SCRIPT TO '" + path + "'");
+            }
+
+            long previousLsn = replicationState.replicaLsn();
+            replicationState.replicaUnavailable();
+            if (!replicationState.awaitReplicaReadersDrained(DRAIN_TIMEOUT_MILLIS)) {
+                replicationState.replicaApplied(previousLsn);
+                log.warn("레플리카 읽기가 끝나지 않아 동기화를 건너뜁니다");
+                return;
+            }
+            try (Connection connection = replica.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute("DROP ALL OBJECTS");
+                statement.execute("RUNSCRIPT FROM '" + path + "'");
+            }
+            long lsn = ReplicationPosition.read(new JdbcTemplate(replica)).lsn();
+            replicationState.replicaApplied(lsn);
+            syncedWrites = writes;
+            log.debug("레플리카 동기화 완료: lsn={}", lsn);
+        } catch (SQLException | IOException | DataAccessException e) {
+            log.error("레플리카 동기화 실패", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (script != null) {
+                try {
+                    Files.deleteIfExists(script);
+                } catch (IOException e) {
+                    log.warn("레플리카 동기화 스크립트 삭제 실패: {}", script, e);
+                }
+            }
+        }
+    }
+}
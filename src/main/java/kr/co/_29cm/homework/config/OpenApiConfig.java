@@ -5,12 +5,20 @@ import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.License;
 import io.swagger.v3.oas.models.servers.Server;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.List;
 
+/**
+ * OpenAPI 문서 기본 정보
+ *
+ * springdoc 런타임 문서 생성이 꺼진 경우(springdoc.api-docs.enabled=false, prod 프로필)에는 등록하지 않습니다.
+ * 이때는 빌드 시 생성해 bootJar에 포함한 /openapi.json을 제공합니다 ({@link OpenApiExporter}).
+ */
 @Configuration
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", havingValue = "true", matchIfMissing = true)
 public class OpenApiConfig {
 
     @Bean
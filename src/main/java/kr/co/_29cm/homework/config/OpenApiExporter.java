@@ -0,0 +1,82 @@
+package kr.co._29cm.homework.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 빌드 시 OpenAPI 문서 내보내기
+ *
+ * openapi.export.file이 지정된 경우에만 활성화되며, 기동 완료 후 springdoc이 만든 문서(springdoc.api-docs.path)를
+ * 받아 파일로 저장하고 애플리케이션을 종료합니다. Gradle generateOpenApiDocs 작업이 이 방식으로 문서를 만들어
+ * bootJar의 정적 리소스(/openapi.json)로 포함하므로, prod 프로필처럼 springdoc을 끈 환경에서도 같은 문서를 제공합니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "openapi.export.file")
+public class OpenApiExporter {
+
+    private final ConfigurableApplicationContext context;
+    private final Path file;
+    private final String apiDocsPath;
+
+    public OpenApiExporter(ConfigurableApplicationContext context,
+                           @Value("${openapi.export.file}") Path file,
+                           @Value("${springdoc.api-docs.path:/v3/api-docs}") String apiDocsPath) {
+        this.context = context;
+        this.file = file;
+        this.apiDocsPath = apiDocsPath;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void exportAndExit() {
+        int exitCode = 0;
+        try {
+            export(context.getEnvironment().getRequiredProperty("local.server.port", Integer.class));
+        } catch (IOException | RuntimeException e) {
+            log.error("OpenAPI 문서 내보내기 실패: {}", file, e);
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+
+    /**
+     * 실행 중인 서버에서 OpenAPI 문서를 받아 파일로 저장
+     *
+     * @param port 서버 포트
+     * @return 저장한 파일
+     * @throws IOException 파일을 쓸 수 없는 경우
+     */
+    public Path export(int port) throws IOException {
+        byte[] document = RestClient.create()
+                .get()
+                .uri("http://localhost:" + port + apiDocsPath)
+                .retrieve()
+                .body(byte[].class);
+        if (document == null || document.length == 0) {
+            throw new IllegalStateException("OpenAPI 문서가 비어 있습니다: " + apiDocsPath);
+        }
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Files.write(file, document);
+        log.info("OpenAPI 문서 내보내기: {} ({} bytes)", file, document.length);
+        return file;
+    }
+}
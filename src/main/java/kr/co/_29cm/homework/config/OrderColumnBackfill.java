@@ -0,0 +1,66 @@
+package kr.co._29cm.homework.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 테이블에 추가된 비정규화 컬럼 채우기 (일회성 백필)
+ *
+ * ddl-auto: update는 NOT NULL 컬럼을 기본값과 함께 추가할 뿐 기존 행의 값을 계산하지 않으므로,
+ * 스키마 갱신 직후(엔티티 매니저 팩토리 생성 후) 기본값으로 남아 있는 기존 행을 원본 컬럼에서 계산해 채웁니다.
+ * 이미 채워진 행은 조건에 걸리지 않으므로 기동할 때마다 실행해도 결과가 같습니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class OrderColumnBackfill {
+
+    /** 주문 항목 소계 (단가 × 수량, 컬럼 추가 전 행은 기본값 0) */
+    static final String BACKFILL_SUBTOTAL_SQL = "UPDATE order_items SET subtotal = unit_price * quantity "
+            + "WHERE subtotal = 0 AND unit_price * quantity <> 0";
+
+    /** 주문 항목 수/총 수량 (컬럼 추가 전 주문은 기본값 0, 항목이 있는 주문만 대상) */
+    static final String BACKFILL_ORDER_COUNTS_SQL = "UPDATE orders o SET "
+            + "item_count = (SELECT COUNT(*) FROM order_items i WHERE i.order_id = o.id), "
+            + "total_quantity = (SELECT COALESCE(SUM(i.quantity), 0) FROM order_items i WHERE i.order_id = o.id) "
+            + "WHERE o.item_count = 0 AND EXISTS (SELECT 1 FROM order_items i WHERE i.order_id = o.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderColumnBackfill(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 기본값으로 남아 있는 기존 행 채우기
+     */
+    @PostConstruct
+    public void backfill() {
+        int subtotals = backfillSubtotals();
+        int orders = backfillOrderCounts();
+        if (subtotals > 0 || orders > 0) {
+            log.info("주문 컬럼 백필: 주문 항목 소계 {}건, 주문 항목 수/총 수량 {}건", subtotals, orders);
+        }
+    }
+
+    /**
+     * @return 소계를 채운 주문 항목 수
+     */
+    int backfillSubtotals() {
+        return jdbcTemplate.update(BACKFILL_SUBTOTAL_SQL);
+    }
+
+    /**
+     * @return 항목 수/총 수량을 채운 주문 수
+     */
+    int backfillOrderCounts() {
+        return jdbcTemplate.update(BACKFILL_ORDER_COUNTS_SQL);
+    }
+}
@@ -0,0 +1,60 @@
+package kr.co._29cm.homework.config;
+
+import java.util.function.LongConsumer;
+
+/**
+ * 요청 단위 읽기 일관성 컨텍스트
+ *
+ * 클라이언트가 이전 쓰기 응답으로 받은 일관성 토큰(복제 위치)을 현재 스레드에 보관하여,
+ * 레플리카가 해당 위치까지 반영하지 못했으면 읽기 전용 트랜잭션도 프라이머리로 보내도록 합니다.
+ * 같은 요청 안에서 쓰기가 커밋되면 요구 위치를 올리고 등록된 콜백으로 새 토큰을 전달합니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+public final class ReadConsistency {
+
+    private static final ThreadLocal<Context> CURRENT = new ThreadLocal<>();
+
+    private ReadConsistency() {
+    }
+
+    /**
+     * 현재 스레드의 읽기 일관성 컨텍스트 시작
+     *
+     * @param requiredLsn 읽기에 요구되는 복제 위치 (없으면 0)
+     * @param onWrite 쓰기 커밋 시 새 토큰을 전달받을 콜백
+     */
+    public static void begin(long requiredLsn, LongConsumer onWrite) {
+        CURRENT.set(new Context(requiredLsn, onWrite));
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    static long requiredLsn() {
+        Context context = CURRENT.get();
+        return context == null ? 0L : context.requiredLsn;
+    }
+
+    static void recordWrite(long lsn) {
+        Context context = CURRENT.get();
+        if (context == null) {
+            return;
+        }
+        context.requiredLsn = Math.max(context.requiredLsn, lsn);
+        context.onWrite.accept(context.requiredLsn);
+    }
+
+    private static final class Context {
+        private long requiredLsn;
+        private final LongConsumer onWrite;
+
+        private Context(long requiredLsn, LongConsumer onWrite) {
+            this.requiredLsn = requiredLsn;
+            this.onWrite = onWrite;
+        }
+    }
+}
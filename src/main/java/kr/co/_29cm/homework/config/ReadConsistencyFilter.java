@@ -0,0 +1,51 @@
+package kr.co._29cm.homework.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 읽기 일관성 토큰 필터
+ *
+ * 요청의 {@value #HEADER} 헤더를 읽어 읽기 일관성 컨텍스트를 시작하고,
+ * 요청 처리 중 쓰기가 커밋되면 같은 헤더로 새 토큰을 응답합니다.
+ * 클라이언트가 쓰기 응답의 토큰을 다음 읽기 요청에 보내면 자신이 쓴 데이터를 읽을 수 있습니다(read-your-writes).
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+public class ReadConsistencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Consistency-Token";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ReadConsistency.begin(parseToken(request.getHeader(HEADER)),
+                lsn -> response.setHeader(HEADER, String.valueOf(lsn)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadConsistency.clear();
+        }
+    }
+
+    /**
+     * 토큰 해석 (없거나 잘못된 값은 위치 요구 없음으로 처리)
+     */
+    static long parseToken(String token) {
+        if (token == null || token.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Math.max(0L, Long.parseLong(token.trim()));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
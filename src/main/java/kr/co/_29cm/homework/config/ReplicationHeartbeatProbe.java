@@ -0,0 +1,78 @@
+package kr.co._29cm.homework.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+
+/**
+ * 실제 레플리카의 복제 위치 확인 (heartbeat)
+ *
+ * 주기마다 프라이머리의 DB 전역 복제 위치({@link ReplicationPosition})를 올리면서 기록 시각을 쓰고,
+ * 레플리카에서 같은 행을 읽어 레플리카 반영 위치로 기록합니다.
+ * 복제 위치 행은 다른 쓰기와 함께 커밋 순서대로 복제되므로 (MySQL 병렬 복제는 replica_preserve_commit_order=ON),
+ * 레플리카에 보이는 위치 이전에 커밋된 쓰기는 모두 반영된 것입니다.
+ * 여러 인스턴스가 함께 위치를 올려도 같은 행을 사용하므로 반영 위치와 토큰의 기준이 같습니다.
+ * 레플리카의 기록 시각이 max-lag-ms보다 오래되었거나 읽을 수 없으면 레플리카를 사용하지 않습니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+public class ReplicationHeartbeatProbe {
+
+    private final ReplicationPosition position;
+    private final JdbcTemplate replica;
+    private final ReplicationState replicationState;
+    private final long maxLagMillis;
+    private final Clock clock;
+
+    public ReplicationHeartbeatProbe(ReplicationPosition position, DataSource replica,
+                                     ReplicationState replicationState, long maxLagMillis, Clock clock) {
+        this.position = position;
+        this.replica = new JdbcTemplate(replica);
+        this.replicationState = replicationState;
+        this.maxLagMillis = maxLagMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 복제 위치를 올리고 레플리카 반영 위치 갱신
+     */
+    @Scheduled(fixedDelayString = "${datasource.routing.replica.probe-delay-ms:500}")
+    public synchronized void probe() {
+        long now = clock.millis();
+        try {
+            position.advance(now);
+        } catch (DataAccessException e) {
+            replicationState.replicaUnavailable();
+            log.warn("레플리카 heartbeat 쓰기 실패: {}", e.getMessage());
+            return;
+        }
+
+        ReplicationPosition.Position applied;
+        try {
+            applied = ReplicationPosition.read(replica);
+        } catch (DataAccessException e) {
+            replicationState.replicaUnavailable();
+            log.warn("레플리카 heartbeat 읽기 실패: {}", e.getMessage());
+            return;
+        }
+        if (applied == null) {
+            // 복제 위치 행이 아직 복제되지 않음
+            replicationState.replicaUnavailable();
+            return;
+        }
+        long lagMillis = now - applied.writtenAt();
+        if (lagMillis > maxLagMillis) {
+            replicationState.replicaUnavailable();
+            log.debug("레플리카 지연이 허용치를 넘어 프라이머리에서 읽습니다: {}ms", lagMillis);
+            return;
+        }
+        replicationState.replicaApplied(applied.lsn());
+    }
+}
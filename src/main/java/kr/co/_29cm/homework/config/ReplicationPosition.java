@@ -0,0 +1,90 @@
+package kr.co._29cm.homework.config;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * DB 전역 복제 위치 (프라이머리의 replication_position 테이블)
+ *
+ * 인스턴스마다 따로 세는 카운터 대신 프라이머리의 한 행에 복제 위치를 두므로,
+ * 여러 인스턴스가 발급한 일관성 토큰과 재시작 전후의 토큰을 같은 기준으로 비교할 수 있습니다.
+ * 위치는 heartbeat 확인({@link ReplicationHeartbeatProbe}) 또는 복제 대역({@link H2ReplicationStandIn})이
+ * {@link #advance(long)}로 올리고, 이 행도 다른 데이터와 함께 커밋 순서대로 복제되므로
+ * 레플리카에서 읽은 위치가 곧 레플리카가 반영한 위치입니다.
+ *
+ * 쓰기 트랜잭션이 커밋된 뒤 읽은 위치에 1을 더한 값을 일관성 토큰으로 사용합니다.
+ * 그 위치는 쓰기 커밋 이후에 올린 위치이므로, 레플리카 위치가 토큰 이상이면 쓰기도 반영된 것입니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+public class ReplicationPosition {
+
+    static final String CREATE_TABLE_SQL = "CREATE TABLE IF NOT EXISTS replication_position ("
+            + "id INT NOT NULL PRIMARY KEY, lsn BIGINT NOT NULL, written_at BIGINT NOT NULL)";
+    private static final String INSERT_SQL =
+            "INSERT INTO replication_position (id, lsn, written_at) VALUES (1, 0, ?)";
+    private static final String ADVANCE_SQL =
+            "UPDATE replication_position SET lsn = lsn + 1, written_at = ? WHERE id = 1";
+    private static final String SELECT_SQL = "SELECT lsn, written_at FROM replication_position WHERE id = 1";
+
+    /**
+     * 복제 위치와 그 위치를 기록한 시각 (epoch ms)
+     */
+    record Position(long lsn, long writtenAt) {}
+
+    private final JdbcTemplate primary;
+
+    private volatile boolean tableReady;
+
+    public ReplicationPosition(DataSource primary) {
+        this.primary = new JdbcTemplate(primary);
+    }
+
+    /**
+     * 프라이머리 복제 위치를 1 올림
+     *
+     * @param now 기록 시각 (레플리카 지연 계산용)
+     */
+    public void advance(long now) {
+        ensureTable(now);
+        primary.update(ADVANCE_SQL, now);
+    }
+
+    /**
+     * 쓰기 트랜잭션 커밋 이후의 일관성 토큰 (커밋 이후에 호출해야 함)
+     */
+    public long tokenAfterCommit() {
+        ensureTable(0L);
+        Position position = read(primary);
+        return (position == null ? 0L : position.lsn()) + 1;
+    }
+
+    /**
+     * @return 복제 위치 (행이 없으면 null)
+     */
+    static Position read(JdbcTemplate jdbcTemplate) {
+        List<Position> rows = jdbcTemplate.query(SELECT_SQL,
+                (rs, rowNum) -> new Position(rs.getLong(1), rs.getLong(2)));
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private void ensureTable(long now) {
+        if (tableReady) {
+            return;
+        }
+        primary.execute(CREATE_TABLE_SQL);
+        if (read(primary) == null) {
+            try {
+                primary.update(INSERT_SQL, now);
+            } catch (DuplicateKeyException e) {
+                // 다른 인스턴스가 먼저 만듦
+            }
+        }
+        tableReady = true;
+    }
+}
@@ -0,0 +1,95 @@
+package kr.co._29cm.homework.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 라우팅 데이터소스
+ *
+ * 읽기 전용 트랜잭션은 레플리카가 요청의 요구 복제 위치까지 반영한 경우에만 레플리카로,
+ * 그 외(쓰기 트랜잭션, 트랜잭션 밖, 레플리카 지연)는 프라이머리로 보냅니다.
+ * 트랜잭션 속성이 정해진 뒤 커넥션을 얻도록 {@code LazyConnectionDataSourceProxy}로 감싸서 사용해야 합니다.
+ * 레플리카로 보낸 읽기 트랜잭션은 끝날 때까지 {@link ReplicationState}에 진행 중으로 기록됩니다.
+ * 쓰기 트랜잭션이 커밋되면 DB 전역 복제 위치({@link ReplicationPosition})로 만든 일관성 토큰을 요청에 전달합니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicationState replicationState;
+    private final ReplicationPosition replicationPosition;
+    /** 트랜잭션당 한 번만 쓰기 추적을 등록하기 위한 리소스 키 */
+    private final Object writeTrackingKey = new Object();
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica, ReplicationState replicationState,
+                                        ReplicationPosition replicationPosition) {
+        this.replicationState = replicationState;
+        this.replicationPosition = replicationPosition;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && TransactionSynchronizationManager.isSynchronizationActive()
+                && replicationState.tryBeginReplicaRead(ReadConsistency.requiredLsn())) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    replicationState.endReplicaRead();
+                }
+            });
+            return Route.REPLICA;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWriteTransaction();
+        }
+        return Route.PRIMARY;
+    }
+
+    /**
+     * 쓰기 트랜잭션 커밋 시 요청에 새 토큰을 전달하고 커밋 수 기록 (트랜잭션당 한 번)
+     *
+     * 토큰을 먼저 읽은 뒤 커밋 수를 올리므로, 복제 대역이 커밋 수 변화를 보고 올린 위치는 토큰 이상입니다.
+     */
+    private void trackWriteTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(writeTrackingKey)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(writeTrackingKey, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    ReadConsistency.recordWrite(replicationPosition.tokenAfterCommit());
+                } catch (DataAccessException e) {
+                    // 쓰기는 이미 커밋되었으므로 요청은 실패시키지 않고 토큰만 생략
+                    log.warn("일관성 토큰을 발급하지 못했습니다: {}", e.getMessage());
+                }
+                replicationState.commitWrite();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(writeTrackingKey);
+            }
+        });
+    }
+}
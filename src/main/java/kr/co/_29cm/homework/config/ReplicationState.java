@@ -0,0 +1,103 @@
+package kr.co._29cm.homework.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 레플리카 복제 위치 추적
+ *
+ * 레플리카가 DB 전역 복제 위치({@link ReplicationPosition})를 어디까지 반영했는지 기록합니다.
+ * 레플리카 반영 위치가 요청이 요구하는 위치(일관성 토큰) 이상일 때만 레플리카에서 읽을 수 있습니다.
+ * 레플리카 반영 위치는 실제 레플리카에서는 {@link ReplicationHeartbeatProbe}가, 로컬 개발/테스트에서는
+ * {@link H2ReplicationStandIn}이 기록합니다.
+ * 
+ * 레플리카로 라우팅된 읽기 트랜잭션 수도 함께 세어, 레플리카를 다시 적재하기 전에 진행 중인 읽기가
+ * 끝나기를 기다릴 수 있게 합니다. 이 인스턴스의 쓰기 커밋 수는 복제 대역이 변경 여부를 판단하는 데만 사용합니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+public class ReplicationState {
+
+    /** 레플리카를 사용할 수 없음 (최초 동기화 전 또는 동기화 중) */
+    static final long UNAVAILABLE = -1L;
+
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong replicaLsn = new AtomicLong(UNAVAILABLE);
+    private final AtomicInteger replicaReaders = new AtomicInteger();
+
+    /**
+     * 이 인스턴스의 쓰기 트랜잭션 커밋 기록
+     */
+    public void commitWrite() {
+        writes.incrementAndGet();
+    }
+
+    /**
+     * @return 이 인스턴스에서 커밋된 쓰기 트랜잭션 수
+     */
+    public long writes() {
+        return writes.get();
+    }
+
+    public long replicaLsn() {
+        return replicaLsn.get();
+    }
+
+    public void replicaApplied(long lsn) {
+        replicaLsn.set(lsn);
+    }
+
+    public void replicaUnavailable() {
+        replicaLsn.set(UNAVAILABLE);
+    }
+
+    /**
+     * 레플리카가 주어진 위치까지 반영했는지 확인
+     *
+     * @param requiredLsn 요구 복제 위치 (0이면 위치 요구 없음)
+     */
+    public boolean replicaCaughtUpTo(long requiredLsn) {
+        long applied = replicaLsn.get();
+        return applied != UNAVAILABLE && applied >= requiredLsn;
+    }
+
+    /**
+     * 레플리카 읽기 시작 (레플리카가 요구 위치까지 반영했을 때만)
+     *
+     * 읽기 수를 먼저 올린 뒤 반영 위치를 확인하므로, {@link #replicaUnavailable()} 이후
+     * {@link #awaitReplicaReadersDrained}가 끝나면 새 레플리카 읽기는 시작되지 않습니다.
+     *
+     * @return 레플리카에서 읽어도 되면 true (이 경우 {@link #endReplicaRead()}를 반드시 호출)
+     */
+    public boolean tryBeginReplicaRead(long requiredLsn) {
+        replicaReaders.incrementAndGet();
+        if (replicaCaughtUpTo(requiredLsn)) {
+            return true;
+        }
+        replicaReaders.decrementAndGet();
+        return false;
+    }
+
+    public void endReplicaRead() {
+        replicaReaders.decrementAndGet();
+    }
+
+    /**
+     * 진행 중인 레플리카 읽기가 모두 끝나기를 대기 ({@link #replicaUnavailable()} 이후 호출)
+     *
+     * @return 제한 시간 안에 모두 끝났으면 true
+     */
+    public boolean awaitReplicaReadersDrained(long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (replicaReaders.get() > 0) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+}
@@ -1,5 +1,6 @@
 package kr.co._29cm.homework.config;
 
+import kr.co._29cm.homework.domain.Money;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -12,12 +13,17 @@ public class ShippingProperties {
     private BigDecimal freeShippingThreshold = BigDecimal.valueOf(50000);
     private BigDecimal fee = BigDecimal.valueOf(2500);
 
+    // 주문마다 변환하지 않도록 최소 단위(0.01) 금액을 함께 보관
+    private long freeShippingThresholdMinorUnits = Money.toMinorUnits(freeShippingThreshold);
+    private long feeMinorUnits = Money.toMinorUnits(fee);
+
     public BigDecimal getFreeShippingThreshold() {
         return freeShippingThreshold;
     }
 
     public void setFreeShippingThreshold(BigDecimal freeShippingThreshold) {
         this.freeShippingThreshold = freeShippingThreshold;
+        this.freeShippingThresholdMinorUnits = Money.toMinorUnits(freeShippingThreshold);
     }
 
     public BigDecimal getFee() {
@@ -26,5 +32,14 @@ public class ShippingProperties {
 
     public void setFee(BigDecimal fee) {
         this.fee = fee;
+        this.feeMinorUnits = Money.toMinorUnits(fee);
+    }
+
+    public long getFreeShippingThresholdMinorUnits() {
+        return freeShippingThresholdMinorUnits;
+    }
+
+    public long getFeeMinorUnits() {
+        return feeMinorUnits;
     }
 }
@@ -0,0 +1,55 @@
+package kr.co._29cm.homework.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.co._29cm.homework.dto.response.CatalogImportStatusResponse;
+import kr.co._29cm.homework.service.CatalogImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 상품 카탈로그 가져오기 REST 컨트롤러
+ * 
+ * 상품 CSV 일괄 가져오기의 진행 상황, 처리량, 행별 오류를 조회합니다.
+ * 
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@RestController
+@RequestMapping("/api/catalog/import")
+@RequiredArgsConstructor
+@Tag(name = "카탈로그", description = "상품 카탈로그 가져오기 API")
+public class CatalogImportController {
+
+    private final CatalogImportService catalogImportService;
+
+    /**
+     * 가져오기 상태 조회
+     */
+    @GetMapping
+    @Operation(
+            summary = "상품 카탈로그 가져오기 상태 조회",
+            description = "진행 중이거나 마지막으로 실행한 상품 CSV 가져오기의 처리 건수, 처리량(rows/s), 행별 오류(최대 1000건)를 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "상태 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = kr.co._29cm.homework.dto.response.ApiResponse.class)
+                    )
+            )
+    })
+    public kr.co._29cm.homework.dto.response.ApiResponse<CatalogImportStatusResponse> getImportStatus() {
+        return kr.co._29cm.homework.dto.response.ApiResponse.success(
+                catalogImportService.status(), "상품 카탈로그 가져오기 상태를 성공적으로 조회했습니다");
+    }
+}
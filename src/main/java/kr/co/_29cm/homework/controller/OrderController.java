@@ -15,7 +15,10 @@ import kr.co._29cm.homework.dto.response.OrderSummaryResponse;
 import kr.co._29cm.homework.dto.response.PageResponse;
 import kr.co._29cm.homework.exception.OrderNotFoundException;
 import kr.co._29cm.homework.mapper.OrderMapper;
+import kr.co._29cm.homework.service.ClosedRangeOrderPageCache;
 import kr.co._29cm.homework.service.IdempotencyService;
+import kr.co._29cm.homework.service.OrderExportService;
+import kr.co._29cm.homework.service.OrderResponseCache;
 import kr.co._29cm.homework.service.OrderService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -23,7 +26,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -48,6 +56,9 @@ public class OrderController {
     private final OrderService orderService;
     private final OrderMapper orderMapper;
     private final IdempotencyService idempotencyService;
+    private final OrderResponseCache orderResponseCache;
+    private final ClosedRangeOrderPageCache closedRangeOrderPageCache;
+    private final OrderExportService orderExportService;
 
     /**
      * 상품 주문 처리
@@ -133,11 +144,66 @@ public class OrderController {
         }
         
         OrderResponse orderResponse = orderMapper.toResponse(order);
+        // 주문은 변경되지 않으므로 커밋된 주문의 상세 응답을 미리 캐시에 적재
+        orderResponseCache.put(orderResponse);
         return kr.co._29cm.homework.dto.response.ApiResponse.success(orderResponse, "주문이 성공적으로 처리되었습니다");
     }
     
+    /**
+     * 기간별 주문 내보내기
+     * 
+     * 기간 내 모든 주문을 항목과 함께 CSV 또는 NDJSON으로 스트리밍합니다.
+     * 응답은 청크 단위로 전송되며 페이징/건수 조회를 하지 않습니다.
+     */
+    @GetMapping("/export")
+    @Operation(
+            summary = "기간별 주문 내보내기",
+            description = "기간 내 모든 주문과 주문 항목을 CSV(항목당 한 줄) 또는 NDJSON(주문당 한 줄)으로 스트리밍합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "내보내기 성공",
+                    content = {
+                            @Content(mediaType = "text/csv"),
+                            @Content(mediaType = "application/x-ndjson")
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (지원하지 않는 형식, 잘못된 기간 등)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = kr.co._29cm.homework.dto.response.ApiResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @Parameter(description = "조회 시작일 (yyyy-MM-ddTHH:mm:ss)", example = "2025-01-01T00:00:00", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            
+            @Parameter(description = "조회 종료일 (yyyy-MM-ddTHH:mm:ss)", example = "2025-01-31T23:59:59", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            
+            @Parameter(description = "내보내기 형식 (csv, ndjson)", example = "csv")
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        OrderExportService.Format exportFormat = OrderExportService.Format.from(format);
+        orderExportService.validateRange(startDate, endDate);
+        
+        String filename = "orders-" + startDate.toLocalDate() + "-" + endDate.toLocalDate() + "." + exportFormat.extension();
+        StreamingResponseBody body = out -> orderExportService.export(startDate, endDate, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+    
     /**
      * 주문 상세 조회
+     * 
+     * 오프힙 캐시에 직렬화된 응답이 있으면 조회/직렬화 없이 그대로 응답하고,
+     * 없으면 조회 후 캐시에 적재합니다.
      */
     @GetMapping("/{orderNumber}")
     @Operation(
@@ -162,15 +228,17 @@ public class OrderController {
                     )
             )
     })
-    public kr.co._29cm.homework.dto.response.ApiResponse<OrderResponse> getOrder(
+    public ResponseEntity<byte[]> getOrder(
             @Parameter(description = "주문번호", example = "550e8400-e29b-41d4-a716-446655440000")
             @PathVariable String orderNumber
     ) {
-        Order order = orderService.findOrderByOrderNumber(orderNumber)
-                .orElseThrow(() -> new OrderNotFoundException(orderNumber));
+        byte[] body = orderResponseCache.get(orderNumber)
+                .orElseGet(() -> orderResponseCache.put(orderService.findOrderResponse(orderNumber)
+                        .orElseThrow(() -> new OrderNotFoundException(orderNumber))));
         
-        OrderResponse orderResponse = orderMapper.toResponse(order);
-        return kr.co._29cm.homework.dto.response.ApiResponse.success(orderResponse, "주문 정보를 성공적으로 조회했습니다");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
     
     /**
@@ -179,7 +247,8 @@ public class OrderController {
     @GetMapping
     @Operation(
             summary = "주문 목록 조회 (페이징)",
-            description = "주문 목록을 페이징으로 조회합니다. 최신 주문부터 정렬됩니다."
+            description = "주문 목록을 페이징으로 조회합니다. 최신 주문부터 정렬됩니다. " +
+                         "종료일이 지난 기간 조회 결과는 캐시된 응답으로 제공됩니다."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -191,7 +260,7 @@ public class OrderController {
                     )
             )
     })
-    public kr.co._29cm.homework.dto.response.ApiResponse<PageResponse<OrderSummaryResponse>> getOrders(
+    public ResponseEntity<?> getOrders(
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             
@@ -208,17 +277,26 @@ public class OrderController {
     ) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "orderedAt"));
         
-        Page<Order> orderPage;
+        Page<OrderSummaryResponse> responsePage;
         if (startDate != null && endDate != null) {
-            orderPage = orderService.findOrdersByDateRange(startDate, endDate, pageable);
+            if (closedRangeOrderPageCache.isClosed(endDate)) {
+                // 종료된 기간은 결과가 바뀌지 않으므로 캐시된 응답 사용
+                byte[] body = closedRangeOrderPageCache.get(startDate, endDate, page, size)
+                        .orElseGet(() -> closedRangeOrderPageCache.put(startDate, endDate, page, size,
+                                PageResponse.from(orderService.findOrderSummariesByDateRange(startDate, endDate, pageable))));
+                return ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body);
+            }
+            responsePage = orderService.findOrderSummariesByDateRange(startDate, endDate, pageable);
         } else {
-            orderPage = orderService.findOrders(pageable);
+            responsePage = orderService.findOrderSummaries(pageable);
         }
         
-        Page<OrderSummaryResponse> responsePage = orderPage.map(orderMapper::toSummaryResponse);
         PageResponse<OrderSummaryResponse> pageResponse = PageResponse.from(responsePage);
         
-        return kr.co._29cm.homework.dto.response.ApiResponse.success(pageResponse, "주문 목록을 성공적으로 조회했습니다");
+        return ResponseEntity.ok(kr.co._29cm.homework.dto.response.ApiResponse.success(
+                pageResponse, ClosedRangeOrderPageCache.ORDER_LIST_MESSAGE));
     }
 }
 
@@ -7,25 +7,44 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import kr.co._29cm.homework.domain.Product;
+import jakarta.validation.Valid;
+import kr.co._29cm.homework.dto.request.ProductBatchRequest;
 import kr.co._29cm.homework.dto.response.PageResponse;
+import kr.co._29cm.homework.dto.response.ProductBatchResponse;
 import kr.co._29cm.homework.dto.response.ProductResponse;
 import kr.co._29cm.homework.dto.response.ShippingPolicyResponse;
-import kr.co._29cm.homework.mapper.ProductMapper;
+import kr.co._29cm.homework.dto.response.TrendingProductResponse;
+import kr.co._29cm.homework.exception.InvalidRequestException;
 import kr.co._29cm.homework.repository.ProductRepository;
+import kr.co._29cm.homework.service.CatalogSnapshotService;
+import kr.co._29cm.homework.service.CatalogVersion;
+import kr.co._29cm.homework.service.ProductLookupService;
 import kr.co._29cm.homework.service.ShippingCalculator;
+import kr.co._29cm.homework.service.StockStreamService;
+import kr.co._29cm.homework.service.TrendingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/products")
@@ -35,7 +54,11 @@ public class ProductController {
 
     private final ProductRepository productRepository;
     private final ShippingCalculator shippingCalculator;
-    private final ProductMapper productMapper;
+    private final CatalogVersion catalogVersion;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final StockStreamService stockStreamService;
+    private final ProductLookupService productLookupService;
+    private final TrendingService trendingService;
 
     @GetMapping
     @Operation(
@@ -50,6 +73,10 @@ public class ProductController {
                             mediaType = "application/json",
                             schema = @Schema(implementation = kr.co._29cm.homework.dto.response.ApiResponse.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "카탈로그 변경 없음 (If-None-Match 일치)"
             )
     })
     public kr.co._29cm.homework.dto.response.ApiResponse<PageResponse<ProductResponse>> list(
@@ -69,22 +96,29 @@ public class ProductController {
             @RequestParam(required = false) String search,
             
             @Parameter(description = "재고 있는 상품만 조회", example = "false")
-            @RequestParam(defaultValue = "false") boolean availableOnly
+            @RequestParam(defaultValue = "false") boolean availableOnly,
+            
+            WebRequest webRequest
     ) {
+        // 카탈로그 버전이 그대로면 조회/직렬화 없이 304 응답
+        if (webRequest.checkNotModified(catalogVersion.etag())) {
+            return null;
+        }
+        
         Sort.Direction sortDirection = "desc".equalsIgnoreCase(direction) ? Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
         
-        Page<Product> productPage;
+        // 엔티티를 거치지 않고 응답 DTO로 바로 프로젝션하여 조회
+        Page<ProductResponse> responsePages;
         
         if (availableOnly) {
-            productPage = productRepository.findAvailableProducts(pageable);
+            responsePages = productRepository.findAvailableProductResponses(pageable);
         } else if (search != null && !search.trim().isEmpty()) {
-            productPage = productRepository.findByNameContainingIgnoreCase(search.trim(), pageable);
+            responsePages = productRepository.findProductResponsesByName(search.trim(), pageable);
         } else {
-            productPage = productRepository.findAll(pageable);
+            responsePages = productRepository.findProductResponses(pageable);
         }
         
-        Page<ProductResponse> responsePages = productPage.map(productMapper::toResponse);
         PageResponse<ProductResponse> pageResponse = PageResponse.from(responsePages);
         
         return kr.co._29cm.homework.dto.response.ApiResponse.success(pageResponse, "상품 목록을 성공적으로 조회했습니다");
@@ -93,7 +127,8 @@ public class ProductController {
     @GetMapping("/all")
     @Operation(
             summary = "전체 상품 목록 조회 (기존 API)",
-            description = "등록된 모든 상품의 목록을 한번에 조회합니다. (하위 호환성을 위해 유지)"
+            description = "등록된 모든 상품의 목록을 한번에 조회합니다. (하위 호환성을 위해 유지) " +
+                         "Accept-Encoding: gzip 요청 시 미리 압축된 스냅샷을 응답합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -103,12 +138,33 @@ public class ProductController {
                             mediaType = "application/json",
                             schema = @Schema(implementation = kr.co._29cm.homework.dto.response.ApiResponse.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "카탈로그 변경 없음 (If-None-Match 일치)"
             )
     })
-    public kr.co._29cm.homework.dto.response.ApiResponse<List<ProductResponse>> listAll() {
-        List<Product> products = productRepository.findAll();
-        List<ProductResponse> productResponses = productMapper.toResponseList(products);
-        return kr.co._29cm.homework.dto.response.ApiResponse.success(productResponses, "상품 목록을 성공적으로 조회했습니다");
+    public ResponseEntity<?> listAll(
+            WebRequest webRequest,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        // 마지막 스냅샷이 있으면 그 스냅샷 버전의 ETag로 미리 직렬화/압축된 바이트를 그대로 응답
+        // (주문으로 카탈로그 버전이 앞서도 다음 재생성까지 요청 경로에서 조회/직렬화하지 않음)
+        Optional<CatalogSnapshotService.Snapshot> snapshot = catalogSnapshotService.latest();
+        if (snapshot.isPresent()) {
+            if (webRequest.checkNotModified(snapshot.get().etag(acceptEncoding))) {
+                return null;
+            }
+            return snapshot.get().toResponseEntity(acceptEncoding);
+        }
+        
+        if (webRequest.checkNotModified(catalogVersion.etag())) {
+            return null;
+        }
+        
+        List<ProductResponse> productResponses = productRepository.findAllProductResponses();
+        return ResponseEntity.ok(kr.co._29cm.homework.dto.response.ApiResponse.success(
+                productResponses, CatalogSnapshotService.LIST_ALL_MESSAGE));
     }
 
     @GetMapping("/shipping-policy")
@@ -124,9 +180,17 @@ public class ProductController {
                             mediaType = "application/json",
                             schema = @Schema(implementation = kr.co._29cm.homework.dto.response.ApiResponse.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "카탈로그 변경 없음 (If-None-Match 일치)"
             )
     })
-    public kr.co._29cm.homework.dto.response.ApiResponse<ShippingPolicyResponse> getShippingPolicy() {
+    public kr.co._29cm.homework.dto.response.ApiResponse<ShippingPolicyResponse> getShippingPolicy(WebRequest webRequest) {
+        if (webRequest.checkNotModified(catalogVersion.etag())) {
+            return null;
+        }
+        
         ShippingCalculator.ShippingPolicy policy = shippingCalculator.getShippingPolicy();
         
         ShippingPolicyResponse response = ShippingPolicyResponse.builder()
@@ -137,6 +201,125 @@ public class ProductController {
         
         return kr.co._29cm.homework.dto.response.ApiResponse.success(response, "배송비 정책을 성공적으로 조회했습니다");
     }
-}
 
+    @GetMapping("/batch")
+    @Operation(
+            summary = "상품 다건 조회",
+            description = "쉼표로 구분한 상품번호 목록으로 여러 상품을 한 번에 조회합니다. (최대 5000개) " +
+                         "결과는 요청 순서를 따르며, 찾지 못한 상품번호는 notFound로 반환됩니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "상품 다건 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = kr.co._29cm.homework.dto.response.ApiResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "상품번호 목록이 비어있거나 최대 개수 초과",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = kr.co._29cm.homework.dto.response.ApiResponse.class)
+                    )
+            )
+    })
+    public kr.co._29cm.homework.dto.response.ApiResponse<ProductBatchResponse> batch(
+            @Parameter(description = "상품번호 목록 (쉼표 구분)", example = "768848,748943")
+            @RequestParam List<Long> numbers
+    ) {
+        ProductBatchResponse response = productLookupService.findByProductNumbers(numbers);
+        return kr.co._29cm.homework.dto.response.ApiResponse.success(response, "상품 목록을 성공적으로 조회했습니다");
+    }
+
+    @PostMapping("/batch")
+    @Operation(
+            summary = "상품 다건 조회 (대량)",
+            description = "URL 길이 제한을 넘는 대량 조회를 위해 요청 본문으로 상품번호 목록을 받습니다. (최대 5000개)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "상품 다건 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = kr.co._29cm.homework.dto.response.ApiResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "상품번호 목록이 비어있거나 최대 개수 초과",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = kr.co._29cm.homework.dto.response.ApiResponse.class)
+                    )
+            )
+    })
+    public kr.co._29cm.homework.dto.response.ApiResponse<ProductBatchResponse> batchByBody(
+            @Valid @RequestBody ProductBatchRequest request
+    ) {
+        ProductBatchResponse response = productLookupService.findByProductNumbers(request.getProductNumbers());
+        return kr.co._29cm.homework.dto.response.ApiResponse.success(response, "상품 목록을 성공적으로 조회했습니다");
+    }
+
+    @GetMapping("/trending")
+    @Operation(
+            summary = "실시간 인기 상품 조회",
+            description = "최근 기간(window) 동안 판매 수량이 많은 상품을 조회합니다. " +
+                         "판매 수량은 커밋된 주문으로 집계한 추정치이며 실제 수량보다 작지 않습니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "인기 상품 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = kr.co._29cm.homework.dto.response.ApiResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (허용 범위를 벗어난 기간 또는 개수)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = kr.co._29cm.homework.dto.response.ApiResponse.class)
+                    )
+            )
+    })
+    public kr.co._29cm.homework.dto.response.ApiResponse<List<TrendingProductResponse>> trending(
+            @Parameter(description = "조회 기간 (예: 10m, 1h)", example = "1h")
+            @RequestParam(defaultValue = "1h") String window,
+            
+            @Parameter(description = "조회 개수 (최대 " + TrendingService.MAX_LIMIT + ")", example = "10")
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        Duration duration;
+        try {
+            duration = DurationStyle.detectAndParse(window);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("조회 기간 형식이 올바르지 않습니다: " + window);
+        }
+        
+        return kr.co._29cm.homework.dto.response.ApiResponse.success(
+                trendingService.trendingProducts(duration, limit), "인기 상품을 성공적으로 조회했습니다");
+    }
 
+    @GetMapping(value = "/stock-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "재고 변경 스트림 구독 (SSE)",
+            description = "주문 커밋으로 변경된 재고를 Server-Sent Events로 전달합니다. " +
+                         "'stock' 이벤트의 데이터는 {상품번호: 재고수량} 형태이며, 짧은 주기 동안의 변경은 상품별 최신값으로 합쳐집니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "재고 스트림 구독 성공",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+            )
+    })
+    public SseEmitter stockStream() {
+        return stockStreamService.subscribe();
+    }
+}
@@ -0,0 +1,68 @@
+package kr.co._29cm.homework.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import kr.co._29cm.homework.dto.request.QuoteRequest;
+import kr.co._29cm.homework.dto.response.QuoteResponse;
+import kr.co._29cm.homework.service.QuoteService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 견적 REST 컨트롤러
+ * 
+ * 주문을 생성하지 않고 장바구니 금액(소계, 배송비, 지불금액)을 계산합니다.
+ * 상품 행 잠금이나 재고 차감 없이 처리되므로 장바구니 화면에서 자유롭게 호출할 수 있습니다.
+ * 
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@RestController
+@RequestMapping("/api/quotes")
+@RequiredArgsConstructor
+@Tag(name = "견적", description = "장바구니 견적 API")
+public class QuoteController {
+
+    private final QuoteService quoteService;
+
+    /**
+     * 장바구니 견적 계산
+     */
+    @PostMapping
+    @Operation(
+            summary = "장바구니 견적",
+            description = "여러 장바구니의 항목 소계, 배송비, 지불금액을 주문과 같은 규칙으로 계산합니다. (최대 100개) " +
+                         "재고는 차감하지 않으며, 재고 충분 여부는 참고용입니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "견적 계산 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = kr.co._29cm.homework.dto.response.ApiResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (빈 장바구니, 잘못된 수량 등)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = kr.co._29cm.homework.dto.response.ApiResponse.class)
+                    )
+            )
+    })
+    public kr.co._29cm.homework.dto.response.ApiResponse<QuoteResponse> quote(@Valid @RequestBody QuoteRequest request) {
+        QuoteResponse response = quoteService.quote(request);
+        return kr.co._29cm.homework.dto.response.ApiResponse.success(response, "견적을 성공적으로 계산했습니다");
+    }
+}
@@ -0,0 +1,84 @@
+package kr.co._29cm.homework.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import kr.co._29cm.homework.dto.response.SalesReportResponse;
+import kr.co._29cm.homework.service.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리포트 REST 컨트롤러
+ * 
+ * 주문 시점에 누적된 판매 집계를 조회합니다.
+ * order_items를 집계하지 않으므로 주문 처리와 경합하지 않습니다.
+ * 
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+@Tag(name = "리포트", description = "판매 집계 리포트 API")
+public class ReportController {
+
+    private final SalesRollupService salesRollupService;
+
+    /**
+     * 기간별 판매 리포트 조회
+     */
+    @GetMapping("/sales")
+    @Operation(
+            summary = "판매 리포트 조회",
+            description = "기간 내 판매 수량, 매출(배송비 제외), 주문 수를 시간 또는 일 단위로 조회합니다. " +
+                         "상품번호를 지정하지 않으면 전체 상품 합계를 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "리포트 조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = kr.co._29cm.homework.dto.response.ApiResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 요청 (지원하지 않는 집계 단위, 잘못된 기간 등)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = kr.co._29cm.homework.dto.response.ApiResponse.class)
+                    )
+            )
+    })
+    public kr.co._29cm.homework.dto.response.ApiResponse<SalesReportResponse> getSalesReport(
+            @Parameter(description = "조회 시작일시 (포함, yyyy-MM-ddTHH:mm:ss)", example = "2025-01-19T00:00:00", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            
+            @Parameter(description = "조회 종료일시 (미포함, yyyy-MM-ddTHH:mm:ss)", example = "2025-01-20T00:00:00", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            
+            @Parameter(description = "집계 단위 (hour, day)", example = "hour")
+            @RequestParam(defaultValue = "hour") String granularity,
+            
+            @Parameter(description = "상품번호 (생략 시 전체 상품 합계)", example = "768848")
+            @RequestParam(required = false) Long productNumber
+    ) {
+        SalesReportResponse report = salesRollupService.report(
+                from, to, SalesRollupService.Granularity.from(granularity), productNumber);
+        
+        return kr.co._29cm.homework.dto.response.ApiResponse.success(report, "판매 리포트를 성공적으로 조회했습니다");
+    }
+}
@@ -1,9 +1,10 @@
 package kr.co._29cm.homework.domain;
 
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Embeddable;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
-import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
@@ -14,78 +15,108 @@ import java.math.RoundingMode;
  * 
  * 금액의 정밀도를 보장하고 모든 금액 연산을 캡슐화합니다.
  * 정밀도 정책: precision=19, scale=2 (소수점 둘째 자리까지)
- * 모든 금액 연산 후 HALF_UP 라운딩을 적용하여 일관성을 보장합니다.
+ * 
+ * 금액은 최소 단위(0.01) 정수(long)로 보관하므로 더하기/빼기/정수 곱하기는
+ * BigDecimal을 생성하지 않으며, 범위를 넘으면 {@link ArithmeticException}이 발생합니다.
+ * 나누기와 소수 곱하기는 HALF_UP 라운딩을 적용합니다.
  * 
  * @author 29CM Homework
  * @version 1.0
  * @since 2025-01-19
  */
 @Embeddable
-@Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EqualsAndHashCode
 public class Money {
 
-    private static final int PRECISION = 19;
     private static final int SCALE = 2;
+    private static final long MINOR_PER_UNIT = 100;
     private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP;
 
-    private BigDecimal amount;
+    /**
+     * 최소 단위(0.01) 금액 (DB에는 DECIMAL(19, 2)로 저장)
+     */
+    @Convert(converter = MoneyAmountConverter.class)
+    @Column(name = "amount", precision = 19, scale = SCALE)
+    private long amount;
 
-    private Money(BigDecimal amount) {
-        if (amount == null) {
-            throw new IllegalArgumentException("금액은 null일 수 없습니다.");
-        }
-        this.amount = amount.setScale(SCALE, ROUNDING_MODE);
+    private Money(long minorUnits) {
+        this.amount = minorUnits;
     }
 
     /**
      * 정수 금액으로 Money 객체 생성
      */
     public static Money of(long amount) {
-        return new Money(BigDecimal.valueOf(amount));
+        return new Money(Math.multiplyExact(amount, MINOR_PER_UNIT));
     }
 
     /**
      * BigDecimal 금액으로 Money 객체 생성
      */
     public static Money of(BigDecimal amount) {
-        return new Money(amount);
+        if (amount == null) {
+            throw new IllegalArgumentException("금액은 null일 수 없습니다.");
+        }
+        return new Money(toMinorUnits(amount));
     }
 
     /**
      * 문자열 금액으로 Money 객체 생성
      */
     public static Money of(String amount) {
-        return new Money(new BigDecimal(amount));
+        return of(new BigDecimal(amount));
+    }
+
+    /**
+     * 최소 단위(0.01) 금액으로 Money 객체 생성
+     */
+    public static Money ofMinorUnits(long minorUnits) {
+        return new Money(minorUnits);
+    }
+
+    /**
+     * BigDecimal 금액을 최소 단위(0.01) 정수로 변환 (HALF_UP 라운딩)
+     *
+     * @throws ArithmeticException long 범위를 넘는 경우
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(SCALE, ROUNDING_MODE).unscaledValue().longValueExact();
+    }
+
+    /**
+     * 최소 단위(0.01) 정수를 BigDecimal 금액으로 변환 (scale=2)
+     */
+    public static BigDecimal fromMinorUnits(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
     }
 
     /**
      * Money 객체 더하기
      */
     public Money add(Money other) {
-        return new Money(this.amount.add(other.amount));
+        return new Money(Math.addExact(this.amount, other.amount));
     }
 
     /**
      * Money 객체 빼기
      */
     public Money subtract(Money other) {
-        return new Money(this.amount.subtract(other.amount));
+        return new Money(Math.subtractExact(this.amount, other.amount));
     }
 
     /**
      * 정수로 곱하기
      */
     public Money multiply(int multiplier) {
-        return new Money(this.amount.multiply(BigDecimal.valueOf(multiplier)));
+        return new Money(Math.multiplyExact(this.amount, multiplier));
     }
 
     /**
      * BigDecimal로 곱하기
      */
     public Money multiply(BigDecimal multiplier) {
-        return new Money(this.amount.multiply(multiplier));
+        return new Money(toMinorUnits(getAmount().multiply(multiplier)));
     }
 
     /**
@@ -95,7 +126,13 @@ public class Money {
         if (divisor == 0) {
             throw new IllegalArgumentException("0으로 나눌 수 없습니다.");
         }
-        return new Money(this.amount.divide(BigDecimal.valueOf(divisor), SCALE, ROUNDING_MODE));
+        long quotient = this.amount / divisor;
+        long remainder = this.amount % divisor;
+        // HALF_UP: 나머지가 제수의 절반 이상이면 0에서 먼 쪽으로 올림
+        if (Math.abs(remainder) * 2 >= Math.abs((long) divisor)) {
+            quotient += Long.signum(this.amount) * Integer.signum(divisor);
+        }
+        return new Money(quotient);
     }
 
     /**
@@ -105,14 +142,14 @@ public class Money {
         if (divisor.compareTo(BigDecimal.ZERO) == 0) {
             throw new IllegalArgumentException("0으로 나눌 수 없습니다.");
         }
-        return new Money(this.amount.divide(divisor, SCALE, ROUNDING_MODE));
+        return new Money(toMinorUnits(getAmount().divide(divisor, SCALE, ROUNDING_MODE)));
     }
 
     /**
      * 다른 Money와 비교 (크다면 양수, 작다면 음수, 같다면 0)
      */
     public int compareTo(Money other) {
-        return this.amount.compareTo(other.amount);
+        return Long.compare(this.amount, other.amount);
     }
 
     /**
@@ -154,35 +191,42 @@ public class Money {
      * 0원인지 확인
      */
     public boolean isZero() {
-        return this.amount.compareTo(BigDecimal.ZERO) == 0;
+        return this.amount == 0;
     }
 
     /**
      * 양수인지 확인
      */
     public boolean isPositive() {
-        return this.amount.compareTo(BigDecimal.ZERO) > 0;
+        return this.amount > 0;
     }
 
     /**
      * 음수인지 확인
      */
     public boolean isNegative() {
-        return this.amount.compareTo(BigDecimal.ZERO) < 0;
+        return this.amount < 0;
     }
 
     /**
-     * BigDecimal 형태로 반환 (JPA 매핑용)
+     * BigDecimal 형태로 반환 (scale=2, 응답/외부 연동용)
      */
     public BigDecimal getAmount() {
+        return fromMinorUnits(amount);
+    }
+
+    /**
+     * 최소 단위(0.01) 정수 형태로 반환
+     */
+    public long getMinorUnits() {
         return amount;
     }
 
     /**
-     * 정수 형태로 반환 (원 단위)
+     * 정수 형태로 반환 (원 단위, 소수점 이하 버림)
      */
     public long getAmountAsLong() {
-        return amount.longValue();
+        return amount / MINOR_PER_UNIT;
     }
 
     /**
@@ -190,24 +234,13 @@ public class Money {
      */
     @Override
     public String toString() {
-        return amount.toString();
+        return getAmount().toString();
     }
 
     /**
      * 통화 형태로 포맷된 문자열 반환 (예: "10,000원")
      */
     public String toFormattedString() {
-        return String.format("%,d원", amount.longValue());
-    }
-
-    /**
-     * 정밀도 검증 (precision=19, scale=2)
-     */
-    private void validatePrecision() {
-        if (amount.precision() > PRECISION) {
-            throw new IllegalArgumentException(
-                String.format("금액의 정밀도가 초과되었습니다. 최대 정밀도: %d, 현재 정밀도: %d", 
-                    PRECISION, amount.precision()));
-        }
+        return String.format("%,d원", getAmountAsLong());
     }
 }
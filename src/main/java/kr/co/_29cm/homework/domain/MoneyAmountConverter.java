@@ -0,0 +1,29 @@
+package kr.co._29cm.homework.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * 최소 단위(0.01) 정수 금액과 DECIMAL(19, 2) 컬럼 간 변환기
+ * 
+ * 엔티티는 금액을 long으로 다루고, 데이터베이스 컬럼은 기존과 같은 소수 금액으로 유지합니다.
+ * 
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Converter
+public class MoneyAmountConverter implements AttributeConverter<Long, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Long minorUnits) {
+        return minorUnits == null ? null : Money.fromMinorUnits(minorUnits);
+    }
+
+    @Override
+    public Long convertToEntityAttribute(BigDecimal amount) {
+        return amount == null ? null : Money.toMinorUnits(amount);
+    }
+}
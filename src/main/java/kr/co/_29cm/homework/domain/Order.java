@@ -4,14 +4,27 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 주문 엔티티
+ * 
+ * 기간 조회와 최신순 목록 조회가 전체 테이블이 아닌 해당 기간의 행만 읽도록
+ * 주문일시(ordered_at) 인덱스를 둡니다.
+ * 
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders",
+       indexes = @Index(name = "idx_orders_ordered_at", columnList = "ordered_at"))
+@EntityListeners(OrderSalesListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order {
@@ -32,6 +45,22 @@ public class Order {
     @Column(name = "payment_amount", nullable = false, precision = 19, scale = 2)
     private BigDecimal paymentAmount;
 
+    /**
+     * 주문 항목 수 (목록 조회 시 order_items 조회를 피하기 위해 주문 시점에 저장)
+     *
+     * 컬럼이 없던 기존 주문은 기본값 0으로 추가된 뒤 기동 시 order_items에서 채워집니다 (OrderColumnBackfill).
+     */
+    @ColumnDefault("0")
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    /**
+     * 주문 총 수량 (주문 항목 수량 합계)
+     */
+    @ColumnDefault("0")
+    @Column(name = "total_quantity", nullable = false)
+    private int totalQuantity;
+
     public Order(String orderNumber, LocalDateTime orderedAt) {
         this.orderNumber = orderNumber;
         this.orderedAt = orderedAt;
@@ -41,6 +70,8 @@ public class Order {
     public void addItem(OrderItem item) {
         this.items.add(item);
         item.setOrder(this);
+        this.itemCount = this.items.size();
+        this.totalQuantity += item.getQuantity();
     }
 
     public void setPaymentAmount(BigDecimal paymentAmount) {
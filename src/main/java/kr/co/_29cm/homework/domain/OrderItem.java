@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 
@@ -18,7 +19,8 @@ import java.math.BigDecimal;
  * @since 2025-01-19
  */
 @Entity
-@Table(name = "order_items")
+@Table(name = "order_items",
+       indexes = @Index(name = "idx_order_items_order_id", columnList = "order_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OrderItem {
@@ -47,6 +49,16 @@ public class OrderItem {
     @Column(name = "quantity", nullable = false)
     private Integer quantity;
 
+    /**
+     * 소계 (단가 × 수량, 최소 단위 금액으로 주문 시점에 계산하여 저장)
+     *
+     * 컬럼이 없던 기존 행은 기본값 0으로 추가된 뒤 기동 시 채워집니다 (OrderColumnBackfill).
+     */
+    @Convert(converter = MoneyAmountConverter.class)
+    @ColumnDefault("0")
+    @Column(name = "subtotal", nullable = false, precision = 19, scale = 2)
+    private long subtotalMinorUnits;
+
     /**
      * 주문 아이템 생성자
      * 
@@ -62,6 +74,7 @@ public class OrderItem {
         this.productName = product.getName();
         this.unitPrice = product.getPrice();
         this.quantity = quantity;
+        this.subtotalMinorUnits = Money.of(unitPrice).multiply(quantity).getMinorUnits();
     }
 
     /**
@@ -74,15 +87,14 @@ public class OrderItem {
     }
 
     /**
-     * 주문 아이템 총 가격 계산
+     * 주문 아이템 총 가격 조회
      * 
-     * 단가 × 수량을 계산하여 총 가격을 반환합니다.
-     * HALF_UP 라운딩을 적용하여 소수점 둘째 자리까지 반환합니다.
+     * 주문 시점에 저장한 소계(단가 × 수량)를 소수점 둘째 자리 금액으로 반환합니다.
      * 
-     * @return 주문 아이템 총 가격 (HALF_UP 라운딩 적용)
+     * @return 주문 아이템 총 가격
      */
     public BigDecimal getTotalPrice() {
-        return unitPrice.multiply(BigDecimal.valueOf(quantity)).setScale(2, java.math.RoundingMode.HALF_UP);
+        return Money.fromMinorUnits(subtotalMinorUnits);
     }
 }
 
@@ -0,0 +1,35 @@
+package kr.co._29cm.homework.domain;
+
+import jakarta.persistence.PostPersist;
+import kr.co._29cm.homework.service.SalesRollupService;
+import kr.co._29cm.homework.service.TrendingService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 생성 감지 엔티티 리스너
+ *
+ * 주문이 저장되면 커밋 이후 판매 집계 카운터와 인기 상품 집계에 반영합니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Component
+public class OrderSalesListener {
+
+    private final ObjectProvider<SalesRollupService> salesRollupService;
+    private final ObjectProvider<TrendingService> trendingService;
+
+    public OrderSalesListener(ObjectProvider<SalesRollupService> salesRollupService,
+                              ObjectProvider<TrendingService> trendingService) {
+        this.salesRollupService = salesRollupService;
+        this.trendingService = trendingService;
+    }
+
+    @PostPersist
+    void onOrderPlaced(Order order) {
+        salesRollupService.ifAvailable(rollup -> rollup.recordAfterCommit(order));
+        trendingService.ifAvailable(trending -> trending.recordAfterCommit(order));
+    }
+}
@@ -0,0 +1,84 @@
+package kr.co._29cm.homework.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 조회 모델 엔티티
+ * 
+ * 주문 하나당 한 행으로, 주문 항목을 JSON 문서로 함께 보관하는 비정규화 조회 전용 모델입니다.
+ * 주문 생성 트랜잭션에서 함께 저장되며, 주문 상세/목록 조회는 조인 없이
+ * 주문번호(기본키) 또는 주문일시 인덱스만으로 처리합니다.
+ * 정규화 테이블(orders, order_items)로부터 언제든 다시 만들 수 있습니다.
+ * 
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Entity
+@Table(name = "order_views",
+       indexes = @Index(name = "idx_order_views_ordered_at", columnList = "ordered_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderView implements Persistable<String> {
+
+    @Id
+    @Column(name = "order_number")
+    private String orderNumber;
+
+    @Column(name = "ordered_at", nullable = false)
+    private LocalDateTime orderedAt;
+
+    @Column(name = "payment_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal paymentAmount;
+
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    @Column(name = "total_quantity", nullable = false)
+    private int totalQuantity;
+
+    /**
+     * 주문 항목 JSON 배열 (주문 상세 응답의 items와 같은 형식)
+     */
+    @Column(name = "items_document", nullable = false, length = 65535)
+    private String itemsDocument;
+
+    /**
+     * 주문번호를 직접 할당하므로, 저장 시 병합(SELECT 후 INSERT) 대신 바로 INSERT 하도록 신규 여부를 추적
+     */
+    @Transient
+    private boolean newView = true;
+
+    public OrderView(String orderNumber, LocalDateTime orderedAt, BigDecimal paymentAmount,
+                     int itemCount, int totalQuantity, String itemsDocument) {
+        this.orderNumber = orderNumber;
+        this.orderedAt = orderedAt;
+        this.paymentAmount = paymentAmount;
+        this.itemCount = itemCount;
+        this.totalQuantity = totalQuantity;
+        this.itemsDocument = itemsDocument;
+    }
+
+    @Override
+    public String getId() {
+        return orderNumber;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newView;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newView = false;
+    }
+}
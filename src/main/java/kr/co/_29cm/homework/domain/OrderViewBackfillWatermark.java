@@ -0,0 +1,62 @@
+package kr.co._29cm.homework.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주문 조회 모델 백필 진행 위치 엔티티
+ * 
+ * 한 행만 사용하며, 조회 모델을 채운 마지막 주문 ID(이하 구간은 모두 처리됨)와 백필 완료 여부를 저장합니다.
+ * 재시작 후에는 완료된 백필을 다시 하지 않고, 중단된 백필은 저장된 위치 다음부터 이어서 처리합니다.
+ * 백필 완료 후 생성된 주문은 주문 트랜잭션에서 조회 모델이 함께 저장되므로 완료 여부는 계속 유효합니다.
+ * 
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Entity
+@Table(name = "order_view_backfill_watermark")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderViewBackfillWatermark {
+
+    /** 단일 행의 ID */
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    private Integer id;
+
+    /** 조회 모델을 채운 마지막 주문 ID (0이면 아직 없음) */
+    @Column(name = "last_order_id", nullable = false)
+    private long lastOrderId;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    public static OrderViewBackfillWatermark initial() {
+        OrderViewBackfillWatermark watermark = new OrderViewBackfillWatermark();
+        watermark.id = SINGLETON_ID;
+        return watermark;
+    }
+
+    /**
+     * 진행 위치 전진 (뒤로 가지 않음)
+     */
+    public void advanceTo(long orderId) {
+        lastOrderId = Math.max(lastOrderId, orderId);
+    }
+
+    public void complete() {
+        completed = true;
+    }
+
+    /**
+     * 처음부터 다시 백필하도록 초기화 (조회 모델 재생성용)
+     */
+    public void reset() {
+        lastOrderId = 0;
+        completed = false;
+    }
+}
@@ -0,0 +1,41 @@
+package kr.co._29cm.homework.domain;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import kr.co._29cm.homework.service.CatalogVersion;
+import kr.co._29cm.homework.service.StockStreamService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 변경 감지 엔티티 리스너
+ *
+ * 상품이 저장/수정/삭제되면 커밋 이후 카탈로그 버전을 증가시켜
+ * 카탈로그 조회 API의 ETag를 무효화하고, 변경된 재고를 재고 스트림에 전달합니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Component
+public class ProductChangeListener {
+
+    private final ObjectProvider<CatalogVersion> catalogVersion;
+    private final ObjectProvider<StockStreamService> stockStreamService;
+
+    public ProductChangeListener(ObjectProvider<CatalogVersion> catalogVersion,
+                                 ObjectProvider<StockStreamService> stockStreamService) {
+        this.catalogVersion = catalogVersion;
+        this.stockStreamService = stockStreamService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onProductChanged(Product product) {
+        catalogVersion.ifAvailable(CatalogVersion::bumpAfterCommit);
+        stockStreamService.ifAvailable(stream ->
+                stream.publishAfterCommit(product.getProductNumber(), product.getStockQuantity()));
+    }
+}
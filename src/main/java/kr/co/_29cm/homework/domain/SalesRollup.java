@@ -0,0 +1,61 @@
+package kr.co._29cm.homework.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 시간대별 판매 집계 엔티티
+ * 
+ * 상품별/시간(1시간) 단위의 판매 수량, 매출, 주문 수를 누적합니다.
+ * 상품번호가 {@link #ALL_PRODUCTS}인 행은 전체 상품 합계이며,
+ * 여러 상품을 담은 주문도 한 번만 세도록 주문 수를 별도로 집계합니다.
+ * 
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Entity
+@Table(name = "sales_rollups",
+       uniqueConstraints = @UniqueConstraint(name = "uk_sales_rollup_product_bucket",
+                                             columnNames = {"product_number", "bucket_start"}),
+       indexes = @Index(name = "idx_sales_rollup_bucket", columnList = "bucket_start"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SalesRollup {
+
+    /** 전체 상품 합계 행의 상품번호 */
+    public static final long ALL_PRODUCTS = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_number", nullable = false)
+    private Long productNumber;
+
+    /** 집계 구간 시작 시각 (정시) */
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "units", nullable = false)
+    private long units;
+
+    @Column(name = "revenue", nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    public SalesRollup(Long productNumber, LocalDateTime bucketStart, long units, BigDecimal revenue, long orderCount) {
+        this.productNumber = productNumber;
+        this.bucketStart = bucketStart;
+        this.units = units;
+        this.revenue = revenue;
+        this.orderCount = orderCount;
+    }
+}
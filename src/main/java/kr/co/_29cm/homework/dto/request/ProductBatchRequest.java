@@ -0,0 +1,24 @@
+package kr.co._29cm.homework.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "상품 다건 조회 요청")
+public class ProductBatchRequest {
+
+    @NotEmpty(message = "상품번호 목록은 비어있을 수 없습니다")
+    @Size(max = 5000, message = "상품번호는 최대 5000개까지 조회할 수 있습니다")
+    @Schema(description = "조회할 상품번호 목록", example = "[768848, 748943]", required = true)
+    private List<Long> productNumbers;
+}
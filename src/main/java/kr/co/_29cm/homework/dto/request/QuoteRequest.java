@@ -0,0 +1,43 @@
+package kr.co._29cm.homework.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "장바구니 견적 요청")
+public class QuoteRequest {
+
+    @Valid
+    @NotEmpty(message = "장바구니 목록은 비어있을 수 없습니다")
+    @Size(max = 100, message = "장바구니는 최대 100개까지 견적할 수 있습니다")
+    @Schema(description = "장바구니 목록", required = true, maxLength = 100)
+    private List<CartRequest> carts;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "장바구니")
+    public static class CartRequest {
+
+        @Schema(description = "장바구니 식별자 (응답에 그대로 반환)", example = "cart-1")
+        private String cartId;
+
+        @Valid
+        @NotEmpty(message = "장바구니 항목은 비어있을 수 없습니다")
+        @Size(max = 10, message = "장바구니 항목은 최대 10개까지 가능합니다")
+        @Schema(description = "장바구니 항목 목록 (주문 항목과 같은 형식)", required = true, maxLength = 10)
+        private List<OrderRequest.OrderItemRequest> items;
+    }
+}
@@ -0,0 +1,91 @@
+package kr.co._29cm.homework.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 카탈로그 가져오기 상태 응답 DTO
+ * 
+ * 진행 중이면 현재까지의 처리 건수와 처리량을, 끝났으면 최종 결과와 행별 오류를 제공합니다.
+ * 
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "상품 카탈로그 가져오기 상태")
+public class CatalogImportStatusResponse {
+
+    @Schema(description = "상태 (IDLE, RUNNING, COMPLETED, FAILED)", example = "COMPLETED")
+    private String state;
+
+    @Schema(description = "가져온 파일", example = "classpath:products.csv")
+    private String source;
+
+    @Schema(description = "시작 일시", example = "2025-01-19T12:00:00")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "종료 일시 (진행 중이면 null)", example = "2025-01-19T12:00:42")
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "읽은 데이터 행 수 (헤더 제외)", example = "1000000")
+    private long rowsRead;
+
+    @Schema(description = "새로 추가한 상품 수", example = "999000")
+    private long inserted;
+
+    @Schema(description = "상품명/가격을 갱신한 상품 수", example = "800")
+    private long updated;
+
+    @Schema(description = "변경 사항이 없던 상품 수", example = "150")
+    private long unchanged;
+
+    @Schema(description = "실패한 행 수", example = "50")
+    private long failed;
+
+    @Schema(description = "경과 시간 (ms)", example = "42000")
+    private long elapsedMillis;
+
+    @Schema(description = "초당 처리 행 수", example = "23809.5")
+    private double rowsPerSecond;
+
+    @Schema(description = "읽은 바이트 수", example = "52428800")
+    private long bytesRead;
+
+    @Schema(description = "전체 바이트 수 (알 수 없으면 null)", example = "104857600")
+    private Long totalBytes;
+
+    @Schema(description = "진행률 (%, 전체 크기를 알 수 없으면 null)", example = "50.0")
+    private Double progressPercent;
+
+    @Schema(description = "예상 남은 시간 (초, 지금까지의 처리 속도 기준, 알 수 없으면 null)", example = "21")
+    private Long etaSeconds;
+
+    @Schema(description = "실패 사유 (파일 전체 실패 시)")
+    private String failureMessage;
+
+    @Schema(description = "행별 오류 (앞에서부터 최대 1000건)")
+    private List<RowError> errors;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "행 오류")
+    public static class RowError {
+
+        @Schema(description = "줄 번호 (헤더 포함, 1부터)", example = "42")
+        private long lineNumber;
+
+        @Schema(description = "오류 내용", example = "판매가격 형식이 올바르지 않습니다: abc")
+        private String message;
+    }
+}
@@ -30,6 +30,9 @@ public class OrderSummaryResponse {
     @Schema(description = "주문 상품 개수", example = "3")
     private int itemCount;
     
+    @Schema(description = "주문 총 수량", example = "5")
+    private int totalQuantity;
+    
     @Schema(description = "총 결제금액", example = "29100")
     private BigDecimal totalPayment;
 }
@@ -0,0 +1,28 @@
+package kr.co._29cm.homework.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 상품 다건 조회 응답 DTO
+ * 
+ * 요청한 순서대로 조회된 상품과 찾지 못한 상품번호를 함께 제공합니다.
+ * 
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "상품 다건 조회 응답")
+public class ProductBatchResponse {
+
+    @Schema(description = "조회된 상품 목록 (요청 순서, 중복 제거)")
+    private List<ProductResponse> products;
+
+    @Schema(description = "찾지 못한 상품번호 목록", example = "[999999]")
+    private List<Long> notFound;
+}
@@ -0,0 +1,83 @@
+package kr.co._29cm.homework.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 장바구니 견적 응답 DTO
+ * 
+ * 요청한 장바구니 순서대로, 주문과 같은 규칙으로 계산한 금액을 제공합니다.
+ * 
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "장바구니 견적 응답")
+public class QuoteResponse {
+
+    @Schema(description = "장바구니별 견적 (요청 순서)")
+    private List<CartQuoteResponse> carts;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "장바구니 견적")
+    public static class CartQuoteResponse {
+
+        @Schema(description = "장바구니 식별자", example = "cart-1")
+        private String cartId;
+
+        @Schema(description = "견적 항목 목록 (찾지 못한 상품 제외)")
+        private List<QuoteItemResponse> items;
+
+        @Schema(description = "찾지 못한 상품번호 목록", example = "[999999]")
+        private List<Long> notFound;
+
+        @Schema(description = "총 주문금액 (항목 소계 합계)", example = "26600")
+        private BigDecimal totalAmount;
+
+        @Schema(description = "배송비", example = "2500")
+        private BigDecimal shippingFee;
+
+        @Schema(description = "지불금액 (총 주문금액 + 배송비)", example = "29100")
+        private BigDecimal paymentAmount;
+
+        @Schema(description = "주문 가능 여부 (모든 상품이 존재하고 재고가 충분한 경우)", example = "true")
+        private boolean orderable;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "견적 항목")
+    public static class QuoteItemResponse {
+
+        @Schema(description = "상품번호", example = "768848")
+        private Long productNumber;
+
+        @Schema(description = "상품명", example = "[STANLEY] GO CERAMIVAC 진공 텀블러/보틀 3종")
+        private String productName;
+
+        @Schema(description = "수량", example = "1")
+        private Integer quantity;
+
+        @Schema(description = "단가", example = "21000")
+        private BigDecimal unitPrice;
+
+        @Schema(description = "소계 (단가 × 수량)", example = "21000")
+        private BigDecimal subtotal;
+
+        @Schema(description = "재고 충분 여부 (카탈로그 스냅샷 기준, 주문 시 다시 확인)", example = "true")
+        private boolean inStock;
+    }
+}
@@ -0,0 +1,63 @@
+package kr.co._29cm.homework.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "판매 집계 리포트 응답")
+public class SalesReportResponse {
+
+    @Schema(description = "상품번호 (전체 상품 합계인 경우 null)", example = "768848")
+    private Long productNumber;
+
+    @Schema(description = "집계 단위 (HOUR, DAY)", example = "HOUR")
+    private String granularity;
+
+    @Schema(description = "조회 시작일시 (포함)", example = "2025-01-19T00:00:00")
+    private LocalDateTime from;
+
+    @Schema(description = "조회 종료일시 (미포함)", example = "2025-01-20T00:00:00")
+    private LocalDateTime to;
+
+    @Schema(description = "기간 내 총 판매 수량", example = "12")
+    private long totalUnits;
+
+    @Schema(description = "기간 내 총 매출 (배송비 제외)", example = "252000")
+    private BigDecimal totalRevenue;
+
+    @Schema(description = "기간 내 총 주문 수", example = "8")
+    private long totalOrderCount;
+
+    @Schema(description = "구간별 집계 (판매가 있는 구간만)")
+    private List<SalesBucketResponse> buckets;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "구간별 판매 집계")
+    public static class SalesBucketResponse {
+
+        @Schema(description = "구간 시작일시", example = "2025-01-19T12:00:00")
+        private LocalDateTime bucketStart;
+
+        @Schema(description = "판매 수량", example = "3")
+        private long units;
+
+        @Schema(description = "매출 (배송비 제외)", example = "63000")
+        private BigDecimal revenue;
+
+        @Schema(description = "주문 수", example = "2")
+        private long orderCount;
+    }
+}
@@ -0,0 +1,32 @@
+package kr.co._29cm.homework.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "인기 상품 응답")
+public class TrendingProductResponse {
+
+    @Schema(description = "순위 (1부터 시작)", example = "1")
+    private int rank;
+
+    @Schema(description = "상품번호", example = "768848")
+    private Long productNumber;
+
+    @Schema(description = "상품명", example = "[STANLEY] GO CERAMIVAC 진공 텀블러/보틀 3종")
+    private String name;
+
+    @Schema(description = "판매가격", example = "21000")
+    private BigDecimal price;
+
+    @Schema(description = "기간 내 판매 수량 (추정치, 실제보다 작지 않음)", example = "128")
+    private long quantitySold;
+}
@@ -90,7 +90,7 @@ public class GlobalExceptionHandler {
     private HttpStatus determineHttpStatus(BusinessException e) {
         return switch (e.getCode()) {
             case "PRODUCT_NOT_FOUND", "ORDER_NOT_FOUND" -> HttpStatus.NOT_FOUND;
-            case "INSUFFICIENT_STOCK", "INVALID_ORDER" -> HttpStatus.BAD_REQUEST;
+            case "INSUFFICIENT_STOCK", "INVALID_ORDER", "INVALID_REQUEST" -> HttpStatus.BAD_REQUEST;
             case "DUPLICATE_REQUEST" -> HttpStatus.CONFLICT;
             case "IDEMPOTENCY_KEY_EXPIRED" -> HttpStatus.GONE;
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
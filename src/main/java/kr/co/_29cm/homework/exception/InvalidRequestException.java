@@ -0,0 +1,8 @@
+package kr.co._29cm.homework.exception;
+
+public class InvalidRequestException extends BusinessException {
+    
+    public InvalidRequestException(String message) {
+        super("INVALID_REQUEST", message);
+    }
+}
@@ -39,7 +39,8 @@ public class OrderMapper {
         return new OrderSummaryResponse(
                 order.getOrderNumber(),
                 order.getOrderedAt(),
-                order.getItems().size(),
+                order.getItemCount(),
+                order.getTotalQuantity(),
                 order.getPaymentAmount()
         );
     }
@@ -1,27 +1,107 @@
 package kr.co._29cm.homework.repository;
 
 import kr.co._29cm.homework.domain.Order;
+import kr.co._29cm.homework.dto.response.OrderSummaryResponse;
+import kr.co._29cm.homework.repository.projection.OrderDetailRow;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    /**
+     * 주문번호로 주문 조회 (주문 항목을 함께 페치하여 한 번의 쿼리로 로딩)
+     */
+    @EntityGraph(attributePaths = "items")
     Optional<Order> findByOrderNumber(String orderNumber);
-    
+
     /**
      * 주문 목록을 최신순으로 페이징 조회
      */
     Page<Order> findAllByOrderByOrderedAtDesc(Pageable pageable);
-    
+
     /**
      * 특정 기간의 주문을 페이징 조회
      */
     @Query("SELECT o FROM Order o WHERE o.orderedAt BETWEEN :startDate AND :endDate ORDER BY o.orderedAt DESC")
     Page<Order> findOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
-}
 
+    /**
+     * 주문과 주문 항목을 한 번의 조인 쿼리로 조회 (엔티티 하이드레이션 없음)
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new kr.co._29cm.homework.repository.projection.OrderDetailRow(" +
+           "o.orderNumber, o.orderedAt, o.paymentAmount, " +
+           "i.productNumber, i.productName, i.quantity, i.unitPrice, i.subtotalMinorUnits) " +
+           "FROM Order o LEFT JOIN o.items i WHERE o.orderNumber = :orderNumber ORDER BY i.id")
+    List<OrderDetailRow> findOrderDetailRows(String orderNumber);
+
+    /**
+     * 특정 기간의 주문과 주문 항목을 조인 결과 행 스트림으로 조회 (내보내기용)
+     * 
+     * 서버 측 커서로 고정 크기만큼씩 가져오므로 결과 건수와 관계없이 메모리 사용량이 일정합니다.
+     * 같은 주문의 행은 연속해서 조회됩니다. 호출 측 트랜잭션 안에서 소비하고 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new kr.co._29cm.homework.repository.projection.OrderDetailRow(" +
+           "o.orderNumber, o.orderedAt, o.paymentAmount, " +
+           "i.productNumber, i.productName, i.quantity, i.unitPrice, i.subtotalMinorUnits) " +
+           "FROM Order o LEFT JOIN o.items i WHERE o.orderedAt BETWEEN :startDate AND :endDate " +
+           "ORDER BY o.orderedAt, o.id, i.id")
+    Stream<OrderDetailRow> streamOrderDetailRowsByDateRange(LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * 주문 ID 구간의 주문과 주문 항목을 조인 결과 행으로 조회 (조회 모델 백필용)
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new kr.co._29cm.homework.repository.projection.OrderDetailRow(" +
+           "o.orderNumber, o.orderedAt, o.paymentAmount, " +
+           "i.productNumber, i.productName, i.quantity, i.unitPrice, i.subtotalMinorUnits) " +
+           "FROM Order o LEFT JOIN o.items i WHERE o.id >= :fromId AND o.id < :toId ORDER BY o.id, i.id")
+    List<OrderDetailRow> findOrderDetailRowsByIdRange(Long fromId, Long toId);
+
+    @Query("SELECT MIN(o.id) FROM Order o")
+    Long findMinId();
+
+    @Query("SELECT MAX(o.id) FROM Order o")
+    Long findMaxId();
 
+    /**
+     * 주문 요약 목록을 응답 DTO로 직접 페이징 조회 (최신순)
+     * 
+     * 주문 항목 수/총 수량은 orders 테이블의 비정규화 컬럼을 사용하므로 order_items를 조회하지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query(value = "SELECT new kr.co._29cm.homework.dto.response.OrderSummaryResponse(" +
+                   "o.orderNumber, o.orderedAt, o.itemCount, o.totalQuantity, o.paymentAmount) FROM Order o ORDER BY o.orderedAt DESC",
+           countQuery = "SELECT COUNT(o) FROM Order o")
+    Page<OrderSummaryResponse> findOrderSummaries(Pageable pageable);
+
+    /**
+     * 특정 기간의 주문 요약 목록을 응답 DTO로 직접 페이징 조회
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query(value = "SELECT new kr.co._29cm.homework.dto.response.OrderSummaryResponse(" +
+                   "o.orderNumber, o.orderedAt, o.itemCount, o.totalQuantity, o.paymentAmount) FROM Order o " +
+                   "WHERE o.orderedAt BETWEEN :startDate AND :endDate ORDER BY o.orderedAt DESC",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.orderedAt BETWEEN :startDate AND :endDate")
+    Page<OrderSummaryResponse> findOrderSummariesByDateRange(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+}
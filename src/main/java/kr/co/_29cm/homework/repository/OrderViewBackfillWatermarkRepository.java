@@ -0,0 +1,7 @@
+package kr.co._29cm.homework.repository;
+
+import kr.co._29cm.homework.domain.OrderViewBackfillWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OrderViewBackfillWatermarkRepository extends JpaRepository<OrderViewBackfillWatermark, Integer> {
+}
@@ -0,0 +1,47 @@
+package kr.co._29cm.homework.repository;
+
+import kr.co._29cm.homework.domain.OrderView;
+import kr.co._29cm.homework.dto.response.OrderSummaryResponse;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OrderViewRepository extends JpaRepository<OrderView, String> {
+
+    /**
+     * 주문 요약 목록을 조회 모델에서 페이징 조회 (최신순)
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query(value = "SELECT new kr.co._29cm.homework.dto.response.OrderSummaryResponse(" +
+                   "v.orderNumber, v.orderedAt, v.itemCount, v.totalQuantity, v.paymentAmount) FROM OrderView v " +
+                   "ORDER BY v.orderedAt DESC",
+           countQuery = "SELECT COUNT(v) FROM OrderView v")
+    Page<OrderSummaryResponse> findSummaries(Pageable pageable);
+
+    /**
+     * 특정 기간의 주문 요약 목록을 조회 모델에서 페이징 조회
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query(value = "SELECT new kr.co._29cm.homework.dto.response.OrderSummaryResponse(" +
+                   "v.orderNumber, v.orderedAt, v.itemCount, v.totalQuantity, v.paymentAmount) FROM OrderView v " +
+                   "WHERE v.orderedAt BETWEEN :startDate AND :endDate ORDER BY v.orderedAt DESC",
+           countQuery = "SELECT COUNT(v) FROM OrderView v WHERE v.orderedAt BETWEEN :startDate AND :endDate")
+    Page<OrderSummaryResponse> findSummariesByDateRange(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+
+    /**
+     * 조회 모델이 이미 있는 주문번호 조회 (백필 시 중복 저장 방지)
+     */
+    @Query("SELECT v.orderNumber FROM OrderView v WHERE v.orderNumber IN :orderNumbers")
+    List<String> findExistingOrderNumbers(Collection<String> orderNumbers);
+}
@@ -1,15 +1,20 @@
 package kr.co._29cm.homework.repository;
 
 import kr.co._29cm.homework.domain.Product;
+import kr.co._29cm.homework.dto.response.ProductResponse;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -18,17 +23,65 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "5000")})
     Optional<Product> findWithLockByProductNumber(Long productNumber);
-    
+
     /**
      * 상품명으로 검색하여 페이징 조회
      */
     Page<Product> findByNameContainingIgnoreCase(String name, Pageable pageable);
-    
+
     /**
      * 재고가 있는 상품만 페이징 조회
      */
     @Query("SELECT p FROM Product p WHERE p.stockQuantity > 0")
     Page<Product> findAvailableProducts(Pageable pageable);
-}
 
+    /**
+     * 상품 목록을 응답 DTO로 직접 페이징 조회 (엔티티 하이드레이션 없음)
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query(value = "SELECT new kr.co._29cm.homework.dto.response.ProductResponse(" +
+                   "p.id, p.productNumber, p.name, p.price, p.stockQuantity) FROM Product p",
+           countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<ProductResponse> findProductResponses(Pageable pageable);
 
+    /**
+     * 상품명으로 검색하여 응답 DTO로 직접 페이징 조회
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query(value = "SELECT new kr.co._29cm.homework.dto.response.ProductResponse(" +
+                   "p.id, p.productNumber, p.name, p.price, p.stockQuantity) FROM Product p " +
+                   "WHERE UPPER(p.name) LIKE UPPER(CONCAT('%', :name, '%'))",
+           countQuery = "SELECT COUNT(p) FROM Product p WHERE UPPER(p.name) LIKE UPPER(CONCAT('%', :name, '%'))")
+    Page<ProductResponse> findProductResponsesByName(String name, Pageable pageable);
+
+    /**
+     * 재고가 있는 상품만 응답 DTO로 직접 페이징 조회
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query(value = "SELECT new kr.co._29cm.homework.dto.response.ProductResponse(" +
+                   "p.id, p.productNumber, p.name, p.price, p.stockQuantity) FROM Product p " +
+                   "WHERE p.stockQuantity > 0",
+           countQuery = "SELECT COUNT(p) FROM Product p WHERE p.stockQuantity > 0")
+    Page<ProductResponse> findAvailableProductResponses(Pageable pageable);
+
+    /**
+     * 전체 상품을 응답 DTO로 직접 조회
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new kr.co._29cm.homework.dto.response.ProductResponse(" +
+           "p.id, p.productNumber, p.name, p.price, p.stockQuantity) FROM Product p ORDER BY p.id")
+    List<ProductResponse> findAllProductResponses();
+
+    /**
+     * 상품번호 목록으로 응답 DTO 다건 조회 (IN 쿼리)
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new kr.co._29cm.homework.dto.response.ProductResponse(" +
+           "p.id, p.productNumber, p.name, p.price, p.stockQuantity) FROM Product p WHERE p.productNumber IN :productNumbers")
+    List<ProductResponse> findProductResponsesByProductNumberIn(Collection<Long> productNumbers);
+}
@@ -0,0 +1,31 @@
+package kr.co._29cm.homework.repository;
+
+import kr.co._29cm.homework.domain.SalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, Long> {
+
+    /**
+     * 기존 집계 행에 증분 누적
+     *
+     * @return 갱신된 행 수 (0이면 해당 구간의 집계 행이 아직 없음)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SalesRollup r SET r.units = r.units + :units, r.revenue = r.revenue + :revenue, " +
+           "r.orderCount = r.orderCount + :orderCount " +
+           "WHERE r.productNumber = :productNumber AND r.bucketStart = :bucketStart")
+    int accumulate(Long productNumber, LocalDateTime bucketStart, long units, BigDecimal revenue, long orderCount);
+
+    /**
+     * 상품(또는 전체 합계)의 기간 내 시간대별 집계 조회
+     */
+    @Query("SELECT r FROM SalesRollup r WHERE r.productNumber = :productNumber " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to ORDER BY r.bucketStart")
+    List<SalesRollup> findBuckets(Long productNumber, LocalDateTime from, LocalDateTime to);
+}
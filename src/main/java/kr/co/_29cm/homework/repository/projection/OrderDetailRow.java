@@ -0,0 +1,39 @@
+package kr.co._29cm.homework.repository.projection;
+
+import kr.co._29cm.homework.domain.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상세 조회용 조인 결과 행
+ *
+ * 주문과 주문 항목을 한 번의 조인 쿼리로 읽기 위한 프로젝션입니다.
+ * 주문 항목 하나당 한 행이며, 항목이 없는 주문은 항목 컬럼이 null인 한 행으로 조회됩니다.
+ * 소계는 단가 × 수량을 다시 계산하지 않고 주문 시점에 저장한 값을 사용합니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+public record OrderDetailRow(
+        String orderNumber,
+        LocalDateTime orderedAt,
+        BigDecimal paymentAmount,
+        Long productNumber,
+        String productName,
+        Integer quantity,
+        BigDecimal unitPrice,
+        BigDecimal subtotal
+) {
+
+    /**
+     * 주문 항목에 저장된 소계(최소 단위 금액)로 생성 (JPQL 생성자 표현식용)
+     */
+    public OrderDetailRow(String orderNumber, LocalDateTime orderedAt, BigDecimal paymentAmount,
+                          Long productNumber, String productName, Integer quantity, BigDecimal unitPrice,
+                          Long subtotalMinorUnits) {
+        this(orderNumber, orderedAt, paymentAmount, productNumber, productName, quantity, unitPrice,
+                subtotalMinorUnits == null ? null : Money.fromMinorUnits(subtotalMinorUnits));
+    }
+}
@@ -0,0 +1,265 @@
+package kr.co._29cm.homework.service;
+
+import kr.co._29cm.homework.domain.Money;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * 상품 카탈로그 바이너리 스냅샷
+ *
+ * 적재된 카탈로그를 CSV보다 훨씬 빠르게 다시 읽을 수 있는 열 단위 바이너리 파일로 저장합니다.
+ * 기동 시 원본 CSV가 그대로이면 CSV 파싱 없이 이 파일을 메모리 맵으로 읽어 적재합니다.
+ *
+ * <pre>
+ * 헤더 (40 bytes)
+ *   int   매직 넘버 "29CC"
+ *   short 형식 버전 (1)
+ *   short 예약 (0)
+ *   long  원본 CSV 크기 (bytes, 모르면 -1)
+ *   long  원본 CSV 마지막 수정 시각 (epoch ms, 모르면 -1)
+ *   long  생성 시각 (epoch ms)
+ *   int   상품 수 (n)
+ *   int   예약 (0)
+ * 본문
+ *   long[n]  상품번호 (오름차순)
+ *   long[n]  판매가격 (최소 단위 0.01)
+ *   int[n]   재고수량
+ *   n개      상품명 (unsigned short 바이트 길이 + UTF-8 바이트)
+ * 트레일러
+ *   long  헤더부터 본문 끝까지의 CRC32C
+ * </pre>
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+final class CatalogBinarySnapshot {
+
+    static final int MAGIC = 0x32394343; // "29CC"
+    static final short FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 40;
+    private static final int TRAILER_BYTES = 8;
+    private static final int MAX_NAME_BYTES = 0xFFFF;
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    /**
+     * 스냅샷을 만든 원본 CSV 식별 정보 (크기와 마지막 수정 시각)
+     */
+    record Source(long length, long lastModified) {}
+
+    /**
+     * 스냅샷 한 행 처리 콜백
+     */
+    interface RowHandler {
+
+        void row(long productNumber, String name, BigDecimal price, int stockQuantity);
+    }
+
+    private final MappedByteBuffer buffer;
+    private final Source source;
+    private final long createdAt;
+    private final int count;
+
+    private CatalogBinarySnapshot(MappedByteBuffer buffer, Source source, long createdAt, int count) {
+        this.buffer = buffer;
+        this.source = source;
+        this.createdAt = createdAt;
+        this.count = count;
+    }
+
+    /**
+     * 스냅샷 파일을 메모리 맵으로 열고 형식과 체크섬 검증
+     *
+     * @throws IOException 읽을 수 없거나, 형식/버전이 다르거나, 체크섬이 맞지 않는 경우
+     */
+    static CatalogBinarySnapshot open(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + TRAILER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("카탈로그 스냅샷 크기가 올바르지 않습니다: " + size + " bytes");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("카탈로그 스냅샷 파일이 아닙니다: " + file);
+        }
+        if (buffer.getShort(4) != FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 카탈로그 스냅샷 형식 버전: " + buffer.getShort(4));
+        }
+        int bodyEnd = buffer.limit() - TRAILER_BYTES;
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(0, bodyEnd));
+        if (crc.getValue() != buffer.getLong(bodyEnd)) {
+            throw new IOException("카탈로그 스냅샷 체크섬이 맞지 않습니다: " + file);
+        }
+        int count = buffer.getInt(32);
+        if (count < 0 || HEADER_BYTES + (long) count * 22 > bodyEnd) {
+            throw new IOException("카탈로그 스냅샷 상품 수가 올바르지 않습니다: " + count);
+        }
+        return new CatalogBinarySnapshot(buffer, new Source(buffer.getLong(8), buffer.getLong(16)), buffer.getLong(24), count);
+    }
+
+    Source source() {
+        return source;
+    }
+
+    long createdAt() {
+        return createdAt;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long sizeBytes() {
+        return buffer.limit();
+    }
+
+    /**
+     * 모든 행을 상품번호 순서로 전달
+     *
+     * @throws IOException 상품명 영역이 손상된 경우
+     */
+    void forEach(RowHandler handler) throws IOException {
+        int productNumbers = HEADER_BYTES;
+        int prices = productNumbers + count * 8;
+        int stocks = prices + count * 8;
+        int name = stocks + count * 4;
+        int bodyEnd = buffer.limit() - TRAILER_BYTES;
+        byte[] scratch = new byte[256];
+        for (int i = 0; i < count; i++) {
+            if (name + 2 > bodyEnd) {
+                throw new IOException("카탈로그 스냅샷 상품명 영역이 손상되었습니다: " + i + "번째 상품");
+            }
+            int length = Short.toUnsignedInt(buffer.getShort(name));
+            if (name + 2 + length > bodyEnd) {
+                throw new IOException("카탈로그 스냅샷 상품명 영역이 손상되었습니다: " + i + "번째 상품");
+            }
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            buffer.get(name + 2, scratch, 0, length);
+            name += 2 + length;
+            handler.row(buffer.getLong(productNumbers + i * 8),
+                    new String(scratch, 0, length, StandardCharsets.UTF_8),
+                    Money.fromMinorUnits(buffer.getLong(prices + i * 8)),
+                    buffer.getInt(stocks + i * 4));
+        }
+    }
+
+    /**
+     * 스냅샷 작성기
+     *
+     * 행을 모두 추가한 뒤 {@link #writeTo}로 임시 파일에 쓰고 원자적으로 교체합니다.
+     */
+    static final class Writer {
+
+        private long[] productNumbers = new long[1024];
+        private long[] prices = new long[1024];
+        private int[] stocks = new int[1024];
+        private byte[] names = new byte[16 * 1024];
+        private int namesLength;
+        private int count;
+
+        void add(long productNumber, String name, BigDecimal price, int stockQuantity) {
+            if (count == productNumbers.length) {
+                productNumbers = Arrays.copyOf(productNumbers, count * 2);
+                prices = Arrays.copyOf(prices, count * 2);
+                stocks = Arrays.copyOf(stocks, count * 2);
+            }
+            byte[] encoded = name.getBytes(StandardCharsets.UTF_8);
+            if (encoded.length > MAX_NAME_BYTES) {
+                throw new IllegalArgumentException("상품명이 너무 깁니다: 상품번호 " + productNumber);
+            }
+            if (namesLength + 2 + encoded.length > names.length) {
+                names = Arrays.copyOf(names, Math.max(names.length * 2, namesLength + 2 + encoded.length));
+            }
+            names[namesLength++] = (byte) (encoded.length >>> 8);
+            names[namesLength++] = (byte) encoded.length;
+            System.arraycopy(encoded, 0, names, namesLength, encoded.length);
+            namesLength += encoded.length;
+
+            productNumbers[count] = productNumber;
+            prices[count] = Money.toMinorUnits(price);
+            stocks[count] = stockQuantity;
+            count++;
+        }
+
+        int count() {
+            return count;
+        }
+
+        /**
+         * @return 쓴 바이트 수
+         */
+        long writeTo(Path file, Source source, long createdAt) throws IOException {
+            long size = HEADER_BYTES + (long) count * 20 + namesLength + TRAILER_BYTES;
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("카탈로그 스냅샷이 너무 큽니다: " + size + " bytes");
+            }
+            Path directory = file.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+                CRC32C crc = new CRC32C();
+                buffer.putInt(MAGIC).putShort(FORMAT_VERSION).putShort((short) 0)
+                        .putLong(source.length()).putLong(source.lastModified()).putLong(createdAt)
+                        .putInt(count).putInt(0);
+                for (int i = 0; i < count; i++) {
+                    ensure(channel, buffer, crc, 8).putLong(productNumbers[i]);
+                }
+                for (int i = 0; i < count; i++) {
+                    ensure(channel, buffer, crc, 8).putLong(prices[i]);
+                }
+                for (int i = 0; i < count; i++) {
+                    ensure(channel, buffer, crc, 4).putInt(stocks[i]);
+                }
+                for (int offset = 0; offset < namesLength; ) {
+                    int length = Math.min(ensure(channel, buffer, crc, 1).remaining(), namesLength - offset);
+                    buffer.put(names, offset, length);
+                    offset += length;
+                }
+                drain(channel, buffer, crc);
+                buffer.putLong(crc.getValue()).flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return size;
+        }
+
+        private static ByteBuffer ensure(FileChannel channel, ByteBuffer buffer, CRC32C crc, int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                drain(channel, buffer, crc);
+            }
+            return buffer;
+        }
+
+        private static void drain(FileChannel channel, ByteBuffer buffer, CRC32C crc) throws IOException {
+            buffer.flip();
+            crc.update(buffer.duplicate());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
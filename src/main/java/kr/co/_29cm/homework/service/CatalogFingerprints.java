@@ -0,0 +1,137 @@
+package kr.co._29cm.homework.service;
+
+import kr.co._29cm.homework.domain.Money;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * 상품번호별 카탈로그 행 지문 테이블
+ *
+ * 상품 정보 지문은 상품명과 판매가격(최소 단위)의 64비트 해시이고, 재고수량은 주문으로 바뀌는 운영 데이터이므로
+ * 별도 테이블에 {@link #ofStock(int)}로 따로 보관합니다.
+ * 상품 수백만 건을 보관할 수 있도록 박싱 없이 long 배열 두 개로 된 오픈 어드레싱 해시 테이블을 사용합니다.
+ * 스레드 안전하지 않으므로 쓰는 쪽에서 동기화해야 하며, 다 채운 뒤에는 읽기 전용으로 공유합니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+final class CatalogFingerprints {
+
+    /** 지문 없음 (계산된 지문이 0이면 1로 바꾸어 저장) */
+    static final long ABSENT = 0L;
+
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private long emptyKeyValue = ABSENT;
+
+    CatalogFingerprints(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * 상품 정보(상품명, 판매가격) 지문
+     */
+    static long of(String name, BigDecimal price) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < name.length(); i++) {
+            h = (h ^ name.charAt(i)) * 0x100000001b3L;
+        }
+        h = mix(h ^ Money.toMinorUnits(price));
+        return h == ABSENT ? 1L : h;
+    }
+
+    /**
+     * 재고수량 지문 (재고수량은 0 이상이므로 1을 더해 {@link #ABSENT}와 구분)
+     */
+    static long ofStock(int stockQuantity) {
+        return stockQuantity + 1L;
+    }
+
+    /**
+     * @return 지문 (없으면 {@link #ABSENT})
+     */
+    long get(long productNumber) {
+        if (productNumber == EMPTY_KEY) {
+            return emptyKeyValue;
+        }
+        for (int slot = slot(productNumber); ; slot = (slot + 1) & mask) {
+            long key = keys[slot];
+            if (key == productNumber) {
+                return values[slot];
+            }
+            if (key == EMPTY_KEY) {
+                return ABSENT;
+            }
+        }
+    }
+
+    void put(long productNumber, long fingerprint) {
+        if (productNumber == EMPTY_KEY) {
+            if (emptyKeyValue == ABSENT) {
+                size++;
+            }
+            emptyKeyValue = fingerprint;
+            return;
+        }
+        int slot = slot(productNumber);
+        while (keys[slot] != EMPTY_KEY && keys[slot] != productNumber) {
+            slot = (slot + 1) & mask;
+        }
+        boolean added = keys[slot] == EMPTY_KEY;
+        keys[slot] = productNumber;
+        values[slot] = fingerprint;
+        if (added && ++size > keys.length * 3 / 4) {
+            grow();
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int slot(long productNumber) {
+        return (int) mix(productNumber) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        Arrays.fill(keys, EMPTY_KEY);
+        mask = capacity - 1;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != EMPTY_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * 64비트 해시 혼합 (MurmurHash3 fmix64)
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,528 @@
+package kr.co._29cm.homework.service;
+
+import kr.co._29cm.homework.dto.response.CatalogImportStatusResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 카탈로그 일괄 가져오기 서비스
+ * 
+ * 상품 CSV를 일정 크기(catalog.import.chunk-size)의 청크로 나누어 청크마다 하나의 트랜잭션에서
+ * JDBC 배치로 반영합니다. 없는 상품은 추가하고, 있는 상품은 상품명/가격이 바뀐 경우에만 갱신합니다.
+ * 재고는 주문으로 차감되는 운영 데이터이므로 기존 상품의 재고는 덮어쓰지 않습니다.
+ * 
+ * 잘못된 행은 건너뛰고 줄 번호와 사유를 기록하며, 청크 반영이 실패하면 해당 청크만 행 단위로
+ * 다시 반영하여 실패한 행을 찾아냅니다. 진행 상황과 처리량은 {@link #status()}로 조회합니다.
+ * 
+ * 로컬 파일은 {@link MappedProductCsvParser}로 메모리 맵 후 구간별로 병렬 파싱하며,
+ * 각 파싱 작업이 청크를 직접 반영하므로 동시에 반영되는 청크 수는 catalog.import.parallelism 이하입니다.
+ * 
+ * 적재된 카탈로그는 {@link CatalogBinarySnapshot} 파일로 저장할 수 있으며, 원본 CSV가 그대로이고 상품 테이블이
+ * 비어 있으면 CSV 파싱 없이 스냅샷에서 바로 적재합니다.
+ * 
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+@Service
+public class CatalogImportService {
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+    private static final long PROGRESS_LOG_INTERVAL = 100_000;
+
+    private static final String SELECT_EXISTING_SQL =
+            "SELECT product_number FROM products WHERE product_number IN (:productNumbers)";
+    private static final String INSERT_SQL =
+            "INSERT INTO products (product_number, name, price, stock_quantity, version) VALUES (?, ?, ?, ?, 0)";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM products";
+    private static final String SELECT_ALL_SQL =
+            "SELECT product_number, name, price, stock_quantity FROM products ORDER BY product_number";
+    private static final String UPDATE_SQL =
+            "UPDATE products SET name = ?, price = ?, version = version + 1 " +
+            "WHERE product_number = ? AND (name <> ? OR price <> ?)";
+
+    /**
+     * 가져오기 상태
+     */
+    public enum State {
+        IDLE, RUNNING, COMPLETED, FAILED
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogVersion catalogVersion;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Clock clock;
+
+    private volatile Progress progress = null;
+
+    @Autowired
+    public CatalogImportService(NamedParameterJdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                CatalogVersion catalogVersion,
+                                @Value("${catalog.import.chunk-size:1000}") int chunkSize,
+                                @Value("${catalog.import.parallelism:0}") int parallelism) {
+        this(jdbcTemplate, transactionManager, catalogVersion, chunkSize, parallelism, Clock.systemDefaultZone());
+    }
+
+    CatalogImportService(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                         CatalogVersion catalogVersion, int chunkSize, int parallelism, Clock clock) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("청크 크기는 1 이상이어야 합니다: " + chunkSize);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.catalogVersion = catalogVersion;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.clock = clock;
+    }
+
+    /**
+     * 상품 CSV 가져오기
+     *
+     * 한 번에 하나의 가져오기만 실행됩니다.
+     *
+     * @param reader CSV 입력 (호출 측에서 닫음)
+     * @param source 상태 조회용 입력 이름
+     * @return 최종 결과
+     */
+    public synchronized CatalogImportStatusResponse importCsv(Reader reader, String source) {
+        return execute(source, run -> readCsv(reader, run));
+    }
+
+    /**
+     * 상품 CSV 스트림 가져오기 (UTF-8)
+     *
+     * 읽은 바이트 수로 진행률과 남은 시간을 계산합니다.
+     *
+     * @param in CSV 입력 (호출 측에서 닫음)
+     * @param totalBytes 전체 크기 (모르면 -1)
+     * @param source 상태 조회용 입력 이름
+     * @return 최종 결과
+     */
+    public synchronized CatalogImportStatusResponse importStream(InputStream in, long totalBytes, String source) {
+        return execute(source, run -> {
+            run.totalBytes = totalBytes;
+            InputStream counting = new FilterInputStream(in) {
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b >= 0) {
+                        run.bytesRead.incrementAndGet();
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int read = super.read(buffer, offset, length);
+                    if (read > 0) {
+                        run.bytesRead.addAndGet(read);
+                    }
+                    return read;
+                }
+            };
+            readCsv(new InputStreamReader(counting, StandardCharsets.UTF_8), run);
+        });
+    }
+
+    private void readCsv(Reader reader, Progress run) throws IOException {
+        List<ProductCsvReader.Row> chunk = new ArrayList<>(chunkSize);
+        BufferedReader buffered = reader instanceof BufferedReader b ? b : new BufferedReader(reader, 1 << 16);
+        new ProductCsvReader(buffered).readAll(new ProductCsvReader.Handler() {
+            @Override
+            public void row(ProductCsvReader.Row row) {
+                run.rowsRead.incrementAndGet();
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    writeChunk(chunk, run);
+                    chunk.clear();
+                }
+            }
+
+            @Override
+            public void error(long lineNumber, String message) {
+                run.rowsRead.incrementAndGet();
+                run.fail(lineNumber, message);
+            }
+        });
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, run);
+        }
+    }
+
+    /**
+     * 로컬 상품 CSV 파일 가져오기 (메모리 맵 병렬 파싱)
+     *
+     * 청크가 병렬로 반영되므로, 서로 다른 구간에 같은 상품번호가 있으면 어느 행이 마지막으로 반영될지는 정해지지 않습니다.
+     *
+     * @param file CSV 파일
+     * @param source 상태 조회용 입력 이름
+     * @return 최종 결과
+     */
+    public synchronized CatalogImportStatusResponse importFile(Path file, String source) {
+        return execute(source, run -> {
+            run.totalBytes = Files.size(file);
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                new MappedProductCsvParser(MappedProductCsvParser.DEFAULT_SEGMENT_BYTES, chunkSize)
+                        .parse(file, pool, new MappedProductCsvParser.Sink() {
+                            @Override
+                            public void rows(List<ProductCsvReader.Row> rows) {
+                                run.rowsRead.addAndGet(rows.size());
+                                writeChunk(rows, run);
+                            }
+
+                            @Override
+                            public void error(long lineNumber, String message) {
+                                run.rowsRead.incrementAndGet();
+                                run.fail(lineNumber, message);
+                            }
+
+                            @Override
+                            public void progress(long bytes) {
+                                run.bytesRead.addAndGet(bytes);
+                            }
+                        });
+            } finally {
+                pool.shutdown();
+            }
+        });
+    }
+
+    /**
+     * 바이너리 스냅샷에서 카탈로그 적재
+     *
+     * 스냅샷이 없거나, 손상되었거나, 다른 원본 CSV로 만들어졌거나, 상품 테이블이 비어 있지 않으면 적재하지 않습니다.
+     *
+     * @param snapshotFile 스냅샷 파일
+     * @param sourceLength 현재 원본 CSV 크기 (bytes)
+     * @param sourceLastModified 현재 원본 CSV 마지막 수정 시각 (epoch ms)
+     * @return 적재 결과 (스냅샷을 사용하지 않았으면 empty)
+     */
+    public synchronized Optional<CatalogImportStatusResponse> restoreSnapshot(Path snapshotFile, long sourceLength,
+                                                                              long sourceLastModified) {
+        if (sourceLength < 0 || sourceLastModified < 0 || !Files.isRegularFile(snapshotFile)) {
+            return Optional.empty();
+        }
+        CatalogBinarySnapshot snapshot;
+        try {
+            snapshot = CatalogBinarySnapshot.open(snapshotFile);
+        } catch (IOException e) {
+            log.warn("카탈로그 스냅샷을 사용할 수 없어 CSV에서 적재합니다: {} ({})", snapshotFile, e.getMessage());
+            return Optional.empty();
+        }
+        if (!snapshot.source().equals(new CatalogBinarySnapshot.Source(sourceLength, sourceLastModified))) {
+            log.info("원본 CSV가 바뀌어 카탈로그 스냅샷을 사용하지 않습니다: {}", snapshotFile);
+            return Optional.empty();
+        }
+        Long existing = jdbcTemplate.getJdbcTemplate().queryForObject(COUNT_SQL, Long.class);
+        if (existing != null && existing > 0) {
+            log.info("상품 테이블이 비어 있지 않아 카탈로그 스냅샷을 사용하지 않습니다: {}건", existing);
+            return Optional.empty();
+        }
+
+        return Optional.of(execute(snapshotFile.toString(), run -> {
+            run.totalBytes = snapshot.sizeBytes();
+            List<ProductCsvReader.Row> chunk = new ArrayList<>(chunkSize);
+            snapshot.forEach((productNumber, name, price, stockQuantity) -> {
+                chunk.add(new ProductCsvReader.Row(run.rowsRead.get() + chunk.size() + 1,
+                        productNumber, name, price, stockQuantity));
+                if (chunk.size() >= chunkSize) {
+                    insertChunk(chunk, run, snapshot);
+                    chunk.clear();
+                }
+            });
+            if (!chunk.isEmpty()) {
+                insertChunk(chunk, run, snapshot);
+            }
+        }));
+    }
+
+    /**
+     * 현재 상품 테이블을 바이너리 스냅샷으로 저장 (임시 파일에 쓴 뒤 원자적으로 교체)
+     *
+     * @param snapshotFile 스냅샷 파일
+     * @param sourceLength 원본 CSV 크기 (bytes)
+     * @param sourceLastModified 원본 CSV 마지막 수정 시각 (epoch ms)
+     * @return 저장한 상품 수
+     * @throws IOException 파일을 쓸 수 없는 경우
+     */
+    public synchronized int saveSnapshot(Path snapshotFile, long sourceLength, long sourceLastModified) throws IOException {
+        long startNanos = System.nanoTime();
+        CatalogBinarySnapshot.Writer writer = new CatalogBinarySnapshot.Writer();
+        jdbcTemplate.getJdbcTemplate().query(SELECT_ALL_SQL, rs -> {
+            writer.add(rs.getLong(1), rs.getString(2), rs.getBigDecimal(3), rs.getInt(4));
+        });
+        long bytes = writer.writeTo(snapshotFile,
+                new CatalogBinarySnapshot.Source(sourceLength, sourceLastModified), clock.millis());
+        log.info("카탈로그 스냅샷 저장: {} - 상품 {}건, {} bytes, {}ms",
+                snapshotFile, writer.count(), bytes, (System.nanoTime() - startNanos) / 1_000_000);
+        return writer.count();
+    }
+
+    /**
+     * 빈 상품 테이블에 청크 일괄 추가 (스냅샷 적재용)
+     */
+    private void insertChunk(List<ProductCsvReader.Row> rows, Progress run, CatalogBinarySnapshot snapshot) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, row.productNumber());
+                    ps.setString(2, row.name());
+                    ps.setBigDecimal(3, row.price());
+                    ps.setInt(4, row.stockQuantity());
+                }));
+        long read = run.rowsRead.addAndGet(rows.size());
+        run.inserted.addAndGet(rows.size());
+        run.bytesRead.set(snapshot.sizeBytes() * read / Math.max(1, snapshot.count()));
+    }
+
+    private interface ImportBody {
+        void run(Progress run) throws IOException;
+    }
+
+    private CatalogImportStatusResponse execute(String source, ImportBody body) {
+        Progress run = new Progress(source, LocalDateTime.now(clock), System.nanoTime());
+        progress = run;
+        log.info("상품 카탈로그 가져오기 시작: {} (청크 {}건)", source, chunkSize);
+
+        try {
+            body.run(run);
+            run.finish(State.COMPLETED, null, LocalDateTime.now(clock));
+        } catch (IOException | RuntimeException e) {
+            log.error("상품 카탈로그 가져오기 실패: {}", source, e);
+            run.finish(State.FAILED, e.getMessage(), LocalDateTime.now(clock));
+        } finally {
+            if (run.inserted.get() > 0 || run.updated.get() > 0) {
+                catalogVersion.bump();
+            }
+        }
+
+        CatalogImportStatusResponse result = run.toResponse();
+        log.info("상품 카탈로그 가져오기 {}: 읽음 {}, 추가 {}, 갱신 {}, 변경 없음 {}, 실패 {}, {}ms ({} rows/s)",
+                result.getState(), result.getRowsRead(), result.getInserted(), result.getUpdated(),
+                result.getUnchanged(), result.getFailed(), result.getElapsedMillis(), Math.round(result.getRowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * 현재(또는 마지막) 가져오기 상태
+     */
+    public CatalogImportStatusResponse status() {
+        Progress current = progress;
+        if (current == null) {
+            return CatalogImportStatusResponse.builder().state(State.IDLE.name()).errors(List.of()).build();
+        }
+        return current.toResponse();
+    }
+
+    private void writeChunk(List<ProductCsvReader.Row> chunk, Progress run) {
+        // 같은 청크 안의 중복 상품번호는 마지막 행 적용
+        Map<Long, ProductCsvReader.Row> distinct = new LinkedHashMap<>(chunk.size() * 4 / 3 + 1);
+        for (ProductCsvReader.Row row : chunk) {
+            distinct.put(row.productNumber(), row);
+        }
+        List<ProductCsvReader.Row> rows = distinct.size() == chunk.size() ? chunk : new ArrayList<>(distinct.values());
+        try {
+            long[] counts = transactionTemplate.execute(status -> upsert(rows));
+            run.add(counts);
+        } catch (DataAccessException e) {
+            log.warn("청크 반영 실패, 행 단위로 재시도: {}행 ({}번 줄부터)", rows.size(), rows.get(0).lineNumber());
+            for (ProductCsvReader.Row row : rows) {
+                try {
+                    run.add(transactionTemplate.execute(status -> upsert(List.of(row))));
+                } catch (DataAccessException rowFailure) {
+                    run.fail(row.lineNumber(), "상품 반영 실패: " + rootMessage(rowFailure));
+                }
+            }
+        }
+
+        long read = run.rowsRead.get();
+        if (read / PROGRESS_LOG_INTERVAL != (read - rows.size()) / PROGRESS_LOG_INTERVAL) {
+            CatalogImportStatusResponse status = run.toResponse();
+            log.info("상품 카탈로그 가져오기 진행: {}행, {} rows/s", read, Math.round(status.getRowsPerSecond()));
+        }
+    }
+
+    /**
+     * 청크 반영
+     *
+     * @return [추가, 갱신, 변경 없음] 건수
+     */
+    private long[] upsert(List<ProductCsvReader.Row> rows) {
+        List<Long> productNumbers = new ArrayList<>(rows.size());
+        for (ProductCsvReader.Row row : rows) {
+            productNumbers.add(row.productNumber());
+        }
+        Set<Long> existing = new HashSet<>(jdbcTemplate.queryForList(
+                SELECT_EXISTING_SQL, Map.of("productNumbers", productNumbers), Long.class));
+
+        List<ProductCsvReader.Row> inserts = new ArrayList<>(rows.size() - existing.size());
+        List<ProductCsvReader.Row> updates = new ArrayList<>(existing.size());
+        for (ProductCsvReader.Row row : rows) {
+            (existing.contains(row.productNumber()) ? updates : inserts).add(row);
+        }
+
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SQL, inserts, inserts.size(), (ps, row) -> {
+                ps.setLong(1, row.productNumber());
+                ps.setString(2, row.name());
+                ps.setBigDecimal(3, row.price());
+                ps.setInt(4, row.stockQuantity());
+            });
+        }
+
+        long updated = 0;
+        if (!updates.isEmpty()) {
+            int[][] counts = jdbcTemplate.getJdbcTemplate().batchUpdate(UPDATE_SQL, updates, updates.size(), (ps, row) -> {
+                ps.setString(1, row.name());
+                ps.setBigDecimal(2, row.price());
+                ps.setLong(3, row.productNumber());
+                ps.setString(4, row.name());
+                ps.setBigDecimal(5, row.price());
+            });
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                        updated++;
+                    }
+                }
+            }
+        }
+        return new long[]{inserts.size(), updated, updates.size() - updated};
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    /**
+     * 가져오기 한 번의 진행 상황
+     */
+    private static final class Progress {
+
+        private final String source;
+        private final LocalDateTime startedAt;
+        private final long startNanos;
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong updated = new AtomicLong();
+        private final AtomicLong unchanged = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong bytesRead = new AtomicLong();
+        private final List<CatalogImportStatusResponse.RowError> errors = new ArrayList<>();
+
+        private volatile State state = State.RUNNING;
+        /** 전체 입력 크기 (모르면 -1) */
+        private volatile long totalBytes = -1;
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+        private volatile String failureMessage;
+
+        Progress(String source, LocalDateTime startedAt, long startNanos) {
+            this.source = source;
+            this.startedAt = startedAt;
+            this.startNanos = startNanos;
+        }
+
+        void add(long[] counts) {
+            inserted.addAndGet(counts[0]);
+            updated.addAndGet(counts[1]);
+            unchanged.addAndGet(counts[2]);
+        }
+
+        void fail(long lineNumber, String message) {
+            failed.incrementAndGet();
+            synchronized (errors) {
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new CatalogImportStatusResponse.RowError(lineNumber, message));
+                }
+            }
+        }
+
+        void finish(State state, String failureMessage, LocalDateTime finishedAt) {
+            this.finishedNanos = System.nanoTime();
+            this.failureMessage = failureMessage;
+            this.finishedAt = finishedAt;
+            this.state = state;
+        }
+
+        CatalogImportStatusResponse toResponse() {
+            State current = state;
+            long endNanos = current == State.RUNNING ? System.nanoTime() : finishedNanos;
+            long elapsedNanos = Math.max(1, endNanos - startNanos);
+            long read = rowsRead.get();
+            long bytes = bytesRead.get();
+            Double progressPercent = null;
+            Long etaSeconds = null;
+            if (current == State.COMPLETED) {
+                progressPercent = 100.0;
+                etaSeconds = 0L;
+            } else if (totalBytes > 0) {
+                progressPercent = Math.min(100.0, bytes * 100.0 / totalBytes);
+                if (current == State.RUNNING && bytes > 0) {
+                    // 지금까지의 평균 속도로 남은 바이트를 읽는 시간
+                    etaSeconds = (long) Math.ceil((double) Math.max(0, totalBytes - bytes) * elapsedNanos / bytes / 1_000_000_000.0);
+                }
+            }
+            List<CatalogImportStatusResponse.RowError> reported;
+            synchronized (errors) {
+                reported = List.copyOf(errors);
+            }
+            return CatalogImportStatusResponse.builder()
+                    .state(current.name())
+                    .source(source)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .rowsRead(read)
+                    .inserted(inserted.get())
+                    .updated(updated.get())
+                    .unchanged(unchanged.get())
+                    .failed(failed.get())
+                    .elapsedMillis(elapsedNanos / 1_000_000)
+                    .rowsPerSecond(read * 1_000_000_000.0 / elapsedNanos)
+                    .bytesRead(bytes)
+                    .totalBytes(totalBytes >= 0 ? totalBytes : null)
+                    .progressPercent(progressPercent)
+                    .etaSeconds(etaSeconds)
+                    .failureMessage(failureMessage)
+                    .errors(reported)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package kr.co._29cm.homework.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co._29cm.homework.dto.response.ApiResponse;
+import kr.co._29cm.homework.dto.response.ProductResponse;
+import kr.co._29cm.homework.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 전체 상품 목록 스냅샷 서비스
+ *
+ * 전체 상품 목록 응답을 미리 직렬화한 바이트 배열(원본, gzip)로 보관하고,
+ * 카탈로그 버전이 바뀌면 백그라운드에서 다시 생성합니다.
+ * 요청 경로에서는 조회/직렬화/압축 없이 보관된 바이트를 그대로 응답합니다.
+ *
+ * 주문으로 재고가 바뀔 때마다 카탈로그 버전이 오르므로, 전체 목록 응답은 버전이 뒤처져도 마지막으로 생성한 스냅샷을
+ * 그 스냅샷 버전의 ETag로 응답합니다({@link #latest()}). 스냅샷은 재생성 주기마다 따라잡으며,
+ * 생성한 지 catalog.snapshot.max-stale-ms가 지난 스냅샷은 사용하지 않습니다.
+ * 재고 확인처럼 최신 값이 필요한 곳은 버전이 일치하는 스냅샷만 사용합니다({@link #current()}).
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+@Service
+public class CatalogSnapshotService {
+
+    public static final String LIST_ALL_MESSAGE = "상품 목록을 성공적으로 조회했습니다";
+
+    private final ProductRepository productRepository;
+    private final CatalogVersion catalogVersion;
+    private final ObjectMapper objectMapper;
+    private final long maxStaleMillis;
+    private final Clock clock;
+
+    private final AtomicReference<Built> snapshot = new AtomicReference<>();
+
+    /**
+     * 생성한 스냅샷과 생성 시각
+     */
+    private record Built(Snapshot snapshot, long builtAtMillis) {}
+
+    @Autowired
+    public CatalogSnapshotService(ProductRepository productRepository, CatalogVersion catalogVersion,
+                                  ObjectMapper objectMapper,
+                                  @Value("${catalog.snapshot.max-stale-ms:10000}") long maxStaleMillis) {
+        this(productRepository, catalogVersion, objectMapper, maxStaleMillis, Clock.systemUTC());
+    }
+
+    CatalogSnapshotService(ProductRepository productRepository, CatalogVersion catalogVersion,
+                           ObjectMapper objectMapper, long maxStaleMillis, Clock clock) {
+        this.productRepository = productRepository;
+        this.catalogVersion = catalogVersion;
+        this.objectMapper = objectMapper;
+        this.maxStaleMillis = maxStaleMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 현재 카탈로그 버전과 일치하는 스냅샷 조회
+     *
+     * @return 최신 스냅샷 (아직 생성되지 않았거나 버전이 뒤처진 경우 empty)
+     */
+    public Optional<Snapshot> current() {
+        Built built = snapshot.get();
+        if (built == null || built.snapshot().version() != catalogVersion.current()) {
+            return Optional.empty();
+        }
+        return Optional.of(built.snapshot());
+    }
+
+    /**
+     * 마지막으로 생성한 스냅샷 조회 (카탈로그 버전이 뒤처져도 반환)
+     *
+     * @return 스냅샷 (아직 생성되지 않았거나 생성한 지 max-stale-ms가 지난 경우 empty)
+     */
+    public Optional<Snapshot> latest() {
+        Built built = snapshot.get();
+        if (built == null || clock.millis() - built.builtAtMillis() > maxStaleMillis) {
+            return Optional.empty();
+        }
+        return Optional.of(built.snapshot());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refreshIfStale();
+    }
+
+    /**
+     * 카탈로그 버전이 바뀐 경우 스냅샷 재생성
+     */
+    @Scheduled(fixedDelayString = "${catalog.snapshot.refresh-delay-ms:1000}")
+    public void refreshIfStale() {
+        Built current = snapshot.get();
+        long version = catalogVersion.current();
+        if (current != null && current.snapshot().version() == version) {
+            return;
+        }
+        try {
+            long builtAt = clock.millis();
+            snapshot.set(new Built(build(version), builtAt));
+        } catch (Exception e) {
+            log.error("카탈로그 스냅샷 생성 실패: version={}", version, e);
+        }
+    }
+
+    /**
+     * 스냅샷 생성
+     *
+     * 버전을 먼저 읽고 조회하므로, 조회 도중 변경이 커밋되면 다음 주기에 다시 생성됩니다.
+     */
+    Snapshot build(long version) throws IOException {
+        List<ProductResponse> products = productRepository.findAllProductResponses();
+        byte[] identity = objectMapper.writeValueAsBytes(ApiResponse.success(products, LIST_ALL_MESSAGE));
+        byte[] gzip = gzip(identity);
+        Map<Long, ProductResponse> byProductNumber = new HashMap<>(Math.max(16, products.size() * 4 / 3 + 1));
+        for (ProductResponse product : products) {
+            byProductNumber.put(product.getProductNumber(), product);
+        }
+        log.info("카탈로그 스냅샷 생성: version={}, 상품 {}건, {} bytes (gzip {} bytes)",
+                version, products.size(), identity.length, gzip.length);
+        return new Snapshot(version, "\"" + version + "\"", identity, gzip, Collections.unmodifiableMap(byProductNumber));
+    }
+
+    private byte[] gzip(byte[] source) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, source.length / 4));
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(source);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 미리 인코딩된 전체 상품 목록 스냅샷
+     *
+     * @param version 스냅샷 생성 시점의 카탈로그 버전
+     * @param etag 버전 기반 강한 ETag (gzip 변형은 {@link #gzipEtag()})
+     * @param identity 압축하지 않은 JSON 바이트
+     * @param gzip gzip 압축된 JSON 바이트
+     * @param products 상품번호별 상품 응답 (다건 조회 캐시로 사용)
+     */
+    public record Snapshot(long version, String etag, byte[] identity, byte[] gzip,
+                           Map<Long, ProductResponse> products) {
+
+        /**
+         * gzip 변형의 강한 ETag (강한 검증자는 콘텐츠 코딩마다 달라야 하므로 -gzip을 붙임)
+         */
+        public String gzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+
+        /**
+         * Accept-Encoding 헤더에 맞는 변형의 ETag
+         */
+        public String etag(String acceptEncoding) {
+            return acceptsGzip(acceptEncoding) ? gzipEtag() : etag;
+        }
+
+        /**
+         * Accept-Encoding 헤더에 맞는 변형으로 응답 생성
+         */
+        public ResponseEntity<byte[]> toResponseEntity(String acceptEncoding) {
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip(acceptEncoding)) {
+                return builder.eTag(gzipEtag()).header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip);
+            }
+            return builder.eTag(etag).body(identity);
+        }
+
+        static boolean acceptsGzip(String acceptEncoding) {
+            if (acceptEncoding == null) {
+                return false;
+            }
+            for (String token : acceptEncoding.split(",")) {
+                String[] parts = token.trim().split(";");
+                String coding = parts[0].trim();
+                if (!"gzip".equalsIgnoreCase(coding) && !"*".equals(coding)) {
+                    continue;
+                }
+                boolean disabled = parts.length > 1 && parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+                return !disabled;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package kr.co._29cm.homework.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 상품 카탈로그 증분 동기화 서비스
+ *
+ * 동기화 디렉터리(catalog.sync.directory)에 놓인 전체 상품 CSV 파일을 주기적으로 처리합니다.
+ * 행마다 상품명/판매가격의 지문과 재고수량을 마지막으로 반영한 값과 따로 비교하고,
+ * 달라진 행만 청크 단위 JDBC 배치로 반영합니다. 재고는 주문으로 줄어드는 운영 데이터이므로
+ * 파일의 재고수량이 마지막으로 반영한 재고수량과 다를 때만 덮어쓰고, 상품명/가격만 바뀐 행은 재고를 건드리지 않습니다.
+ *
+ * 기동 후 첫 동기화는 DB의 현재 상품으로 지문을 만들어 비교하므로 전체를 다시 반영하지 않습니다.
+ * 반영에 실패한 행은 이전 지문을 유지하여 다음 파일에서 다시 반영합니다.
+ * 처리한 파일은 processed/(실패 시 failed/) 하위 디렉터리로 옮깁니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+@Service
+public class CatalogSyncService {
+
+    static final String PROCESSED_DIRECTORY = "processed";
+    static final String FAILED_DIRECTORY = "failed";
+
+    private static final String SELECT_ALL_SQL =
+            "SELECT product_number, name, price, stock_quantity FROM products";
+    private static final String UPDATE_SQL =
+            "UPDATE products SET name = ?, price = ?, stock_quantity = ?, version = version + 1 WHERE product_number = ?";
+    private static final String UPDATE_DETAILS_SQL =
+            "UPDATE products SET name = ?, price = ?, version = version + 1 WHERE product_number = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO products (product_number, name, price, stock_quantity, version) VALUES (?, ?, ?, ?, 0)";
+
+    /**
+     * 동기화 한 번의 결과
+     */
+    public record Result(String state, long rowsRead, long inserted, long updated, long unchanged, long failed,
+                         long elapsedMillis) {}
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogVersion catalogVersion;
+    private final ObjectProvider<StockStreamService> stockStreamService;
+    private final Path directory;
+    private final long settleMillis;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Clock clock;
+
+    /**
+     * 마지막으로 반영한 상품 정보 지문과 재고수량 지문
+     */
+    private record Applied(CatalogFingerprints details, CatalogFingerprints stocks) {
+
+        Applied(int expectedSize) {
+            this(new CatalogFingerprints(expectedSize), new CatalogFingerprints(expectedSize));
+        }
+
+        void put(long productNumber, long details, long stock) {
+            this.details.put(productNumber, details);
+            this.stocks.put(productNumber, stock);
+        }
+    }
+
+    /** 마지막으로 반영한 지문 (첫 동기화 전에는 null) */
+    private volatile Applied applied;
+
+    @Autowired
+    public CatalogSyncService(NamedParameterJdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              CatalogVersion catalogVersion,
+                              ObjectProvider<StockStreamService> stockStreamService,
+                              @Value("${catalog.sync.directory:}") String directory,
+                              @Value("${catalog.sync.settle-ms:2000}") long settleMillis,
+                              @Value("${catalog.import.chunk-size:1000}") int chunkSize,
+                              @Value("${catalog.import.parallelism:0}") int parallelism) {
+        this(jdbcTemplate, transactionManager, catalogVersion, stockStreamService, directory, settleMillis,
+                chunkSize, parallelism, Clock.systemDefaultZone());
+    }
+
+    CatalogSyncService(NamedParameterJdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                       CatalogVersion catalogVersion, ObjectProvider<StockStreamService> stockStreamService,
+                       String directory, long settleMillis, int chunkSize, int parallelism, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.catalogVersion = catalogVersion;
+        this.stockStreamService = stockStreamService;
+        this.directory = StringUtils.hasText(directory) ? Path.of(directory) : null;
+        this.settleMillis = settleMillis;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.clock = clock;
+    }
+
+    /**
+     * 동기화 디렉터리의 CSV 파일을 수정 시각 순서로 처리
+     *
+     * 마지막 수정 후 catalog.sync.settle-ms가 지나지 않은 파일은 아직 쓰는 중으로 보고 다음 주기에 처리합니다.
+     *
+     * @return 처리한 파일 수
+     */
+    @Scheduled(fixedDelayString = "${catalog.sync.poll-delay-ms:10000}")
+    public int poll() {
+        if (directory == null || !Files.isDirectory(directory)) {
+            return 0;
+        }
+        List<Path> ready;
+        long settledBefore = clock.millis() - settleMillis;
+        try (Stream<Path> files = Files.list(directory)) {
+            ready = files.filter(Files::isRegularFile)
+                    .filter(file -> file.getFileName().toString().endsWith(".csv"))
+                    .filter(file -> lastModified(file) <= settledBefore)
+                    .sorted(Comparator.comparingLong(CatalogSyncService::lastModified))
+                    .toList();
+        } catch (IOException e) {
+            log.warn("상품 동기화 디렉터리를 읽을 수 없습니다: {}", directory, e);
+            return 0;
+        }
+        for (Path file : ready) {
+            Result result = sync(file);
+            moveTo(file, "COMPLETED".equals(result.state()) ? PROCESSED_DIRECTORY : FAILED_DIRECTORY);
+        }
+        return ready.size();
+    }
+
+    /**
+     * 전체 상품 CSV 파일과 마지막으로 반영한 지문을 비교하여 달라진 행만 반영
+     *
+     * @param file 전체 상품 CSV 파일
+     * @return 동기화 결과
+     */
+    public synchronized Result sync(Path file) {
+        long startNanos = System.nanoTime();
+        Applied previous = applied != null ? applied : loadFromDatabase();
+        Applied next = new Applied(previous.details().size());
+        AtomicLong rowsRead = new AtomicLong();
+        AtomicLong inserted = new AtomicLong();
+        AtomicLong updated = new AtomicLong();
+        AtomicLong unchanged = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+
+        String state = "COMPLETED";
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            new MappedProductCsvParser(MappedProductCsvParser.DEFAULT_SEGMENT_BYTES, chunkSize).parse(file, pool,
+                    new MappedProductCsvParser.Sink() {
+                        @Override
+                        public void rows(List<ProductCsvReader.Row> rows) {
+                            rowsRead.addAndGet(rows.size());
+                            long[] details = new long[rows.size()];
+                            long[] stocks = new long[rows.size()];
+                            List<ProductCsvReader.Row> stockChanged = new ArrayList<>();
+                            List<ProductCsvReader.Row> detailsChanged = new ArrayList<>();
+                            for (int i = 0; i < rows.size(); i++) {
+                                ProductCsvReader.Row row = rows.get(i);
+                                details[i] = CatalogFingerprints.of(row.name(), row.price());
+                                stocks[i] = CatalogFingerprints.ofStock(row.stockQuantity());
+                                if (previous.stocks().get(row.productNumber()) != stocks[i]) {
+                                    stockChanged.add(row);
+                                } else if (previous.details().get(row.productNumber()) != details[i]) {
+                                    detailsChanged.add(row);
+                                }
+                            }
+                            unchanged.addAndGet(rows.size() - stockChanged.size() - detailsChanged.size());
+                            List<ProductCsvReader.Row> failedRows = stockChanged.isEmpty() && detailsChanged.isEmpty()
+                                    ? List.of() : apply(stockChanged, detailsChanged, inserted, updated);
+                            failed.addAndGet(failedRows.size());
+
+                            synchronized (next) {
+                                for (int i = 0; i < rows.size(); i++) {
+                                    next.put(rows.get(i).productNumber(), details[i], stocks[i]);
+                                }
+                                for (ProductCsvReader.Row row : failedRows) {
+                                    // 다음 동기화에서 다시 반영되도록 이전 지문 유지
+                                    next.put(row.productNumber(), previous.details().get(row.productNumber()),
+                                            previous.stocks().get(row.productNumber()));
+                                }
+                            }
+                        }
+
+                        @Override
+                        public void error(long lineNumber, String message) {
+                            rowsRead.incrementAndGet();
+                            failed.incrementAndGet();
+                            log.debug("상품 동기화 행 건너뜀: {} {}번 줄 - {}", file.getFileName(), lineNumber, message);
+                        }
+                    });
+            applied = next;
+        } catch (IOException | RuntimeException e) {
+            log.error("상품 카탈로그 동기화 실패: {}", file, e);
+            state = "FAILED";
+            // 일부만 반영되었을 수 있으므로 이전 지문을 유지 (다음 파일에서 다시 비교)
+            applied = previous;
+        } finally {
+            pool.shutdown();
+            if (inserted.get() > 0 || updated.get() > 0) {
+                catalogVersion.bump();
+            }
+        }
+
+        Result result = new Result(state, rowsRead.get(), inserted.get(), updated.get(), unchanged.get(),
+                failed.get(), (System.nanoTime() - startNanos) / 1_000_000);
+        log.info("상품 카탈로그 동기화 {}: {} - 읽음 {}, 추가 {}, 갱신 {}, 변경 없음 {}, 실패 {}, {}ms",
+                result.state(), file.getFileName(), result.rowsRead(), result.inserted(), result.updated(),
+                result.unchanged(), result.failed(), result.elapsedMillis());
+        return result;
+    }
+
+    /**
+     * DB의 현재 상품으로 기준 지문 생성 (기동 후 첫 동기화, 재고는 현재 재고를 마지막으로 반영한 값으로 봄)
+     */
+    private Applied loadFromDatabase() {
+        Applied fingerprints = new Applied(1024);
+        jdbcTemplate.getJdbcTemplate().query(SELECT_ALL_SQL, rs -> {
+            fingerprints.put(rs.getLong(1), CatalogFingerprints.of(rs.getString(2), rs.getBigDecimal(3)),
+                    CatalogFingerprints.ofStock(rs.getInt(4)));
+        });
+        log.info("상품 동기화 기준 지문 적재: {}건", fingerprints.details().size());
+        return fingerprints;
+    }
+
+    /**
+     * 달라진 행 반영 (한 트랜잭션, 실패하면 행 단위로 재시도)
+     *
+     * @param stockChanged 재고수량이 바뀐 행 (상품명/가격/재고 모두 반영)
+     * @param detailsChanged 상품명/가격만 바뀐 행 (재고 유지)
+     * @return 반영하지 못한 행
+     */
+    private List<ProductCsvReader.Row> apply(List<ProductCsvReader.Row> stockChanged,
+                                             List<ProductCsvReader.Row> detailsChanged,
+                                             AtomicLong inserted, AtomicLong updated) {
+        try {
+            long[] counts = transactionTemplate.execute(status -> upsert(stockChanged, detailsChanged));
+            inserted.addAndGet(counts[0]);
+            updated.addAndGet(counts[1]);
+            return List.of();
+        } catch (DataAccessException e) {
+            log.warn("상품 동기화 청크 반영 실패, 행 단위로 재시도: {}행", stockChanged.size() + detailsChanged.size());
+        }
+        List<ProductCsvReader.Row> failedRows = new ArrayList<>();
+        for (ProductCsvReader.Row row : stockChanged) {
+            retry(row, List.of(row), List.of(), inserted, updated, failedRows);
+        }
+        for (ProductCsvReader.Row row : detailsChanged) {
+            retry(row, List.of(), List.of(row), inserted, updated, failedRows);
+        }
+        return failedRows;
+    }
+
+    private void retry(ProductCsvReader.Row row, List<ProductCsvReader.Row> stockChanged,
+                       List<ProductCsvReader.Row> detailsChanged, AtomicLong inserted, AtomicLong updated,
+                       List<ProductCsvReader.Row> failedRows) {
+        try {
+            long[] counts = transactionTemplate.execute(status -> upsert(stockChanged, detailsChanged));
+            inserted.addAndGet(counts[0]);
+            updated.addAndGet(counts[1]);
+        } catch (DataAccessException e) {
+            log.warn("상품 동기화 실패: 상품번호 {} ({}번 줄)", row.productNumber(), row.lineNumber(), e);
+            failedRows.add(row);
+        }
+    }
+
+    /**
+     * @return [추가, 갱신] 건수
+     */
+    private long[] upsert(List<ProductCsvReader.Row> stockChanged, List<ProductCsvReader.Row> detailsChanged) {
+        List<ProductCsvReader.Row> inserts = new ArrayList<>();
+        if (!stockChanged.isEmpty()) {
+            collectMissing(stockChanged, inserts, jdbcTemplate.getJdbcTemplate().batchUpdate(UPDATE_SQL,
+                    stockChanged, stockChanged.size(), (ps, row) -> {
+                        ps.setString(1, row.name());
+                        ps.setBigDecimal(2, row.price());
+                        ps.setInt(3, row.stockQuantity());
+                        ps.setLong(4, row.productNumber());
+                    }));
+        }
+        int stockInserts = inserts.size();
+        if (!detailsChanged.isEmpty()) {
+            collectMissing(detailsChanged, inserts, jdbcTemplate.getJdbcTemplate().batchUpdate(UPDATE_DETAILS_SQL,
+                    detailsChanged, detailsChanged.size(), (ps, row) -> {
+                        ps.setString(1, row.name());
+                        ps.setBigDecimal(2, row.price());
+                        ps.setLong(3, row.productNumber());
+                    }));
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SQL, inserts, inserts.size(), (ps, row) -> {
+                ps.setLong(1, row.productNumber());
+                ps.setString(2, row.name());
+                ps.setBigDecimal(3, row.price());
+                ps.setInt(4, row.stockQuantity());
+            });
+        }
+        // JDBC로 직접 반영하므로 엔티티 리스너 대신 재고 스트림에 직접 전달 (재고를 쓴 행만)
+        stockStreamService.ifAvailable(stream -> {
+            for (ProductCsvReader.Row row : stockChanged) {
+                stream.publishAfterCommit(row.productNumber(), row.stockQuantity());
+            }
+            for (ProductCsvReader.Row row : inserts.subList(stockInserts, inserts.size())) {
+                stream.publishAfterCommit(row.productNumber(), row.stockQuantity());
+            }
+        });
+        int total = stockChanged.size() + detailsChanged.size();
+        return new long[]{inserts.size(), total - inserts.size()};
+    }
+
+    /**
+     * 갱신된 행이 없는 상품을 추가 대상으로 모음
+     */
+    private static void collectMissing(List<ProductCsvReader.Row> rows, List<ProductCsvReader.Row> inserts,
+                                       int[][] counts) {
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    inserts.add(rows.get(index));
+                }
+                index++;
+            }
+        }
+    }
+
+    private void moveTo(Path file, String subdirectory) {
+        try {
+            Path target = directory.resolve(subdirectory);
+            Files.createDirectories(target);
+            Files.move(file, target.resolve(clock.millis() + "-" + file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("처리한 상품 CSV 파일을 옮길 수 없습니다: {}", file, e);
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package kr.co._29cm.homework.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카탈로그 버전 카운터
+ *
+ * 상품 정보나 배송비 정책이 변경될 때마다 단조 증가하는 버전을 관리하며,
+ * 이 버전으로 카탈로그 조회 API의 강한 ETag를 생성합니다.
+ * 재시작 후에도 이전 ETag와 겹치지 않도록 기동 시각(ms)을 초기값으로 사용합니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+@Component
+public class CatalogVersion {
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    /**
+     * 현재 카탈로그 버전
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * 현재 버전 기반의 강한 ETag (예: "\"1737280800000\"")
+     */
+    public String etag() {
+        return "\"" + version.get() + "\"";
+    }
+
+    /**
+     * 카탈로그 버전 증가
+     *
+     * @return 증가된 버전
+     */
+    public long bump() {
+        long next = version.incrementAndGet();
+        log.debug("카탈로그 버전 증가: {}", next);
+        return next;
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 카탈로그 버전 증가
+     *
+     * 커밋 전에 버전을 올리면 새 ETag로 이전 데이터가 캐시될 수 있으므로,
+     * 활성 트랜잭션이 있으면 커밋 시점까지 증가를 미룹니다.
+     */
+    public void bumpAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump();
+            }
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package kr.co._29cm.homework.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co._29cm.homework.dto.response.ApiResponse;
+import kr.co._29cm.homework.dto.response.OrderSummaryResponse;
+import kr.co._29cm.homework.dto.response.PageResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 종료된 기간의 주문 목록 페이지 캐시
+ *
+ * 주문은 변경되지 않으므로 종료일이 커밋 지연 허용 구간(commit horizon)보다 과거인
+ * 기간 조회 결과는 항상 같습니다. 이러한 페이지(총 건수 포함)를 직렬화된 응답으로
+ * 기간/페이지/크기별로 만료 없이 보관하며, 바이트 예산을 넘으면 LRU로 제거합니다.
+ * 현재 시점에 걸친 기간은 캐시하지 않습니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+@Component
+public class ClosedRangeOrderPageCache {
+
+    public static final String ORDER_LIST_MESSAGE = "주문 목록을 성공적으로 조회했습니다";
+
+    private final ObjectMapper objectMapper;
+    private final OffHeapLruStore<RangeKey> store;
+    private final Duration commitHorizon;
+    private final Clock clock;
+
+    @Autowired
+    public ClosedRangeOrderPageCache(ObjectMapper objectMapper,
+                                     @Value("${order.range-cache.max-bytes:8388608}") long maxBytes,
+                                     @Value("${order.range-cache.commit-horizon-ms:60000}") long commitHorizonMs) {
+        this(objectMapper, new OffHeapLruStore<>(maxBytes, 1 << 20, 1024),
+                Duration.ofMillis(commitHorizonMs), Clock.systemDefaultZone());
+    }
+
+    ClosedRangeOrderPageCache(ObjectMapper objectMapper, OffHeapLruStore<RangeKey> store,
+                              Duration commitHorizon, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.store = store;
+        this.commitHorizon = commitHorizon;
+        this.clock = clock;
+    }
+
+    /**
+     * 캐시 가능한(종료된) 기간인지 확인
+     *
+     * 주문일시는 커밋 전에 정해지므로, 종료일 이후 커밋 지연 허용 구간이 지나야
+     * 해당 기간에 새 주문이 나타나지 않는다고 봅니다.
+     */
+    public boolean isClosed(LocalDateTime endDate) {
+        return endDate.plus(commitHorizon).isBefore(LocalDateTime.now(clock));
+    }
+
+    public Optional<byte[]> get(LocalDateTime startDate, LocalDateTime endDate, int page, int size) {
+        return store.get(new RangeKey(startDate, endDate, page, size));
+    }
+
+    /**
+     * 기간 조회 페이지를 직렬화하여 저장
+     *
+     * @return 직렬화된 응답 본문
+     */
+    public byte[] put(LocalDateTime startDate, LocalDateTime endDate, int page, int size,
+                      PageResponse<OrderSummaryResponse> pageResponse) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(ApiResponse.success(pageResponse, ORDER_LIST_MESSAGE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 목록 응답 직렬화 실패", e);
+        }
+        if (!store.put(new RangeKey(startDate, endDate, page, size), body)) {
+            log.debug("주문 목록 캐시 용량 초과로 저장 생략: {} ~ {}, {} bytes", startDate, endDate, body.length);
+        }
+        return body;
+    }
+
+    record RangeKey(LocalDateTime startDate, LocalDateTime endDate, int page, int size) {
+    }
+}
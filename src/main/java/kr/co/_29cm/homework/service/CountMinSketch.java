@@ -0,0 +1,78 @@
+package kr.co._29cm.homework.service;
+
+import java.util.Arrays;
+
+/**
+ * Count-Min 스케치
+ *
+ * 고정 크기(depth x width)의 카운터 배열로 키별 누적값의 상한 추정치를 제공합니다.
+ * 키 개수와 관계없이 메모리 사용량이 일정하며, 추정치는 실제값보다 작지 않습니다.
+ * 동기화는 호출 측에서 담당합니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+class CountMinSketch {
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x27D4EB2F165667C5L, 0x94D049BB133111EBL
+    };
+
+    private final int depth;
+    private final int mask;
+    private final long[][] counts;
+
+    /**
+     * @param depth 해시 함수 수 (최대 8)
+     * @param width 행당 카운터 수 (2의 거듭제곱으로 올림)
+     */
+    CountMinSketch(int depth, int width) {
+        if (depth < 1 || depth > SEEDS.length || width < 1) {
+            throw new IllegalArgumentException("Count-Min 스케치 크기 설정이 올바르지 않습니다.");
+        }
+        int size = Integer.highestOneBit(Math.max(1, width - 1)) << 1;
+        this.depth = depth;
+        this.mask = size - 1;
+        this.counts = new long[depth][size];
+    }
+
+    void add(long key, long amount) {
+        for (int row = 0; row < depth; row++) {
+            counts[row][index(key, row)] += amount;
+        }
+    }
+
+    long estimate(long key) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counts[row][index(key, row)]);
+        }
+        return min;
+    }
+
+    /**
+     * 키의 행별 카운터를 누적 배열에 더함
+     *
+     * 여러 스케치(같은 크기)의 행별 합계에서 최솟값을 취하면 합산 스케치의 추정치가 됩니다.
+     */
+    void addRowCounts(long key, long[] rowSums) {
+        for (int row = 0; row < depth; row++) {
+            rowSums[row] += counts[row][index(key, row)];
+        }
+    }
+
+
+    void clear() {
+        for (long[] row : counts) {
+            Arrays.fill(row, 0);
+        }
+    }
+
+    private int index(long key, int row) {
+        long h = (key ^ SEEDS[row]) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 31)) * 0x94D049BB133111EBL;
+        return (int) (h ^ (h >>> 29)) & mask;
+    }
+}
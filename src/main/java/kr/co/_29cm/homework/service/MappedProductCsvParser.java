@@ -0,0 +1,537 @@
+package kr.co._29cm.homework.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 메모리 맵 기반 병렬 상품 CSV 파서
+ *
+ * 파일을 일정 크기의 구간으로 나누어 메모리 맵으로 읽고, 구간들을 fork/join 풀에서 병렬로 파싱합니다.
+ * 형식과 오류 메시지는 {@link ProductCsvReader}와 같습니다.
+ *
+ * 따옴표는 필드 맨 앞에 올 때만 필드를 감싸고, ""는 따옴표 필드 안에서만 따옴표 하나로 읽습니다.
+ * 그 밖의 따옴표(예: 27" 모니터)는 글자 그대로이므로 뒤따르는 레코드에 영향을 주지 않습니다.
+ *
+ * 구간 경계는 두 단계로 정합니다. 먼저 구간마다 가능한 모든 시작 상태(필드 시작, 따옴표 없는 필드 안,
+ * 따옴표 필드 안, 따옴표 필드 안의 따옴표 직후)에서 동시에 해석하여 시작 상태별 끝 상태와
+ * 첫 레코드 시작 위치를 병렬로 구하고, 파일 처음부터 끝 상태를 이어 붙여 각 구간의 실제 시작 상태를 정합니다.
+ * 따라서 따옴표 안의 쉼표와 줄바꿈이 있어도 레코드가 잘리지 않고, 줄 번호도 파일 전체 기준으로 계산됩니다.
+ *
+ * 상품번호, 재고수량, 판매가격(18자리 이하 소수)은 문자열을 만들지 않고 바이트에서 바로 해석하며,
+ * 레코드마다 만드는 문자열은 상품명 하나뿐입니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+final class MappedProductCsvParser {
+
+    static final int DEFAULT_SEGMENT_BYTES = 32 << 20;
+
+    private static final int FIELD_COUNT = 4;
+    private static final long INVALID = Long.MIN_VALUE;
+
+    /** 필드 시작 (따옴표면 따옴표 필드) */
+    private static final int FIELD_START = 0;
+    /** 따옴표 없는 필드 안 (따옴표는 글자 그대로) */
+    private static final int UNQUOTED = 1;
+    /** 따옴표 필드 안 (쉼표, 줄바꿈도 필드 내용) */
+    private static final int QUOTED = 2;
+    /** 따옴표 필드 안에서 따옴표 직후 (다음이 따옴표면 "", 아니면 닫는 따옴표) */
+    private static final int QUOTE_IN_QUOTED = 3;
+    private static final int STATES = 4;
+
+    /**
+     * 파싱 결과 수신 (여러 작업 스레드에서 동시에 호출되므로 스레드 안전해야 함)
+     */
+    interface Sink {
+
+        /**
+         * 한 구간에서 파싱한 행 묶음 (파일 순서, 최대 batchSize건)
+         */
+        void rows(List<ProductCsvReader.Row> rows);
+
+        void error(long lineNumber, String message);
+
+        /**
+         * 파싱을 마친 바이트 수 (묶음을 넘길 때마다 직전 보고 이후 증가분)
+         */
+        default void progress(long bytes) {
+        }
+    }
+
+    private final int segmentBytes;
+    private final int batchSize;
+
+    MappedProductCsvParser(int segmentBytes, int batchSize) {
+        if (segmentBytes <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("구간 크기와 묶음 크기는 1 이상이어야 합니다.");
+        }
+        this.segmentBytes = segmentBytes;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 파일 전체 파싱 (첫 줄은 헤더로 건너뜀)
+     *
+     * @param pool 구간 파싱을 실행할 풀
+     * @throws IOException 파일을 읽을 수 없거나 한 레코드가 구간 크기보다 긴 경우
+     */
+    void parse(Path file, ForkJoinPool pool, Sink sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return;
+            }
+            int count = (int) ((size + segmentBytes - 1) / segmentBytes);
+
+            Scan[] scans = new Scan[count];
+            run(pool, count, i -> scans[i] = scan(channel,
+                    (long) i * segmentBytes, Math.min(size, (long) (i + 1) * segmentBytes)));
+
+            // 레코드 경계에 맞춘 구간 시작 위치와 시작 줄 번호 (-1이면 앞 구간에 합침)
+            long[] starts = new long[count + 1];
+            long[] firstLines = new long[count];
+            starts[count] = size;
+            firstLines[0] = 1;
+            int state = FIELD_START;
+            long newlines = 0;
+            for (int i = 1; i < count; i++) {
+                state = scans[i - 1].endStates[state];
+                newlines += scans[i - 1].newlines;
+                starts[i] = scans[i].recordStarts[state];
+                firstLines[i] = 1 + newlines + scans[i].recordLines[state];
+            }
+
+            List<int[]> segments = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                if (starts[i] < 0) {
+                    continue;
+                }
+                int next = i + 1;
+                while (starts[next] < 0) {
+                    next++;
+                }
+                if (starts[next] > starts[i]) {
+                    segments.add(new int[]{i, next});
+                }
+            }
+            run(pool, segments.size(), k -> {
+                int[] segment = segments.get(k);
+                parseSegment(channel, starts[segment[0]], starts[segment[1]], firstLines[segment[0]], segment[0] == 0, sink);
+            });
+        }
+    }
+
+    /**
+     * 한 바이트를 읽은 뒤의 상태
+     */
+    private static int next(int state, byte b) {
+        if (state == QUOTED) {
+            return b == '"' ? QUOTE_IN_QUOTED : QUOTED;
+        }
+        if (b == '"' && state != UNQUOTED) {
+            return QUOTED; // 여는 따옴표 또는 ""의 두 번째 따옴표
+        }
+        return b == ',' || b == '\n' ? FIELD_START : UNQUOTED;
+    }
+
+    /**
+     * 구간을 시작 상태별로 해석한 결과 (배열 첨자는 시작 상태)
+     *
+     * @param newlines 구간의 줄바꿈 수
+     * @param endStates 구간 끝의 상태
+     * @param recordStarts 레코드를 끝내는 첫 줄바꿈 다음 위치 (없으면 -1)
+     * @param recordLines 그 위치까지의 줄바꿈 수
+     */
+    private record Scan(long newlines, int[] endStates, long[] recordStarts, long[] recordLines) {}
+
+    /**
+     * 구간을 네 시작 상태에서 동시에 해석
+     *
+     * 상태와 레코드 시작 발견 여부가 같아진 해석은 이후로도 같으므로 하나로 합쳐,
+     * 보통은 한두 개의 해석만 끝까지 따라갑니다.
+     */
+    private static Scan scan(FileChannel channel, long from, long to) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        int[] states = {FIELD_START, UNQUOTED, QUOTED, QUOTE_IN_QUOTED};
+        long[] recordStarts = {-1, -1, -1, -1};
+        long[] recordLines = new long[STATES];
+        int[] mergedInto = {0, 1, 2, 3};
+        int[] live = {0, 1, 2, 3};
+        int liveCount = STATES;
+        long newlines = 0;
+        for (int i = 0, limit = buffer.limit(); i < limit; i++) {
+            byte b = buffer.get(i);
+            if (b == '\n') {
+                newlines++;
+            }
+            for (int k = 0; k < liveCount; k++) {
+                int run = live[k];
+                if (b == '\n' && states[run] != QUOTED && recordStarts[run] < 0) {
+                    recordStarts[run] = from + i + 1;
+                    recordLines[run] = newlines;
+                }
+                states[run] = next(states[run], b);
+            }
+            if (liveCount > 1) {
+                liveCount = merge(states, recordStarts, mergedInto, live, liveCount);
+            }
+        }
+
+        int[] endStates = new int[STATES];
+        long[] starts = new long[STATES];
+        long[] lines = new long[STATES];
+        for (int s = 0; s < STATES; s++) {
+            int run = s;
+            while (recordStarts[run] < 0 && mergedInto[run] != run) {
+                run = mergedInto[run];
+            }
+            starts[s] = recordStarts[run];
+            lines[s] = recordLines[run];
+            while (mergedInto[run] != run) {
+                run = mergedInto[run];
+            }
+            endStates[s] = states[run];
+        }
+        return new Scan(newlines, endStates, starts, lines);
+    }
+
+    /**
+     * 같아진 해석 하나를 합침
+     *
+     * @return 남은 해석 수
+     */
+    private static int merge(int[] states, long[] recordStarts, int[] mergedInto, int[] live, int liveCount) {
+        for (int x = 0; x < liveCount; x++) {
+            for (int y = x + 1; y < liveCount; y++) {
+                int a = live[x];
+                int b = live[y];
+                if (states[a] == states[b] && (recordStarts[a] < 0) == (recordStarts[b] < 0)) {
+                    mergedInto[b] = a;
+                    live[y] = live[--liveCount];
+                    return liveCount;
+                }
+            }
+        }
+        return liveCount;
+    }
+
+    private void parseSegment(FileChannel channel, long from, long to, long firstLine,
+                              boolean skipHeader, Sink sink) throws IOException {
+        if (to - from > Integer.MAX_VALUE) {
+            throw new IOException("레코드 경계를 찾을 수 없습니다: " + from + "바이트 위치부터 " + (to - from) + "바이트");
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        SegmentParser parser = new SegmentParser(buffer);
+        List<ProductCsvReader.Row> batch = new ArrayList<>(batchSize);
+        long line = firstLine;
+        int pos = 0;
+        int reported = 0;
+        int limit = buffer.limit();
+        while (pos < limit) {
+            long recordLine = line;
+            int end = parser.scanRecord(pos);
+            line += parser.newlines;
+            pos = end + 1;
+            if (skipHeader) {
+                skipHeader = false;
+                continue;
+            }
+            if (parser.isBlank()) {
+                continue;
+            }
+            if (parser.fields < FIELD_COUNT) {
+                sink.error(recordLine, "필드 수가 부족합니다: " + parser.fields + "개");
+                continue;
+            }
+            try {
+                batch.add(parser.toRow(recordLine));
+            } catch (IllegalArgumentException e) {
+                sink.error(recordLine, e.getMessage());
+                continue;
+            }
+            if (batch.size() >= batchSize) {
+                sink.rows(batch);
+                batch = new ArrayList<>(batchSize);
+                sink.progress(Math.min(pos, limit) - reported);
+                reported = Math.min(pos, limit);
+            }
+        }
+        if (!batch.isEmpty()) {
+            sink.rows(batch);
+        }
+        sink.progress(limit - reported);
+    }
+
+    /**
+     * 한 구간의 레코드 해석 (스레드마다 하나씩 사용)
+     */
+    private static final class SegmentParser {
+
+        private final MappedByteBuffer buffer;
+        private final int[] starts = new int[FIELD_COUNT];
+        private final int[] ends = new int[FIELD_COUNT];
+        private final boolean[] quoted = new boolean[FIELD_COUNT];
+        private byte[] scratch = new byte[256];
+
+        /** 마지막으로 읽은 레코드의 필드 수 */
+        int fields;
+        /** 마지막으로 읽은 레코드가 차지한 줄바꿈 수 (종료 줄바꿈 포함) */
+        int newlines;
+
+        SegmentParser(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * pos부터 레코드 하나의 필드 경계를 기록
+         *
+         * @return 레코드를 끝내는 줄바꿈 위치 (없으면 구간 끝)
+         */
+        int scanRecord(int pos) {
+            int limit = buffer.limit();
+            fields = 0;
+            newlines = 0;
+            int fieldStart = pos;
+            int state = FIELD_START;
+            int i = pos;
+            for (; i < limit; i++) {
+                byte b = buffer.get(i);
+                if (b == '\n') {
+                    newlines++;
+                    if (state != QUOTED) {
+                        break;
+                    }
+                } else if (b == ',' && state != QUOTED) {
+                    endField(fieldStart, i);
+                    fieldStart = i + 1;
+                }
+                state = next(state, b);
+            }
+            int fieldEnd = i > fieldStart && buffer.get(i - 1) == '\r' ? i - 1 : i;
+            endField(fieldStart, fieldEnd);
+            return i;
+        }
+
+        private void endField(int start, int end) {
+            if (fields < FIELD_COUNT) {
+                starts[fields] = start;
+                ends[fields] = end;
+                quoted[fields] = end > start && buffer.get(start) == '"';
+            }
+            fields++;
+        }
+
+        boolean isBlank() {
+            if (fields != 1) {
+                return false;
+            }
+            for (int i = starts[0]; i < ends[0]; i++) {
+                if (!isSpace(buffer.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        ProductCsvReader.Row toRow(long lineNumber) {
+            long productNumber = number(0, "상품번호");
+            String name = text(1).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("상품명이 비어있습니다.");
+            }
+            BigDecimal price = price();
+            if (price.signum() < 0) {
+                throw new IllegalArgumentException("판매가격은 0 이상이어야 합니다: " + price);
+            }
+            long stock = number(3, "재고수량");
+            if (stock < 0 || stock > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("재고수량 범위가 올바르지 않습니다: " + stock);
+            }
+            return new ProductCsvReader.Row(lineNumber, productNumber, name, price, (int) stock);
+        }
+
+        private long number(int field, String label) {
+            long value = quoted[field] ? INVALID : parseLong(starts[field], ends[field]);
+            if (value != INVALID) {
+                return value;
+            }
+            String text = text(field);
+            try {
+                return Long.parseLong(text.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(label + " 형식이 올바르지 않습니다: " + text);
+            }
+        }
+
+        private BigDecimal price() {
+            BigDecimal value = quoted[2] ? null : parseDecimal(starts[2], ends[2]);
+            if (value != null) {
+                return value;
+            }
+            String text = text(2);
+            try {
+                return new BigDecimal(text.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("판매가격 형식이 올바르지 않습니다: " + text);
+            }
+        }
+
+        /**
+         * 공백을 제외한 [부호]숫자열 해석 (18자리 초과 또는 형식 오류면 INVALID)
+         */
+        private long parseLong(int start, int end) {
+            while (start < end && isSpace(buffer.get(start))) {
+                start++;
+            }
+            while (end > start && isSpace(buffer.get(end - 1))) {
+                end--;
+            }
+            boolean negative = false;
+            if (start < end && (buffer.get(start) == '-' || buffer.get(start) == '+')) {
+                negative = buffer.get(start) == '-';
+                start++;
+            }
+            if (start == end || end - start > 18) {
+                return INVALID;
+            }
+            long value = 0;
+            for (int i = start; i < end; i++) {
+                int digit = buffer.get(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    return INVALID;
+                }
+                value = value * 10 + digit;
+            }
+            return negative ? -value : value;
+        }
+
+        /**
+         * 공백을 제외한 [부호]정수부[.소수부] 해석 (18자리 초과, 지수 표기 등은 null)
+         */
+        private BigDecimal parseDecimal(int start, int end) {
+            while (start < end && isSpace(buffer.get(start))) {
+                start++;
+            }
+            while (end > start && isSpace(buffer.get(end - 1))) {
+                end--;
+            }
+            boolean negative = false;
+            if (start < end && (buffer.get(start) == '-' || buffer.get(start) == '+')) {
+                negative = buffer.get(start) == '-';
+                start++;
+            }
+            long unscaled = 0;
+            int digits = 0;
+            int scale = -1;
+            for (int i = start; i < end; i++) {
+                byte b = buffer.get(i);
+                if (b == '.' && scale < 0) {
+                    scale = 0;
+                    continue;
+                }
+                int digit = b - '0';
+                if (digit < 0 || digit > 9 || ++digits > 18) {
+                    return null;
+                }
+                unscaled = unscaled * 10 + digit;
+                if (scale >= 0) {
+                    scale++;
+                }
+            }
+            if (digits == 0) {
+                return null;
+            }
+            return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+        }
+
+        /**
+         * 필드를 UTF-8 문자열로 변환 (여는/닫는 따옴표 제거, 따옴표 필드 안의 ""는 ")
+         */
+        private String text(int field) {
+            int start = starts[field];
+            int length = ends[field] - start;
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            if (!quoted[field]) {
+                buffer.get(start, scratch, 0, length);
+                return new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+            int out = 0;
+            int state = FIELD_START;
+            for (int i = start, end = ends[field]; i < end; i++) {
+                byte b = buffer.get(i);
+                // 여는 따옴표와 따옴표 필드 안의 따옴표는 다음 바이트를 보고 ""일 때만 하나를 남김
+                if (b != '"' || state == UNQUOTED || state == QUOTE_IN_QUOTED) {
+                    scratch[out++] = b;
+                }
+                state = next(state, b);
+            }
+            return new String(scratch, 0, out, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * String.trim()과 같은 공백 판정 (UTF-8 다중 바이트는 음수이므로 부호 없이 비교)
+     */
+    private static boolean isSpace(byte b) {
+        return (b & 0xff) <= ' ';
+    }
+
+    private interface SegmentAction {
+        void run(int index) throws IOException;
+    }
+
+    private static void run(ForkJoinPool pool, int count, SegmentAction action) throws IOException {
+        if (count == 0) {
+            return;
+        }
+        try {
+            pool.invoke(new SegmentTask(action, 0, count));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 구간 번호 범위를 반씩 나누어 병렬 실행
+     */
+    private static final class SegmentTask extends RecursiveAction {
+
+        private final SegmentAction action;
+        private final int from;
+        private final int to;
+
+        SegmentTask(SegmentAction action, int from, int to) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                try {
+                    action.run(from);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SegmentTask(action, from, mid), new SegmentTask(action, mid, to));
+        }
+    }
+}
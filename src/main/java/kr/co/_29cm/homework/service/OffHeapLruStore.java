@@ -0,0 +1,128 @@
+package kr.co._29cm.homework.service;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+
+/**
+ * 바이트 예산 기반 오프힙 LRU 저장소
+ *
+ * 다이렉트 버퍼(슬랩)를 고정 크기 블록으로 나누어 값을 저장하고,
+ * 블록이 부족하면 가장 오래 사용되지 않은 항목부터 제거합니다.
+ * 모든 연산은 인스턴스 단위로 동기화됩니다.
+ *
+ * @param <K> 키 타입
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+public class OffHeapLruStore<K> {
+
+    private final int blockSize;
+    private final int blocksPerSlab;
+    private final ByteBuffer[] slabs;
+
+    /** 사용 가능한 블록 번호 스택 */
+    private final int[] freeBlocks;
+    private int freeCount;
+    /** 키별 항목 (접근 순서 유지, 가장 오래된 항목이 앞) */
+    private final LinkedHashMap<K, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    /**
+     * @param maxBytes 전체 바이트 예산 (슬랩 크기 단위로 내림)
+     * @param slabBytes 다이렉트 버퍼 하나의 크기
+     * @param blockSize 할당 단위 블록 크기
+     */
+    public OffHeapLruStore(long maxBytes, int slabBytes, int blockSize) {
+        if (blockSize <= 0 || slabBytes < blockSize) {
+            throw new IllegalArgumentException("블록/슬랩 크기 설정이 올바르지 않습니다.");
+        }
+        this.blockSize = blockSize;
+        this.blocksPerSlab = slabBytes / blockSize;
+
+        int slabCount = (int) Math.max(0, maxBytes / ((long) blocksPerSlab * blockSize));
+        this.slabs = new ByteBuffer[slabCount];
+        for (int i = 0; i < slabCount; i++) {
+            slabs[i] = ByteBuffer.allocateDirect(blocksPerSlab * blockSize);
+        }
+        this.freeBlocks = new int[slabCount * blocksPerSlab];
+        for (int block = 0; block < freeBlocks.length; block++) {
+            freeBlocks[freeCount++] = block;
+        }
+    }
+
+    public synchronized Optional<byte[]> get(K key) {
+        Entry entry = entries.get(key);
+        return entry == null ? Optional.empty() : Optional.of(read(entry));
+    }
+
+    /**
+     * 값 저장 (전체 용량보다 큰 값은 저장하지 않음)
+     *
+     * @return 저장 여부
+     */
+    public synchronized boolean put(K key, byte[] value) {
+        int required = (value.length + blockSize - 1) / blockSize;
+        if (required > freeBlocks.length) {
+            return false;
+        }
+
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            release(previous);
+        }
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (freeCount < required) {
+            release(eldest.next());
+            eldest.remove();
+        }
+
+        int[] blocks = new int[required];
+        for (int i = 0; i < required; i++) {
+            blocks[i] = freeBlocks[--freeCount];
+            int offset = i * blockSize;
+            slab(blocks[i]).put(position(blocks[i]), value, offset, Math.min(blockSize, value.length - offset));
+        }
+        entries.put(key, new Entry(blocks, value.length));
+        return true;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long capacityBytes() {
+        return (long) freeBlocks.length * blockSize;
+    }
+
+    private byte[] read(Entry entry) {
+        byte[] value = new byte[entry.length()];
+        for (int i = 0; i < entry.blocks().length; i++) {
+            int block = entry.blocks()[i];
+            int offset = i * blockSize;
+            slab(block).get(position(block), value, offset, Math.min(blockSize, value.length - offset));
+        }
+        return value;
+    }
+
+    private void release(Entry entry) {
+        for (int block : entry.blocks()) {
+            freeBlocks[freeCount++] = block;
+        }
+    }
+
+    private ByteBuffer slab(int block) {
+        return slabs[block / blocksPerSlab];
+    }
+
+    private int position(int block) {
+        return (block % blocksPerSlab) * blockSize;
+    }
+
+    /**
+     * 저장 항목 (값이 저장된 블록 번호 목록과 값 길이)
+     */
+    private record Entry(int[] blocks, int length) {
+    }
+}
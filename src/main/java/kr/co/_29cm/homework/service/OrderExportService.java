@@ -0,0 +1,201 @@
+package kr.co._29cm.homework.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co._29cm.homework.exception.InvalidRequestException;
+import kr.co._29cm.homework.repository.OrderRepository;
+import kr.co._29cm.homework.repository.projection.OrderDetailRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+/**
+ * 기간별 주문 내보내기 서비스
+ *
+ * 주문과 주문 항목을 조인한 행을 서버 측 커서로 읽으면서 바로 출력 스트림에 씁니다.
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 결과를 모아두지 않으므로
+ * 주문 건수와 관계없이 메모리 사용량이 일정합니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    static final String CSV_HEADER =
+            "orderNumber,orderedAt,paymentAmount,productNumber,productName,quantity,unitPrice,subtotal";
+
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        /** 주문 항목 하나당 한 줄 (주문 정보 반복) */
+        CSV("text/csv", "csv"),
+        /** 주문 하나당 한 줄의 JSON (항목 배열 포함) */
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public MediaType mediaType() {
+            return MediaType.parseMediaType(contentType + (this == CSV ? ";charset=UTF-8" : ""));
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        /**
+         * 요청 파라미터로 형식 결정 (대소문자 무시)
+         *
+         * @throws InvalidRequestException 지원하지 않는 형식인 경우
+         */
+        public static Format from(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("지원하지 않는 내보내기 형식입니다: " + value + " (csv, ndjson)");
+            }
+        }
+    }
+
+    /**
+     * 기간 검증
+     *
+     * @throws InvalidRequestException 시작일이 종료일보다 늦은 경우
+     */
+    public void validateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidRequestException("조회 시작일은 종료일보다 늦을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 기간 내 주문을 지정한 형식으로 출력 스트림에 기록
+     *
+     * @return 기록한 주문 수
+     */
+    @Transactional(readOnly = true)
+    public long export(LocalDateTime startDate, LocalDateTime endDate, Format format, OutputStream out) throws IOException {
+        long orders;
+        try (Stream<OrderDetailRow> rows = orderRepository.streamOrderDetailRowsByDateRange(startDate, endDate)) {
+            orders = format == Format.CSV ? writeCsv(rows.iterator(), out) : writeNdjson(rows.iterator(), out);
+        }
+        log.info("주문 내보내기 완료: {} ~ {}, 형식 {}, 주문 {}건", startDate, endDate, format, orders);
+        return orders;
+    }
+
+    private long writeCsv(Iterator<OrderDetailRow> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long orders = 0;
+        String previousOrderNumber = null;
+        while (rows.hasNext()) {
+            OrderDetailRow row = rows.next();
+            if (!row.orderNumber().equals(previousOrderNumber)) {
+                orders++;
+                previousOrderNumber = row.orderNumber();
+            }
+            writer.write(row.orderNumber());
+            writer.write(',');
+            writer.write(ISO_LOCAL_DATE_TIME.format(row.orderedAt()));
+            writer.write(',');
+            writer.write(row.paymentAmount().toPlainString());
+            writer.write(',');
+            writer.write(row.productNumber() == null ? "" : row.productNumber().toString());
+            writer.write(',');
+            writer.write(row.productName() == null ? "" : csvField(row.productName()));
+            writer.write(',');
+            writer.write(row.quantity() == null ? "" : row.quantity().toString());
+            writer.write(',');
+            writer.write(row.unitPrice() == null ? "" : row.unitPrice().toPlainString());
+            writer.write(',');
+            writer.write(row.subtotal() == null ? "" : row.subtotal().toPlainString());
+            writer.write('\n');
+        }
+        writer.flush();
+        return orders;
+    }
+
+    /**
+     * 같은 주문의 연속된 행을 모아 주문 하나당 한 줄의 JSON으로 기록
+     */
+    private long writeNdjson(Iterator<OrderDetailRow> rows, OutputStream out) throws IOException {
+        long orders = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            String currentOrderNumber = null;
+            while (rows.hasNext()) {
+                OrderDetailRow row = rows.next();
+                if (!row.orderNumber().equals(currentOrderNumber)) {
+                    if (currentOrderNumber != null) {
+                        endOrder(generator);
+                    }
+                    currentOrderNumber = row.orderNumber();
+                    orders++;
+                    generator.writeStartObject();
+                    generator.writeStringField("orderNumber", row.orderNumber());
+                    generator.writeStringField("orderedAt", ISO_LOCAL_DATE_TIME.format(row.orderedAt()));
+                    generator.writeNumberField("paymentAmount", row.paymentAmount());
+                    generator.writeArrayFieldStart("items");
+                }
+                if (row.productNumber() != null) {
+                    generator.writeStartObject();
+                    generator.writeNumberField("productNumber", row.productNumber());
+                    generator.writeStringField("productName", row.productName());
+                    generator.writeNumberField("quantity", row.quantity());
+                    generator.writeNumberField("unitPrice", row.unitPrice());
+                    generator.writeNumberField("subtotal", row.subtotal());
+                    generator.writeEndObject();
+                }
+            }
+            if (currentOrderNumber != null) {
+                endOrder(generator);
+            }
+        }
+        return orders;
+    }
+
+    private void endOrder(JsonGenerator generator) throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,92 @@
+package kr.co._29cm.homework.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co._29cm.homework.dto.response.ApiResponse;
+import kr.co._29cm.homework.dto.response.OrderResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 상세 응답 오프힙 캐시
+ *
+ * 주문은 생성된 뒤 변경되지 않으므로, 주문 상세 응답을 직렬화한 바이트를
+ * 힙 밖의 다이렉트 버퍼(슬랩)에 보관하고 주문번호로 조회합니다.
+ * 바이트 예산이 부족하면 가장 오래 사용되지 않은 주문부터 제거합니다(LRU).
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+@Component
+public class OrderResponseCache {
+
+    public static final String ORDER_FOUND_MESSAGE = "주문 정보를 성공적으로 조회했습니다";
+
+    private final ObjectMapper objectMapper;
+    private final OffHeapLruStore<String> store;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public OrderResponseCache(ObjectMapper objectMapper,
+                              @Value("${order.cache.max-bytes:16777216}") long maxBytes,
+                              @Value("${order.cache.slab-bytes:4194304}") int slabBytes,
+                              @Value("${order.cache.block-bytes:512}") int blockSize) {
+        this.objectMapper = objectMapper;
+        this.store = new OffHeapLruStore<>(maxBytes, slabBytes, blockSize);
+        log.info("주문 응답 캐시 초기화: {} bytes", store.capacityBytes());
+    }
+
+    /**
+     * 주문 상세 응답 본문 조회
+     *
+     * @param orderNumber 주문번호
+     * @return 직렬화된 응답 본문 (캐시에 없으면 empty)
+     */
+    public Optional<byte[]> get(String orderNumber) {
+        Optional<byte[]> body = store.get(orderNumber);
+        (body.isPresent() ? hits : misses).incrementAndGet();
+        return body;
+    }
+
+    /**
+     * 주문 상세 응답을 직렬화하여 캐시에 저장
+     *
+     * @param orderResponse 주문 응답
+     * @return 직렬화된 응답 본문 (캐시 용량을 넘는 경우에도 본문은 반환)
+     */
+    public byte[] put(OrderResponse orderResponse) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(ApiResponse.success(orderResponse, ORDER_FOUND_MESSAGE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 응답 직렬화 실패: " + orderResponse.getOrderNumber(), e);
+        }
+        put(orderResponse.getOrderNumber(), body);
+        return body;
+    }
+
+    void put(String orderNumber, byte[] body) {
+        if (!store.put(orderNumber, body)) {
+            log.debug("주문 응답 캐시 용량 초과로 저장 생략: 주문번호 {}, {} bytes", orderNumber, body.length);
+        }
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    public long missCount() {
+        return misses.get();
+    }
+}
@@ -1,21 +1,25 @@
 package kr.co._29cm.homework.service;
 
 import org.springframework.transaction.annotation.Transactional;
+import kr.co._29cm.homework.domain.Money;
 import kr.co._29cm.homework.domain.Order;
 import kr.co._29cm.homework.domain.OrderItem;
 import kr.co._29cm.homework.domain.Product;
+import kr.co._29cm.homework.dto.response.OrderResponse;
+import kr.co._29cm.homework.dto.response.OrderSummaryResponse;
 import kr.co._29cm.homework.exception.InvalidOrderException;
 import kr.co._29cm.homework.exception.ProductNotFoundException;
 import kr.co._29cm.homework.repository.OrderRepository;
 import kr.co._29cm.homework.repository.ProductRepository;
+import kr.co._29cm.homework.repository.projection.OrderDetailRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,6 +32,7 @@ public class OrderService {
     private final ProductRepository productRepository;
     private final OrderRepository orderRepository;
     private final ShippingCalculator shippingCalculator;
+    private final OrderViewService orderViewService;
 
     public record OrderItemRequest(Long productNumber, Integer quantity) {}
 
@@ -38,7 +43,7 @@ public class OrderService {
 
         Order order = new Order(generateOrderNumber(), LocalDateTime.now());
 
-        BigDecimal total = BigDecimal.ZERO;
+        long totalMinorUnits = 0;
         for (OrderItemRequest req : requests) {
             Product product = productRepository.findWithLockByProductNumber(req.productNumber)
                     .orElseThrow(() -> new ProductNotFoundException(req.productNumber));
@@ -51,14 +56,17 @@ public class OrderService {
 
             OrderItem item = new OrderItem(product, req.quantity);
             order.addItem(item);
-            total = total.add(item.getTotalPrice());
+            totalMinorUnits = Math.addExact(totalMinorUnits, item.getSubtotalMinorUnits());
         }
 
-        BigDecimal paymentAmount = shippingCalculator.calculateTotalPaymentAmount(total);
-        order.setPaymentAmount(paymentAmount);
+        long paymentMinorUnits = shippingCalculator.calculateTotalPaymentMinorUnits(totalMinorUnits, order.getItems());
+        order.setPaymentAmount(Money.fromMinorUnits(paymentMinorUnits));
+
+        Order saved = orderRepository.save(order);
+        orderViewService.write(saved);
 
         log.info("주문 완료: 주문번호 {}", order.getOrderNumber());
-        return orderRepository.save(order);
+        return saved;
     }
 
     private void validateOrderRequest(List<OrderItemRequest> requests) {
@@ -103,6 +111,75 @@ public class OrderService {
         return orderRepository.findOrdersByDateRange(startDate, endDate, pageable);
     }
 
+    /**
+     * 주문번호로 주문 상세를 응답 DTO로 직접 조회
+     * 
+     * 주문 조회 모델을 기본키로 먼저 조회하고, 아직 조회 모델이 없는 주문(백필 전)은
+     * 주문과 주문 항목을 한 번의 조인 프로젝션 쿼리로 읽어 응답을 조립합니다.
+     * 어느 경우에도 엔티티를 영속성 컨텍스트에 올리지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<OrderResponse> findOrderResponse(String orderNumber) {
+        Optional<OrderResponse> view = orderViewService.findOrderResponse(orderNumber);
+        if (view.isPresent()) {
+            return view;
+        }
+
+        log.debug("주문 조회(프로젝션): 주문번호 {}", orderNumber);
+        List<OrderDetailRow> rows = orderRepository.findOrderDetailRows(orderNumber);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<OrderResponse.OrderItemResponse> items = new ArrayList<>(rows.size());
+        for (OrderDetailRow row : rows) {
+            if (row.productNumber() == null) {
+                continue; // 항목이 없는 주문 (LEFT JOIN)
+            }
+            items.add(OrderResponse.OrderItemResponse.builder()
+                    .productNumber(row.productNumber())
+                    .productName(row.productName())
+                    .quantity(row.quantity())
+                    .unitPrice(row.unitPrice())
+                    .subtotal(row.subtotal())
+                    .build());
+        }
+
+        OrderDetailRow header = rows.get(0);
+        return Optional.of(OrderResponse.builder()
+                .orderNumber(header.orderNumber())
+                .orderedAt(header.orderedAt())
+                .items(items)
+                .paymentAmount(header.paymentAmount())
+                .build());
+    }
+
+    /**
+     * 주문 요약 목록을 응답 DTO로 직접 페이징 조회 (최신순)
+     * 
+     * 조회 모델 백필이 끝난 뒤에는 조회 모델에서, 그 전에는 orders 테이블에서 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public Page<OrderSummaryResponse> findOrderSummaries(Pageable pageable) {
+        log.debug("주문 요약 목록 조회: 페이지 {}, 크기 {}", pageable.getPageNumber(), pageable.getPageSize());
+        if (orderViewService.isBackfilled()) {
+            return orderViewService.findSummaries(pageable);
+        }
+        return orderRepository.findOrderSummaries(pageable);
+    }
+
+    /**
+     * 특정 기간의 주문 요약 목록을 응답 DTO로 직접 페이징 조회
+     */
+    @Transactional(readOnly = true)
+    public Page<OrderSummaryResponse> findOrderSummariesByDateRange(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+        log.debug("기간별 주문 요약 조회: {} ~ {}", startDate, endDate);
+        if (orderViewService.isBackfilled()) {
+            return orderViewService.findSummariesByDateRange(startDate, endDate, pageable);
+        }
+        return orderRepository.findOrderSummariesByDateRange(startDate, endDate, pageable);
+    }
+
     private String generateOrderNumber() {
         return UUID.randomUUID().toString();
     }
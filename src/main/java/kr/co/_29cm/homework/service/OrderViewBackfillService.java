@@ -0,0 +1,264 @@
+package kr.co._29cm.homework.service;
+
+import kr.co._29cm.homework.domain.OrderView;
+import kr.co._29cm.homework.domain.OrderViewBackfillWatermark;
+import kr.co._29cm.homework.repository.OrderRepository;
+import kr.co._29cm.homework.repository.OrderViewBackfillWatermarkRepository;
+import kr.co._29cm.homework.repository.OrderViewRepository;
+import kr.co._29cm.homework.repository.projection.OrderDetailRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 주문 조회 모델 백필 서비스
+ * 
+ * 정규화 테이블(orders, order_items)에서 조회 모델이 없는 주문을 찾아 order_views를 채웁니다.
+ * 주문 ID 구간 단위로 나누어 여러 스레드에서 병렬로 처리하며, 구간마다 별도 트랜잭션으로 저장합니다.
+ * 백필이 끝나면 주문 목록 조회가 조회 모델로 전환됩니다.
+ * 
+ * 진행 위치(앞에서부터 빈틈없이 끝난 구간의 마지막 주문 ID)와 완료 여부를 {@link OrderViewBackfillWatermark}에 저장하므로,
+ * 재시작 후에는 완료된 백필을 다시 하지 않고 바로 조회 모델로 전환하며, 중단된 백필은 저장된 위치 다음부터 이어갑니다.
+ * 
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+@Service
+public class OrderViewBackfillService {
+
+    /** 동시에 생성된 주문과 조회 모델 저장이 겹친 경우 구간 재시도 횟수 */
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final OrderRepository orderRepository;
+    private final OrderViewRepository orderViewRepository;
+    private final OrderViewBackfillWatermarkRepository watermarkRepository;
+    private final OrderViewService orderViewService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean runOnStartup;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public OrderViewBackfillService(OrderRepository orderRepository,
+                                    OrderViewRepository orderViewRepository,
+                                    OrderViewBackfillWatermarkRepository watermarkRepository,
+                                    OrderViewService orderViewService,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${order.view.backfill.on-startup:true}") boolean runOnStartup,
+                                    @Value("${order.view.backfill.chunk-size:1000}") int chunkSize,
+                                    @Value("${order.view.backfill.parallelism:4}") int parallelism) {
+        this.orderRepository = orderRepository;
+        this.orderViewRepository = orderViewRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.orderViewService = orderViewService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.runOnStartup = runOnStartup;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 이전 기동에서 끝난 백필을 바로 반영하고, 기동 완료 후 백그라운드에서 남은 백필 실행 (기동을 지연시키지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (loadWatermark().isCompleted()) {
+            orderViewService.markBackfilled(true);
+            return;
+        }
+        if (!runOnStartup) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                backfill();
+            } catch (Exception e) {
+                log.error("주문 조회 모델 백필 실패", e);
+            }
+        }, "order-view-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 조회 모델이 없는 주문의 조회 모델 생성
+     *
+     * 저장된 진행 위치 다음부터 호출 시점의 최대 주문 ID까지 처리하며,
+     * 이후 생성되는 주문은 주문 트랜잭션에서 직접 저장됩니다.
+     *
+     * @return 새로 저장한 조회 모델 수
+     */
+    public synchronized int backfill() {
+        OrderViewBackfillWatermark watermark = loadWatermark();
+        if (watermark.isCompleted()) {
+            orderViewService.markBackfilled(true);
+            return 0;
+        }
+        Long minId = orderRepository.findMinId();
+        Long maxId = orderRepository.findMaxId();
+        if (minId == null || maxId <= watermark.getLastOrderId()) {
+            complete(maxId == null ? 0 : maxId);
+            return 0;
+        }
+
+        long startId = Math.max(minId, watermark.getLastOrderId() + 1);
+        long started = System.currentTimeMillis();
+        AtomicInteger written = new AtomicInteger();
+        ChunkProgress progress = new ChunkProgress(startId, maxId);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<CompletableFuture<Void>> chunks = new ArrayList<>();
+            for (int chunk = 0; chunk < progress.chunkCount(); chunk++) {
+                int index = chunk;
+                long from = progress.fromId(index);
+                long to = progress.toId(index);
+                chunks.add(CompletableFuture.runAsync(() -> {
+                    written.addAndGet(backfillChunk(from, to));
+                    progress.done(index);
+                }, executor));
+            }
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        complete(maxId);
+        log.info("주문 조회 모델 백필 완료: {}건 저장, 주문 ID {}~{}, {}ms",
+                written.get(), startId, maxId, System.currentTimeMillis() - started);
+        return written.get();
+    }
+
+    /**
+     * 조회 모델 전체 재생성
+     *
+     * @return 저장한 조회 모델 수
+     */
+    public synchronized int rebuild() {
+        orderViewService.markBackfilled(false);
+        transactionTemplate.executeWithoutResult(status -> {
+            orderViewRepository.deleteAllInBatch();
+            changeWatermark(OrderViewBackfillWatermark::reset);
+        });
+        return backfill();
+    }
+
+    private OrderViewBackfillWatermark loadWatermark() {
+        return watermarkRepository.findById(OrderViewBackfillWatermark.SINGLETON_ID)
+                .orElseGet(OrderViewBackfillWatermark::initial);
+    }
+
+    private void complete(long maxId) {
+        transactionTemplate.executeWithoutResult(status -> changeWatermark(watermark -> {
+            watermark.advanceTo(maxId);
+            watermark.complete();
+        }));
+        orderViewService.markBackfilled(true);
+    }
+
+    private void changeWatermark(Consumer<OrderViewBackfillWatermark> change) {
+        OrderViewBackfillWatermark watermark = loadWatermark();
+        change.accept(watermark);
+        watermarkRepository.save(watermark);
+    }
+
+    /**
+     * 구간 완료 추적 (병렬로 끝나는 구간 중 앞에서부터 빈틈없이 끝난 위치까지만 진행 위치로 저장)
+     */
+    private final class ChunkProgress {
+
+        private final long startId;
+        private final long maxId;
+        private final boolean[] done;
+        private int completedPrefix;
+
+        ChunkProgress(long startId, long maxId) {
+            this.startId = startId;
+            this.maxId = maxId;
+            this.done = new boolean[(int) ((maxId - startId) / chunkSize + 1)];
+        }
+
+        int chunkCount() {
+            return done.length;
+        }
+
+        long fromId(int chunk) {
+            return startId + (long) chunk * chunkSize;
+        }
+
+        long toId(int chunk) {
+            return Math.min(fromId(chunk) + chunkSize, maxId + 1);
+        }
+
+        synchronized void done(int chunk) {
+            done[chunk] = true;
+            int before = completedPrefix;
+            while (completedPrefix < done.length && done[completedPrefix]) {
+                completedPrefix++;
+            }
+            if (completedPrefix > before) {
+                long lastOrderId = toId(completedPrefix - 1) - 1;
+                transactionTemplate.executeWithoutResult(status ->
+                        changeWatermark(watermark -> watermark.advanceTo(lastOrderId)));
+            }
+        }
+    }
+
+    private int backfillChunk(long fromId, long toId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Integer saved = transactionTemplate.execute(status -> writeMissingViews(fromId, toId));
+                return saved == null ? 0 : saved;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("주문 조회 모델 백필 구간 재시도: 주문 ID {}~{}", fromId, toId);
+            }
+        }
+    }
+
+    private int writeMissingViews(long fromId, long toId) {
+        List<OrderDetailRow> rows = orderRepository.findOrderDetailRowsByIdRange(fromId, toId);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<List<OrderDetailRow>> orders = new ArrayList<>();
+        Set<String> orderNumbers = new HashSet<>();
+        for (OrderDetailRow row : rows) {
+            if (orderNumbers.add(row.orderNumber())) {
+                orders.add(new ArrayList<>());
+            }
+            orders.get(orders.size() - 1).add(row); // 같은 주문의 행은 연속해서 조회됨
+        }
+        Set<String> existing = new HashSet<>(orderViewRepository.findExistingOrderNumbers(orderNumbers));
+
+        List<OrderView> views = new ArrayList<>();
+        for (List<OrderDetailRow> orderRows : orders) {
+            if (!existing.contains(orderRows.get(0).orderNumber())) {
+                views.add(orderViewService.toView(orderRows));
+            }
+        }
+        orderViewRepository.saveAll(views);
+        orderViewRepository.flush();
+        return views.size();
+    }
+}
@@ -0,0 +1,154 @@
+package kr.co._29cm.homework.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co._29cm.homework.domain.Order;
+import kr.co._29cm.homework.domain.OrderItem;
+import kr.co._29cm.homework.domain.OrderView;
+import kr.co._29cm.homework.dto.response.OrderResponse;
+import kr.co._29cm.homework.dto.response.OrderSummaryResponse;
+import kr.co._29cm.homework.repository.OrderViewRepository;
+import kr.co._29cm.homework.repository.projection.OrderDetailRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 주문 조회 모델 서비스
+ * 
+ * 주문 생성 시 같은 트랜잭션에서 주문 조회 모델(order_views)을 함께 저장하고,
+ * 주문 상세/목록 조회를 조인 없이 조회 모델에서 처리합니다.
+ * 조회 모델이 모든 기존 주문에 대해 채워지기 전(백필 완료 전)에는
+ * {@link #isBackfilled()}가 false이며, 호출 측은 정규화 테이블을 조회해야 합니다.
+ * 백필 완료 여부는 {@link OrderViewBackfillService}가 진행 위치와 함께 저장하고 재시작 시 다시 반영합니다.
+ * 
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderViewService {
+
+    private static final TypeReference<List<OrderResponse.OrderItemResponse>> ITEMS_TYPE = new TypeReference<>() {};
+
+    private final OrderViewRepository orderViewRepository;
+    private final ObjectMapper objectMapper;
+
+    /** 백필 완료 여부 (저장된 진행 위치의 메모리 사본, 요청마다 조회하지 않기 위함) */
+    private volatile boolean backfilled;
+
+    /**
+     * 주문 조회 모델 저장 (주문 생성 트랜잭션에 참여)
+     *
+     * @param order 저장된 주문
+     */
+    @Transactional
+    public void write(Order order) {
+        List<OrderResponse.OrderItemResponse> items = new ArrayList<>(order.getItems().size());
+        for (OrderItem item : order.getItems()) {
+            items.add(OrderResponse.OrderItemResponse.builder()
+                    .productNumber(item.getProductNumber())
+                    .productName(item.getProductName())
+                    .quantity(item.getQuantity())
+                    .unitPrice(item.getUnitPrice())
+                    .subtotal(item.getTotalPrice())
+                    .build());
+        }
+        orderViewRepository.save(toView(order.getOrderNumber(), order.getOrderedAt(), order.getPaymentAmount(), items));
+    }
+
+    /**
+     * 같은 주문의 조인 결과 행으로 조회 모델 생성 (백필용)
+     *
+     * @param rows 한 주문의 조인 결과 행 (항목 없는 주문은 항목 컬럼이 null인 한 행)
+     */
+    OrderView toView(List<OrderDetailRow> rows) {
+        List<OrderResponse.OrderItemResponse> items = new ArrayList<>(rows.size());
+        for (OrderDetailRow row : rows) {
+            if (row.productNumber() == null) {
+                continue;
+            }
+            items.add(OrderResponse.OrderItemResponse.builder()
+                    .productNumber(row.productNumber())
+                    .productName(row.productName())
+                    .quantity(row.quantity())
+                    .unitPrice(row.unitPrice())
+                    .subtotal(row.subtotal())
+                    .build());
+        }
+        OrderDetailRow header = rows.get(0);
+        return toView(header.orderNumber(), header.orderedAt(), header.paymentAmount(), items);
+    }
+
+    private OrderView toView(String orderNumber, LocalDateTime orderedAt, BigDecimal paymentAmount,
+                             List<OrderResponse.OrderItemResponse> items) {
+        int totalQuantity = items.stream().mapToInt(OrderResponse.OrderItemResponse::getQuantity).sum();
+        try {
+            return new OrderView(orderNumber, orderedAt, paymentAmount, items.size(), totalQuantity,
+                    objectMapper.writeValueAsString(items));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 조회 모델 직렬화 실패: " + orderNumber, e);
+        }
+    }
+
+    /**
+     * 주문번호로 주문 상세를 조회 모델에서 조회 (기본키 단건 조회)
+     *
+     * @param orderNumber 주문번호
+     * @return 주문 응답 (조회 모델이 없으면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<OrderResponse> findOrderResponse(String orderNumber) {
+        return orderViewRepository.findById(orderNumber).map(this::toResponse);
+    }
+
+    OrderResponse toResponse(OrderView view) {
+        try {
+            return OrderResponse.builder()
+                    .orderNumber(view.getOrderNumber())
+                    .orderedAt(view.getOrderedAt())
+                    .items(objectMapper.readValue(view.getItemsDocument(), ITEMS_TYPE))
+                    .paymentAmount(view.getPaymentAmount())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 조회 모델 역직렬화 실패: " + view.getOrderNumber(), e);
+        }
+    }
+
+    /**
+     * 주문 요약 목록을 조회 모델에서 페이징 조회 (최신순)
+     */
+    public Page<OrderSummaryResponse> findSummaries(Pageable pageable) {
+        return orderViewRepository.findSummaries(pageable);
+    }
+
+    /**
+     * 특정 기간의 주문 요약 목록을 조회 모델에서 페이징 조회
+     */
+    public Page<OrderSummaryResponse> findSummariesByDateRange(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+        return orderViewRepository.findSummariesByDateRange(startDate, endDate, pageable);
+    }
+
+    /**
+     * 모든 기존 주문의 조회 모델이 채워졌는지 여부
+     */
+    public boolean isBackfilled() {
+        return backfilled;
+    }
+
+    void markBackfilled(boolean backfilled) {
+        this.backfilled = backfilled;
+    }
+}
@@ -0,0 +1,161 @@
+package kr.co._29cm.homework.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 CSV 행 읽기
+ * 
+ * 형식: 상품번호,상품명,판매가격,재고수량 (첫 줄은 헤더)
+ * 따옴표로 감싼 필드에는 쉼표를 쓸 수 있고, 따옴표 자체는 두 번("")으로 씁니다.
+ * 따옴표는 필드 맨 앞에 올 때만 필드를 감싸며, 그 밖의 따옴표(예: 27" 모니터)는 글자 그대로 읽습니다.
+ * 따옴표로 감싼 필드 안의 줄바꿈은 레코드를 나누지 않으며, 행의 줄 번호는 레코드가 시작된 줄입니다
+ * ({@link MappedProductCsvParser}와 같은 규칙).
+ * 
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+class ProductCsvReader {
+
+    /**
+     * 상품 CSV 한 행
+     *
+     * @param lineNumber 레코드가 시작된 파일 내 줄 번호 (1부터, 헤더 포함)
+     */
+    record Row(long lineNumber, long productNumber, String name, BigDecimal price, int stockQuantity) {}
+
+    /**
+     * 행 처리 콜백
+     */
+    interface Handler {
+
+        void row(Row row);
+
+        void error(long lineNumber, String message);
+    }
+
+    private final BufferedReader reader;
+
+    ProductCsvReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 모든 행을 읽어 콜백으로 전달
+     *
+     * @throws IOException 읽기에 실패한 경우
+     */
+    void readAll(Handler handler) throws IOException {
+        String line;
+        long lineNumber = 0;
+        List<String> fields = new ArrayList<>(4);
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 || line.isBlank()) {
+                continue; // 헤더, 빈 줄
+            }
+            long recordLine = lineNumber;
+            StringBuilder record = null;
+            fields.clear();
+            while (split(line, fields)) {
+                // 따옴표 안의 줄바꿈: 다음 줄까지 한 레코드 (닫히지 않으면 파일 끝까지)
+                String next = reader.readLine();
+                if (next == null) {
+                    break;
+                }
+                lineNumber++;
+                if (record == null) {
+                    record = new StringBuilder(line);
+                }
+                line = record.append('\n').append(next).toString();
+                fields.clear();
+            }
+            if (fields.size() < 4) {
+                handler.error(recordLine, "필드 수가 부족합니다: " + fields.size() + "개");
+                continue;
+            }
+            Row row;
+            try {
+                row = parse(recordLine, fields);
+            } catch (IllegalArgumentException e) {
+                handler.error(recordLine, e.getMessage());
+                continue;
+            }
+            handler.row(row);
+        }
+    }
+
+    static Row parse(long lineNumber, List<String> fields) {
+        long productNumber = parseNumber(fields.get(0), "상품번호");
+        String name = fields.get(1).trim();
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("상품명이 비어있습니다.");
+        }
+        BigDecimal price;
+        try {
+            price = new BigDecimal(fields.get(2).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("판매가격 형식이 올바르지 않습니다: " + fields.get(2));
+        }
+        if (price.signum() < 0) {
+            throw new IllegalArgumentException("판매가격은 0 이상이어야 합니다: " + price);
+        }
+        long stock = parseNumber(fields.get(3), "재고수량");
+        if (stock < 0 || stock > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("재고수량 범위가 올바르지 않습니다: " + stock);
+        }
+        return new Row(lineNumber, productNumber, name, price, (int) stock);
+    }
+
+    private static long parseNumber(String value, String field) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + " 형식이 올바르지 않습니다: " + value);
+        }
+    }
+
+    static List<String> split(String line) {
+        List<String> tokens = new ArrayList<>(4);
+        split(line, tokens);
+        return tokens;
+    }
+
+    /**
+     * 레코드를 필드로 나눔
+     *
+     * @return 마지막 필드의 따옴표가 닫히지 않았으면 true (레코드가 다음 줄로 이어짐)
+     */
+    private static boolean split(String line, List<String> tokens) {
+        StringBuilder token = new StringBuilder();
+        boolean inQuote = false;
+        int fieldStart = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (inQuote) {
+                if (c != '"') {
+                    token.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    token.append('"');
+                    i++;
+                } else {
+                    inQuote = false;
+                }
+            } else if (c == ',') {
+                tokens.add(token.toString());
+                token.setLength(0);
+                fieldStart = i + 1;
+            } else if (c == '"' && i == fieldStart) {
+                inQuote = true;
+            } else {
+                token.append(c);
+            }
+        }
+        tokens.add(token.toString());
+        return inQuote;
+    }
+}
@@ -0,0 +1,93 @@
+package kr.co._29cm.homework.service;
+
+import kr.co._29cm.homework.dto.response.ProductBatchResponse;
+import kr.co._29cm.homework.dto.response.ProductResponse;
+import kr.co._29cm.homework.exception.InvalidRequestException;
+import kr.co._29cm.homework.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 상품 다건 조회 서비스
+ *
+ * 카탈로그 스냅샷에 있는 상품은 그대로 사용하고,
+ * 나머지만 일정 크기로 나눈 IN 쿼리로 조회합니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductLookupService {
+
+    public static final int MAX_BATCH_SIZE = 5000;
+    static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final CatalogSnapshotService catalogSnapshotService;
+
+    /**
+     * 상품번호 목록으로 상품 다건 조회
+     *
+     * @param productNumbers 조회할 상품번호 목록 (중복은 제거되며 요청 순서를 유지)
+     * @return 조회된 상품과 찾지 못한 상품번호
+     * @throws InvalidRequestException 목록이 비어있거나 최대 개수를 초과한 경우
+     */
+    public ProductBatchResponse findByProductNumbers(Collection<Long> productNumbers) {
+        if (productNumbers == null || productNumbers.isEmpty()) {
+            throw new InvalidRequestException("상품번호 목록은 비어있을 수 없습니다.");
+        }
+        LinkedHashSet<Long> requested = new LinkedHashSet<>(productNumbers);
+        requested.remove(null);
+        if (requested.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("상품번호는 최대 " + MAX_BATCH_SIZE + "개까지 조회할 수 있습니다.");
+        }
+
+        Map<Long, ProductResponse> found = new HashMap<>(requested.size() * 4 / 3 + 1);
+        List<Long> misses = new ArrayList<>();
+
+        // 1. 최신 카탈로그 스냅샷에서 조회
+        Optional<CatalogSnapshotService.Snapshot> snapshot = catalogSnapshotService.current();
+        for (Long productNumber : requested) {
+            ProductResponse cached = snapshot.map(s -> s.products().get(productNumber)).orElse(null);
+            if (cached != null) {
+                found.put(productNumber, cached);
+            } else {
+                misses.add(productNumber);
+            }
+        }
+
+        // 2. 나머지는 IN 쿼리로 나누어 조회
+        for (int from = 0; from < misses.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = misses.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, misses.size()));
+            for (ProductResponse product : productRepository.findProductResponsesByProductNumberIn(chunk)) {
+                found.put(product.getProductNumber(), product);
+            }
+        }
+        log.debug("상품 다건 조회: 요청 {}건, 스냅샷 {}건, DB {}건",
+                requested.size(), requested.size() - misses.size(), misses.size());
+
+        List<ProductResponse> products = new ArrayList<>(found.size());
+        List<Long> notFound = new ArrayList<>();
+        for (Long productNumber : requested) {
+            ProductResponse product = found.get(productNumber);
+            if (product != null) {
+                products.add(product);
+            } else {
+                notFound.add(productNumber);
+            }
+        }
+        return new ProductBatchResponse(products, notFound);
+    }
+}
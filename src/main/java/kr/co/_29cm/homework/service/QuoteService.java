@@ -0,0 +1,123 @@
+package kr.co._29cm.homework.service;
+
+import kr.co._29cm.homework.domain.Money;
+import kr.co._29cm.homework.dto.request.OrderRequest;
+import kr.co._29cm.homework.dto.request.QuoteRequest;
+import kr.co._29cm.homework.dto.response.ProductResponse;
+import kr.co._29cm.homework.dto.response.QuoteResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 장바구니 견적 서비스
+ * 
+ * 여러 장바구니의 항목 소계, 배송비, 지불금액을 주문과 같은 금액 계산 규칙
+ * ({@link Money}, {@link ShippingCalculator})으로 한 번에 계산합니다.
+ * 상품 정보는 카탈로그 스냅샷(없으면 잠금 없는 IN 쿼리)에서 읽으므로 상품 행 잠금을 잡지 않으며,
+ * 장바구니별 계산은 병렬로 처리합니다.
+ * 같은 상품이 여러 항목으로 담기면 주문과 마찬가지로 수량을 합산하여 재고를 확인합니다.
+ * 
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuoteService {
+
+    private final ProductLookupService productLookupService;
+    private final ShippingCalculator shippingCalculator;
+
+    /**
+     * 장바구니 견적 계산
+     *
+     * @param request 장바구니 목록
+     * @return 장바구니별 견적 (요청 순서)
+     */
+    public QuoteResponse quote(QuoteRequest request) {
+        Set<Long> productNumbers = new LinkedHashSet<>();
+        for (QuoteRequest.CartRequest cart : request.getCarts()) {
+            for (OrderRequest.OrderItemRequest item : cart.getItems()) {
+                productNumbers.add(item.getProductNumber());
+            }
+        }
+
+        List<ProductResponse> found = productLookupService.findByProductNumbers(productNumbers).getProducts();
+        Map<Long, ProductResponse> products = new HashMap<>(found.size() * 4 / 3 + 1);
+        for (ProductResponse product : found) {
+            products.put(product.getProductNumber(), product);
+        }
+
+        List<QuoteResponse.CartQuoteResponse> carts = request.getCarts().parallelStream()
+                .map(cart -> quoteCart(cart, products))
+                .toList();
+        log.debug("장바구니 견적: 장바구니 {}개, 상품 {}종", carts.size(), productNumbers.size());
+        return new QuoteResponse(carts);
+    }
+
+    QuoteResponse.CartQuoteResponse quoteCart(QuoteRequest.CartRequest cart, Map<Long, ProductResponse> products) {
+        List<OrderRequest.OrderItemRequest> requested = cart.getItems();
+        List<QuoteResponse.QuoteItemResponse> items = new ArrayList<>(requested.size());
+        List<Long> notFound = new ArrayList<>();
+        long[] productNumbers = new long[requested.size()];
+        int[] quantities = new int[requested.size()];
+        long totalMinorUnits = 0;
+        boolean orderable = true;
+
+        // 주문은 항목마다 같은 상품 재고를 차감하므로 상품별 합산 수량으로 재고 확인
+        Map<Long, Long> cartQuantities = new HashMap<>();
+        for (OrderRequest.OrderItemRequest item : requested) {
+            cartQuantities.merge(item.getProductNumber(), (long) item.getQuantity(), Long::sum);
+        }
+
+        for (OrderRequest.OrderItemRequest item : requested) {
+            ProductResponse product = products.get(item.getProductNumber());
+            if (product == null) {
+                notFound.add(item.getProductNumber());
+                orderable = false;
+                continue;
+            }
+            // 주문 항목 소계와 같은 방식으로 계산 (단가 HALF_UP 후 수량 곱)
+            long subtotalMinorUnits = Money.of(product.getPrice()).multiply(item.getQuantity()).getMinorUnits();
+            boolean inStock = product.getStockQuantity() >= cartQuantities.get(product.getProductNumber());
+            orderable &= inStock;
+
+            productNumbers[items.size()] = product.getProductNumber();
+            quantities[items.size()] = item.getQuantity();
+            totalMinorUnits = Math.addExact(totalMinorUnits, subtotalMinorUnits);
+            items.add(QuoteResponse.QuoteItemResponse.builder()
+                    .productNumber(product.getProductNumber())
+                    .productName(product.getName())
+                    .quantity(item.getQuantity())
+                    .unitPrice(product.getPrice())
+                    .subtotal(Money.fromMinorUnits(subtotalMinorUnits))
+                    .inStock(inStock)
+                    .build());
+        }
+
+        long shippingFeeMinorUnits = items.isEmpty() ? 0 : shippingCalculator.calculateShippingFeeMinorUnits(
+                totalMinorUnits,
+                Arrays.copyOf(productNumbers, items.size()),
+                Arrays.copyOf(quantities, items.size()));
+
+        return QuoteResponse.CartQuoteResponse.builder()
+                .cartId(cart.getCartId())
+                .items(items)
+                .notFound(notFound)
+                .totalAmount(Money.fromMinorUnits(totalMinorUnits))
+                .shippingFee(Money.fromMinorUnits(shippingFeeMinorUnits))
+                .paymentAmount(Money.fromMinorUnits(Math.addExact(totalMinorUnits, shippingFeeMinorUnits)))
+                .orderable(orderable)
+                .build();
+    }
+}
@@ -0,0 +1,320 @@
+package kr.co._29cm.homework.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.co._29cm.homework.domain.Money;
+import kr.co._29cm.homework.domain.Order;
+import kr.co._29cm.homework.domain.OrderItem;
+import kr.co._29cm.homework.domain.SalesRollup;
+import kr.co._29cm.homework.dto.response.SalesReportResponse;
+import kr.co._29cm.homework.exception.InvalidRequestException;
+import kr.co._29cm.homework.repository.SalesRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 판매 집계 서비스
+ *
+ * 주문이 커밋될 때 상품별/시간별 판매 수량, 매출, 주문 수를 메모리 카운터에 누적하고,
+ * 주기적으로 집계 테이블(sales_rollups)에 반영합니다.
+ * 카운터는 구간별 {@link LongAdder}로 분산되어 주문 처리 경로에서 경합이 거의 없으며,
+ * 리포트 조회는 order_items가 아닌 집계 테이블과 아직 반영되지 않은 카운터만 읽습니다.
+ * 
+ * 반영할 때는 카운터를 맵에서 떼어내고 진행 중인 누적이 끝난 뒤 읽으므로, 한 구간의 수량/매출/주문 수가
+ * 항상 함께 반영됩니다. 반영 중에는 리포트 조회가 커밋까지 기다리므로 꺼낸 증분이 누락되어 보이지 않습니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+@Service
+public class SalesRollupService {
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentHashMap<BucketKey, Counter> counters = new ConcurrentHashMap<>();
+    /** 반영(쓰기)과 리포트 조회(읽기) 분리 - 꺼낸 증분이 커밋 전까지 조회에서 빠지지 않도록 */
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+    public SalesRollupService(SalesRollupRepository salesRollupRepository, PlatformTransactionManager transactionManager) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 리포트 집계 단위
+     */
+    public enum Granularity {
+        HOUR(ChronoUnit.HOURS),
+        DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        LocalDateTime truncate(LocalDateTime dateTime) {
+            return dateTime.truncatedTo(unit);
+        }
+
+        /**
+         * 요청 파라미터로 집계 단위 결정 (대소문자 무시)
+         *
+         * @throws InvalidRequestException 지원하지 않는 단위인 경우
+         */
+        public static Granularity from(String value) {
+            try {
+                return Granularity.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("지원하지 않는 집계 단위입니다: " + value + " (hour, day)");
+            }
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 주문을 판매 집계에 반영
+     *
+     * 롤백된 주문이 집계되지 않도록 활성 트랜잭션이 있으면 커밋 시점까지 미룹니다.
+     */
+    public void recordAfterCommit(Order order) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(order);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(order);
+            }
+        });
+    }
+
+    void record(Order order) {
+        LocalDateTime bucketStart = order.getOrderedAt().truncatedTo(ChronoUnit.HOURS);
+
+        // 같은 상품이 여러 항목으로 담긴 경우에도 주문 수는 한 번만 집계
+        Map<Long, long[]> byProduct = new HashMap<>();
+        long totalUnits = 0;
+        long totalRevenue = 0;
+        for (OrderItem item : order.getItems()) {
+            long revenue = item.getSubtotalMinorUnits();
+            long[] sums = byProduct.computeIfAbsent(item.getProductNumber(), k -> new long[2]);
+            sums[0] += item.getQuantity();
+            sums[1] += revenue;
+            totalUnits += item.getQuantity();
+            totalRevenue += revenue;
+        }
+        byProduct.forEach((productNumber, sums) -> add(productNumber, bucketStart, sums[0], sums[1], 1));
+        add(SalesRollup.ALL_PRODUCTS, bucketStart, totalUnits, totalRevenue, 1);
+    }
+
+    /**
+     * 누적된 카운터를 집계 테이블에 반영
+     *
+     * 카운터를 맵에서 떼어낸 뒤(이후 누적은 새 카운터로) 진행 중인 누적이 끝나면 읽으므로 증분이 일관됩니다.
+     * 반영에 실패하면 꺼낸 증분을 카운터에 되돌려 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${sales.rollup.flush-delay-ms:5000}")
+    public void flush() {
+        flushLock.writeLock().lock();
+        try {
+            List<Delta> deltas = new ArrayList<>();
+            for (Map.Entry<BucketKey, Counter> entry : counters.entrySet()) {
+                if (!counters.remove(entry.getKey(), entry.getValue())) {
+                    continue;
+                }
+                Delta delta = entry.getValue().retire(entry.getKey());
+                if (!delta.isEmpty()) {
+                    deltas.add(delta);
+                }
+            }
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> deltas.forEach(this::upsert));
+                log.debug("판매 집계 반영: {}건", deltas.size());
+            } catch (RuntimeException e) {
+                log.error("판매 집계 반영 실패, 다음 주기에 재시도: {}건", deltas.size(), e);
+                deltas.forEach(delta -> add(delta.key().productNumber(), delta.key().bucketStart(),
+                        delta.units(), delta.revenue(), delta.orderCount()));
+            }
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 기간별 판매 리포트 조회
+     *
+     * @param from 조회 시작일시 (포함)
+     * @param to 조회 종료일시 (미포함)
+     * @param granularity 집계 단위
+     * @param productNumber 상품번호 (null이면 전체 상품 합계)
+     * @throws InvalidRequestException 시작일시가 종료일시보다 늦거나 같은 경우
+     */
+    public SalesReportResponse report(LocalDateTime from, LocalDateTime to, Granularity granularity, Long productNumber) {
+        if (!from.isBefore(to)) {
+            throw new InvalidRequestException("조회 시작일시는 종료일시보다 이전이어야 합니다.");
+        }
+        long target = productNumber == null ? SalesRollup.ALL_PRODUCTS : productNumber;
+
+        TreeMap<LocalDateTime, long[]> buckets = new TreeMap<>();
+        flushLock.readLock().lock();
+        try {
+            for (SalesRollup rollup : salesRollupRepository.findBuckets(target, from, to)) {
+                accumulate(buckets, granularity.truncate(rollup.getBucketStart()),
+                        rollup.getUnits(), Money.toMinorUnits(rollup.getRevenue()), rollup.getOrderCount());
+            }
+            // 아직 반영되지 않은 카운터 합산
+            counters.forEach((key, counter) -> {
+                if (key.productNumber() == target && !key.bucketStart().isBefore(from) && key.bucketStart().isBefore(to)) {
+                    accumulate(buckets, granularity.truncate(key.bucketStart()),
+                            counter.units.sum(), counter.revenue.sum(), counter.orders.sum());
+                }
+            });
+        } finally {
+            flushLock.readLock().unlock();
+        }
+
+        List<SalesReportResponse.SalesBucketResponse> responses = new ArrayList<>(buckets.size());
+        long totalUnits = 0;
+        long totalRevenue = 0;
+        long totalOrders = 0;
+        for (Map.Entry<LocalDateTime, long[]> entry : buckets.entrySet()) {
+            long[] sums = entry.getValue();
+            if (sums[0] == 0 && sums[1] == 0 && sums[2] == 0) {
+                continue;
+            }
+            responses.add(SalesReportResponse.SalesBucketResponse.builder()
+                    .bucketStart(entry.getKey())
+                    .units(sums[0])
+                    .revenue(Money.fromMinorUnits(sums[1]))
+                    .orderCount(sums[2])
+                    .build());
+            totalUnits += sums[0];
+            totalRevenue += sums[1];
+            totalOrders += sums[2];
+        }
+
+        return SalesReportResponse.builder()
+                .productNumber(productNumber)
+                .granularity(granularity.name())
+                .from(from)
+                .to(to)
+                .totalUnits(totalUnits)
+                .totalRevenue(Money.fromMinorUnits(totalRevenue))
+                .totalOrderCount(totalOrders)
+                .buckets(responses)
+                .build();
+    }
+
+    private void upsert(Delta delta) {
+        BigDecimal revenue = Money.fromMinorUnits(delta.revenue());
+        int updated = salesRollupRepository.accumulate(delta.key().productNumber(), delta.key().bucketStart(),
+                delta.units(), revenue, delta.orderCount());
+        if (updated == 0) {
+            salesRollupRepository.save(new SalesRollup(delta.key().productNumber(), delta.key().bucketStart(),
+                    delta.units(), revenue, delta.orderCount()));
+        }
+    }
+
+    /**
+     * 구간 카운터에 누적 (반영을 위해 떼어낸 카운터를 잡았으면 새 카운터로 다시 시도)
+     */
+    private void add(long productNumber, LocalDateTime bucketStart, long units, long revenue, long orders) {
+        BucketKey key = new BucketKey(productNumber, bucketStart);
+        Counter counter;
+        do {
+            // 떼어낸 카운터는 이미 맵에서 제거되었으므로 다시 시도하면 새 카운터가 만들어짐
+            counter = counters.computeIfAbsent(key, k -> new Counter());
+        } while (!counter.add(units, revenue, orders));
+    }
+
+    private static void accumulate(TreeMap<LocalDateTime, long[]> buckets, LocalDateTime bucket,
+                                   long units, long revenue, long orders) {
+        long[] sums = buckets.computeIfAbsent(bucket, k -> new long[3]);
+        sums[0] += units;
+        sums[1] += revenue;
+        sums[2] += orders;
+    }
+
+    private record BucketKey(long productNumber, LocalDateTime bucketStart) {
+    }
+
+    private record Delta(BucketKey key, long units, long revenue, long orderCount) {
+        boolean isEmpty() {
+            return units == 0 && revenue == 0 && orderCount == 0;
+        }
+    }
+
+    /**
+     * 구간별 누적 카운터
+     *
+     * 반영 시 한 번만 떼어내어(retire) 읽고 버립니다. 누적 중인 스레드 수를 세어, 떼어낸 뒤에는
+     * 진행 중인 누적이 모두 끝난 값을 읽고 새 누적은 거부합니다.
+     */
+    private static final class Counter {
+        private final LongAdder units = new LongAdder();
+        private final LongAdder revenue = new LongAdder();
+        private final LongAdder orders = new LongAdder();
+        private final AtomicInteger writers = new AtomicInteger();
+        private volatile boolean retired;
+
+        /**
+         * @return 이미 떼어낸 카운터라 누적하지 않았으면 false
+         */
+        boolean add(long unitsDelta, long revenueDelta, long ordersDelta) {
+            writers.incrementAndGet();
+            try {
+                if (retired) {
+                    return false;
+                }
+                units.add(unitsDelta);
+                revenue.add(revenueDelta);
+                orders.add(ordersDelta);
+                return true;
+            } finally {
+                writers.decrementAndGet();
+            }
+        }
+
+        /**
+         * 새 누적을 막고 진행 중인 누적이 끝나기를 기다린 뒤 값 읽기 (맵에서 제거한 뒤 호출)
+         */
+        Delta retire(BucketKey key) {
+            retired = true;
+            while (writers.get() > 0) {
+                Thread.onSpinWait();
+            }
+            return new Delta(key, units.sum(), revenue.sum(), orders.sum());
+        }
+    }
+}
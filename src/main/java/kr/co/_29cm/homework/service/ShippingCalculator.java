@@ -1,17 +1,19 @@
 package kr.co._29cm.homework.service;
 
-import kr.co._29cm.homework.config.ShippingProperties;
+import kr.co._29cm.homework.domain.Money;
+import kr.co._29cm.homework.domain.OrderItem;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 /**
  * 배송비 계산 서비스
  * 
- * 주문 금액에 따라 배송비를 계산하고 총 결제 금액을 산출합니다.
- * 무료배송 기준 금액 미만일 경우 배송비를 부과하며,
- * 모든 금액 계산 시 HALF_UP 라운딩을 적용합니다.
+ * 주문 금액과 주문 상품에 따라 배송비를 계산하고 총 결제 금액을 산출합니다.
+ * 배송비는 {@link ShippingRuleEngine}의 현재 규칙(금액 구간별 배송비, 상품별 무료배송,
+ * 대형 상품 추가 배송비)으로 계산하며, 모든 금액 계산 시 HALF_UP 라운딩을 적용합니다.
  * 
  * @author 29CM Homework
  * @version 1.0
@@ -21,22 +23,19 @@ import java.math.BigDecimal;
 @RequiredArgsConstructor
 public class ShippingCalculator {
 
-    private final ShippingProperties shippingProperties;
+    private final ShippingRuleEngine shippingRuleEngine;
 
     /**
      * 배송비 계산
      * 
-     * 주문 총액이 무료배송 기준 미만인 경우 배송비를 반환하고,
-     * 기준 이상인 경우 0원을 반환합니다.
+     * 주문 총액이 속한 금액 구간의 기본 배송비를 반환합니다.
+     * 상품별 규칙은 주문 상품을 알 수 없으므로 적용하지 않습니다.
      * 
      * @param totalOrderAmount 주문 총액
-     * @return 배송비 (무료배송 기준 미만: 설정된 배송비, 기준 이상: 0원)
+     * @return 배송비 (금액 구간의 기본 배송비)
      */
     public BigDecimal calculateShippingFee(BigDecimal totalOrderAmount) {
-        if (totalOrderAmount.compareTo(shippingProperties.getFreeShippingThreshold()) < 0) {
-            return shippingProperties.getFee();
-        }
-        return BigDecimal.ZERO;
+        return shippingRuleEngine.current().baseFeeAmount(Money.toMinorUnits(totalOrderAmount));
     }
 
     /**
@@ -49,27 +48,65 @@ public class ShippingCalculator {
      * @return 총 결제 금액 (주문 총액 + 배송비, HALF_UP 라운딩 적용)
      */
     public BigDecimal calculateTotalPaymentAmount(BigDecimal totalOrderAmount) {
-        BigDecimal shippingFee = calculateShippingFee(totalOrderAmount);
-        return totalOrderAmount.add(shippingFee).setScale(2, java.math.RoundingMode.HALF_UP);
+        return Money.fromMinorUnits(calculateTotalPaymentMinorUnits(Money.toMinorUnits(totalOrderAmount)));
+    }
+
+    /**
+     * 총 결제 금액 계산 (최소 단위 금액)
+     * 
+     * 주문 처리 경로에서 BigDecimal 생성 없이 최소 단위(0.01) 정수로 계산합니다.
+     * 
+     * @param totalOrderMinorUnits 주문 총액 (최소 단위)
+     * @return 총 결제 금액 (최소 단위)
+     * @throws ArithmeticException long 범위를 넘는 경우
+     */
+    public long calculateTotalPaymentMinorUnits(long totalOrderMinorUnits) {
+        return Math.addExact(totalOrderMinorUnits, shippingRuleEngine.current().baseFee(totalOrderMinorUnits));
+    }
+
+    /**
+     * 주문 상품을 반영한 총 결제 금액 계산 (최소 단위 금액)
+     * 
+     * 금액 구간 배송비에 상품별 무료배송과 대형 상품 추가 배송비를 반영합니다.
+     * 
+     * @param totalOrderMinorUnits 주문 총액 (최소 단위)
+     * @param items 주문 항목
+     * @return 총 결제 금액 (최소 단위)
+     * @throws ArithmeticException long 범위를 넘는 경우
+     */
+    public long calculateTotalPaymentMinorUnits(long totalOrderMinorUnits, List<OrderItem> items) {
+        return Math.addExact(totalOrderMinorUnits, shippingRuleEngine.current().shippingFee(totalOrderMinorUnits, items));
+    }
+
+    /**
+     * 상품번호/수량으로 배송비 계산 (최소 단위 금액)
+     * 
+     * 주문을 만들지 않고 견적을 낼 때 주문과 같은 규칙으로 배송비를 계산합니다.
+     * 
+     * @param totalOrderMinorUnits 주문 총액 (최소 단위)
+     * @param productNumbers 상품번호
+     * @param quantities 상품별 수량 (productNumbers와 같은 순서)
+     * @return 배송비 (최소 단위)
+     */
+    public long calculateShippingFeeMinorUnits(long totalOrderMinorUnits, long[] productNumbers, int[] quantities) {
+        return shippingRuleEngine.current().shippingFee(totalOrderMinorUnits, productNumbers, quantities);
     }
 
     /**
      * 현재 배송비 정책 정보 조회
      * 
-     * @return 현재 설정된 배송비 정책 (무료배송 기준 금액, 배송비)
+     * @return 현재 적용 중인 배송비 정책 (무료배송 기준 금액, 기본 배송비)
      */
     public ShippingPolicy getShippingPolicy() {
-        return new ShippingPolicy(
-                shippingProperties.getFreeShippingThreshold(),
-                shippingProperties.getFee()
-        );
+        ShippingRules rules = shippingRuleEngine.current();
+        return new ShippingPolicy(rules.freeShippingThreshold(), rules.defaultFeeAmount());
     }
 
     /**
      * 배송비 정책 정보를 담는 레코드
      * 
-     * @param freeShippingThreshold 무료배송 기준 금액
-     * @param shippingFee 배송비
+     * @param freeShippingThreshold 무료배송 기준 금액 (무료배송 구간이 없으면 null)
+     * @param shippingFee 기본 배송비 (첫 금액 구간의 배송비)
      */
     public record ShippingPolicy(
             BigDecimal freeShippingThreshold,
@@ -0,0 +1,34 @@
+package kr.co._29cm.homework.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 배송비 규칙 파일 형식 (JSON)
+ * 
+ * <pre>
+ * {
+ *   "tiers": [
+ *     {"minAmount": 0, "fee": 3000},
+ *     {"minAmount": 30000, "fee": 2500},
+ *     {"minAmount": 50000, "fee": 0}
+ *   ],
+ *   "freeShippingProducts": [768848],
+ *   "bulkySurcharges": [{"productNumber": 648418, "surchargePerUnit": 5000}]
+ * }
+ * </pre>
+ * 
+ * @param tiers 주문 총액 구간별 기본 배송비 (minAmount 이상인 마지막 구간 적용, 첫 구간은 0부터)
+ * @param freeShippingProducts 함께 주문하면 기본 배송비가 면제되는 상품번호 목록
+ * @param bulkySurcharges 대형 상품 수량당 추가 배송비 (무료배송이어도 부과)
+ */
+public record ShippingRuleDefinition(
+        List<Tier> tiers,
+        List<Long> freeShippingProducts,
+        List<Surcharge> bulkySurcharges
+) {
+
+    public record Tier(BigDecimal minAmount, BigDecimal fee) {}
+
+    public record Surcharge(Long productNumber, BigDecimal surchargePerUnit) {}
+}
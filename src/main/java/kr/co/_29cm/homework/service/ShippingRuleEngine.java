@@ -0,0 +1,140 @@
+package kr.co._29cm.homework.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co._29cm.homework.config.ShippingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 배송비 규칙 엔진
+ * 
+ * 배송비 규칙 파일(shipping.rules.file)을 읽어 결정 테이블로 컴파일하고, 파일이 바뀌면
+ * 검증을 거쳐 새 테이블로 원자적으로 교체합니다. 검증에 실패한 규칙은 적용하지 않고
+ * 이전 규칙을 유지하므로 재배포 없이 배송비 정책을 변경할 수 있습니다.
+ * 규칙 파일을 지정하지 않으면 shipping.policy의 무료배송 기준 금액/배송비로 규칙을 만듭니다.
+ * 
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+@Component
+public class ShippingRuleEngine {
+
+    private final ObjectMapper objectMapper;
+    private final CatalogVersion catalogVersion;
+    private final Path rulesFile;
+
+    private final AtomicReference<ShippingRules> rules = new AtomicReference<>();
+    private volatile FileStamp loadedStamp;
+
+    /**
+     * @throws IllegalStateException 지정한 규칙 파일을 읽을 수 없거나 규칙이 올바르지 않은 경우 (기동 실패)
+     */
+    @Autowired
+    public ShippingRuleEngine(ShippingProperties shippingProperties,
+                              ObjectMapper objectMapper,
+                              CatalogVersion catalogVersion,
+                              @Value("${shipping.rules.file:}") String rulesFile) {
+        this.objectMapper = objectMapper;
+        this.catalogVersion = catalogVersion;
+        this.rulesFile = StringUtils.hasText(rulesFile) ? Path.of(rulesFile) : null;
+
+        if (this.rulesFile == null) {
+            rules.set(ShippingRules.compile(fromProperties(shippingProperties)));
+            log.info("배송비 규칙: shipping.policy 설정 사용");
+            return;
+        }
+        try {
+            FileStamp stamp = FileStamp.of(this.rulesFile);
+            rules.set(load());
+            loadedStamp = stamp;
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("배송비 규칙 파일을 적용할 수 없습니다: " + this.rulesFile, e);
+        }
+        log.info("배송비 규칙 파일 적용: {}", this.rulesFile);
+    }
+
+    /**
+     * 현재 적용 중인 규칙
+     */
+    ShippingRules current() {
+        return rules.get();
+    }
+
+    /**
+     * 규칙 파일이 변경되었으면 다시 컴파일하여 교체
+     *
+     * @return 새 규칙이 적용되었으면 true
+     */
+    @Scheduled(fixedDelayString = "${shipping.rules.reload-delay-ms:2000}")
+    public boolean reloadIfChanged() {
+        if (rulesFile == null) {
+            return false;
+        }
+        FileStamp stamp;
+        try {
+            stamp = FileStamp.of(rulesFile);
+        } catch (IOException e) {
+            log.warn("배송비 규칙 파일을 확인할 수 없어 기존 규칙 유지: {}", rulesFile);
+            return false;
+        }
+        if (stamp.equals(loadedStamp)) {
+            return false;
+        }
+        // 같은 파일 내용으로 재시도하지 않도록 검증 결과와 관계없이 확인한 시점을 기록
+        loadedStamp = stamp;
+        try {
+            ShippingRules compiled = load();
+            rules.set(compiled);
+            catalogVersion.bump();
+            log.info("배송비 규칙 재적용: 구간 {}개, 상품 규칙 {}개", compiled.tierCount(), compiled.productRuleCount());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("배송비 규칙 검증 실패로 기존 규칙 유지: {}", rulesFile, e);
+            return false;
+        }
+    }
+
+    private ShippingRules load() throws IOException {
+        try (InputStream in = Files.newInputStream(rulesFile)) {
+            return ShippingRules.compile(objectMapper.readValue(in, ShippingRuleDefinition.class));
+        }
+    }
+
+    private static ShippingRuleDefinition fromProperties(ShippingProperties properties) {
+        List<ShippingRuleDefinition.Tier> tiers = new ArrayList<>();
+        if (properties.getFreeShippingThresholdMinorUnits() > 0) {
+            tiers.add(new ShippingRuleDefinition.Tier(BigDecimal.ZERO, properties.getFee()));
+            tiers.add(new ShippingRuleDefinition.Tier(properties.getFreeShippingThreshold(), BigDecimal.ZERO));
+        } else {
+            tiers.add(new ShippingRuleDefinition.Tier(BigDecimal.ZERO, BigDecimal.ZERO));
+        }
+        return new ShippingRuleDefinition(tiers, List.of(), List.of());
+    }
+
+    /**
+     * 파일 변경 감지용 수정 시각/크기
+     */
+    private record FileStamp(long lastModifiedMillis, long size) {
+
+        static FileStamp of(Path path) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new FileStamp(attributes.lastModifiedTime().toMillis(), attributes.size());
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package kr.co._29cm.homework.service;
+
+import kr.co._29cm.homework.domain.Money;
+import kr.co._29cm.homework.domain.OrderItem;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 컴파일된 배송비 규칙 (결정 테이블)
+ * 
+ * 규칙 정의를 검증한 뒤 정렬된 원시 배열로 펼쳐 두며, 불변입니다.
+ * 주문 평가는 구간 이진 탐색과 상품번호 이진 탐색만으로 이루어지고 객체를 생성하지 않습니다.
+ * (주문 항목용과 배열용 평가는 같은 계산 단계를 쓰되 람다 없이 각자 원시 루프로 돕니다.)
+ * 
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+final class ShippingRules {
+
+    /** 구간 시작 금액 (최소 단위, 오름차순, 첫 값은 0) */
+    private final long[] tierMinAmounts;
+    /** 구간별 기본 배송비 (최소 단위) */
+    private final long[] tierFees;
+    /** 구간별 기본 배송비 (설정값 그대로, 정책 조회 응답용) */
+    private final BigDecimal[] tierFeeAmounts;
+    private final BigDecimal[] tierMinAmountValues;
+
+    /** 규칙이 있는 상품번호 (오름차순) */
+    private final long[] productNumbers;
+    private final boolean[] freeShipping;
+    /** 상품 수량당 추가 배송비 (최소 단위) */
+    private final long[] surcharges;
+
+    private ShippingRules(long[] tierMinAmounts, long[] tierFees, BigDecimal[] tierMinAmountValues,
+                          BigDecimal[] tierFeeAmounts, long[] productNumbers, boolean[] freeShipping, long[] surcharges) {
+        this.tierMinAmounts = tierMinAmounts;
+        this.tierFees = tierFees;
+        this.tierMinAmountValues = tierMinAmountValues;
+        this.tierFeeAmounts = tierFeeAmounts;
+        this.productNumbers = productNumbers;
+        this.freeShipping = freeShipping;
+        this.surcharges = surcharges;
+    }
+
+    /**
+     * 규칙 정의 검증 및 컴파일
+     *
+     * @throws IllegalArgumentException 규칙이 올바르지 않은 경우
+     */
+    static ShippingRules compile(ShippingRuleDefinition definition) {
+        if (definition == null || definition.tiers() == null || definition.tiers().isEmpty()) {
+            throw new IllegalArgumentException("배송비 구간이 하나 이상 필요합니다.");
+        }
+
+        List<ShippingRuleDefinition.Tier> tiers = definition.tiers();
+        long[] tierMinAmounts = new long[tiers.size()];
+        long[] tierFees = new long[tiers.size()];
+        BigDecimal[] tierMinAmountValues = new BigDecimal[tiers.size()];
+        BigDecimal[] tierFeeAmounts = new BigDecimal[tiers.size()];
+        for (int i = 0; i < tiers.size(); i++) {
+            ShippingRuleDefinition.Tier tier = tiers.get(i);
+            if (tier == null || tier.minAmount() == null || tier.fee() == null) {
+                throw new IllegalArgumentException("배송비 구간 " + i + ": minAmount와 fee는 필수입니다.");
+            }
+            tierMinAmounts[i] = Money.toMinorUnits(tier.minAmount());
+            tierFees[i] = Money.toMinorUnits(tier.fee());
+            tierMinAmountValues[i] = tier.minAmount();
+            tierFeeAmounts[i] = tier.fee();
+            if (tierFees[i] < 0) {
+                throw new IllegalArgumentException("배송비 구간 " + i + ": 배송비는 0 이상이어야 합니다.");
+            }
+            if (i == 0 && tierMinAmounts[0] != 0) {
+                throw new IllegalArgumentException("첫 배송비 구간의 minAmount는 0이어야 합니다.");
+            }
+            if (i > 0 && tierMinAmounts[i] <= tierMinAmounts[i - 1]) {
+                throw new IllegalArgumentException("배송비 구간 " + i + ": minAmount는 오름차순이어야 합니다.");
+            }
+        }
+
+        // 상품별 규칙 병합 (무료배송 + 추가 배송비가 같은 상품에 함께 지정될 수 있음)
+        TreeMap<Long, long[]> products = new TreeMap<>(); // [무료배송 여부(0/1), 추가 배송비]
+        if (definition.freeShippingProducts() != null) {
+            for (Long productNumber : definition.freeShippingProducts()) {
+                if (productNumber == null) {
+                    throw new IllegalArgumentException("무료배송 상품번호는 null일 수 없습니다.");
+                }
+                products.computeIfAbsent(productNumber, k -> new long[2])[0] = 1;
+            }
+        }
+        if (definition.bulkySurcharges() != null) {
+            for (ShippingRuleDefinition.Surcharge surcharge : definition.bulkySurcharges()) {
+                if (surcharge == null || surcharge.productNumber() == null || surcharge.surchargePerUnit() == null) {
+                    throw new IllegalArgumentException("추가 배송비 규칙: productNumber와 surchargePerUnit은 필수입니다.");
+                }
+                long amount = Money.toMinorUnits(surcharge.surchargePerUnit());
+                if (amount <= 0) {
+                    throw new IllegalArgumentException("추가 배송비는 0보다 커야 합니다: 상품번호 " + surcharge.productNumber());
+                }
+                long[] rule = products.computeIfAbsent(surcharge.productNumber(), k -> new long[2]);
+                if (rule[1] != 0) {
+                    throw new IllegalArgumentException("추가 배송비 규칙이 중복되었습니다: 상품번호 " + surcharge.productNumber());
+                }
+                rule[1] = amount;
+            }
+        }
+
+        long[] productNumbers = new long[products.size()];
+        boolean[] freeShipping = new boolean[products.size()];
+        long[] surcharges = new long[products.size()];
+        int index = 0;
+        for (var entry : products.entrySet()) {
+            productNumbers[index] = entry.getKey();
+            freeShipping[index] = entry.getValue()[0] == 1;
+            surcharges[index] = entry.getValue()[1];
+            index++;
+        }
+
+        return new ShippingRules(tierMinAmounts, tierFees, tierMinAmountValues, tierFeeAmounts,
+                productNumbers, freeShipping, surcharges);
+    }
+
+    /**
+     * 주문 배송비 계산 (최소 단위)
+     *
+     * @param totalOrderMinorUnits 주문 총액 (최소 단위)
+     * @param items 주문 항목
+     * @return 배송비 (구간 기본 배송비 또는 무료배송 + 대형 상품 추가 배송비)
+     */
+    long shippingFee(long totalOrderMinorUnits, List<OrderItem> items) {
+        boolean free = false;
+        long surcharge = 0;
+        if (productNumbers.length > 0) {
+            for (int i = 0; i < items.size(); i++) {
+                OrderItem item = items.get(i);
+                int index = Arrays.binarySearch(productNumbers, item.getProductNumber());
+                if (index < 0) {
+                    continue;
+                }
+                free |= freeShipping[index];
+                surcharge = addSurcharge(surcharge, index, item.getQuantity());
+            }
+        }
+        return fee(totalOrderMinorUnits, free, surcharge);
+    }
+
+    /**
+     * 상품번호/수량 배열로 배송비 계산 (최소 단위, 견적용 - 주문과 같은 계산 사용)
+     *
+     * @param totalOrderMinorUnits 주문 총액 (최소 단위)
+     * @param productNumbers 상품번호
+     * @param quantities 상품별 수량 (productNumbers와 같은 순서)
+     * @return 배송비 (구간 기본 배송비 또는 무료배송 + 대형 상품 추가 배송비)
+     */
+    long shippingFee(long totalOrderMinorUnits, long[] productNumbers, int[] quantities) {
+        boolean free = false;
+        long surcharge = 0;
+        if (this.productNumbers.length > 0) {
+            for (int i = 0; i < productNumbers.length; i++) {
+                int index = Arrays.binarySearch(this.productNumbers, productNumbers[i]);
+                if (index < 0) {
+                    continue;
+                }
+                free |= freeShipping[index];
+                surcharge = addSurcharge(surcharge, index, quantities[i]);
+            }
+        }
+        return fee(totalOrderMinorUnits, free, surcharge);
+    }
+
+    /**
+     * 상품 규칙의 추가 배송비를 수량만큼 누적
+     */
+    private long addSurcharge(long surcharge, int ruleIndex, int quantity) {
+        return Math.addExact(surcharge, Math.multiplyExact(surcharges[ruleIndex], quantity));
+    }
+
+    /**
+     * 구간 기본 배송비 (무료배송 상품이 있으면 0) + 추가 배송비
+     */
+    private long fee(long totalOrderMinorUnits, boolean free, long surcharge) {
+        return Math.addExact(free ? 0 : tierFees[tierIndex(totalOrderMinorUnits)], surcharge);
+    }
+
+    /**
+     * 주문 총액 구간의 기본 배송비 (최소 단위)
+     */
+    long baseFee(long totalOrderMinorUnits) {
+        return tierFees[tierIndex(totalOrderMinorUnits)];
+    }
+
+    /**
+     * 주문 총액 구간의 기본 배송비 (설정값 그대로)
+     */
+    BigDecimal baseFeeAmount(long totalOrderMinorUnits) {
+        return tierFeeAmounts[tierIndex(totalOrderMinorUnits)];
+    }
+
+    /**
+     * 기본 배송비 (첫 구간)
+     */
+    BigDecimal defaultFeeAmount() {
+        return tierFeeAmounts[0];
+    }
+
+    /**
+     * 기본 배송비가 0원이 되는 첫 구간의 시작 금액 (없으면 null)
+     */
+    BigDecimal freeShippingThreshold() {
+        for (int i = 0; i < tierFees.length; i++) {
+            if (tierFees[i] == 0) {
+                return tierMinAmountValues[i];
+            }
+        }
+        return null;
+    }
+
+    int tierCount() {
+        return tierFees.length;
+    }
+
+    int productRuleCount() {
+        return productNumbers.length;
+    }
+
+    /**
+     * 주문 총액이 속한 구간 (minAmount 이하인 마지막 구간)
+     */
+    private int tierIndex(long totalOrderMinorUnits) {
+        int index = Arrays.binarySearch(tierMinAmounts, totalOrderMinorUnits);
+        if (index >= 0) {
+            return index;
+        }
+        return Math.max(0, -index - 2);
+    }
+}
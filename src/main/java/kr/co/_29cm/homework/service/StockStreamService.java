@@ -0,0 +1,248 @@
+package kr.co._29cm.homework.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 재고 변경 SSE 스트림 서비스
+ *
+ * 주문 커밋으로 바뀐 상품별 재고(상품번호 → 재고수량)를 짧은 주기 동안 모아
+ * 상품별 최신값만 남긴 뒤, 이벤트를 한 번만 만들어 모든 구독자에게 전송합니다.
+ * 구독 연결은 서블릿 비동기 요청으로 유지되므로 연결마다 스레드를 점유하지 않습니다.
+ * 
+ * 전송은 발행 스케줄러가 아닌 전송 스레드(stock.stream.send-threads)에서 구독자별 순서대로 이루어지므로
+ * 느린 구독자가 다른 구독자나 다음 발행을 지연시키지 않습니다. 아직 보내지 못한 이벤트가
+ * stock.stream.max-pending-events를 넘는 구독자는 연결을 종료합니다 (클라이언트가 다시 구독).
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+@Service
+public class StockStreamService {
+
+    public static final String STOCK_EVENT = "stock";
+
+    private final ObjectMapper objectMapper;
+    private final Executor sendExecutor;
+    private final ExecutorService ownedExecutor;
+
+    private final CopyOnWriteArrayList<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ConcurrentHashMap<Long, Integer> pending = new ConcurrentHashMap<>();
+
+    @Value("${stock.stream.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs = 1_800_000L;
+
+    @Value("${stock.stream.max-pending-events:64}")
+    private int maxPendingEvents = 64;
+
+    @Autowired
+    public StockStreamService(ObjectMapper objectMapper,
+                              @Value("${stock.stream.send-threads:4}") int sendThreads) {
+        this(objectMapper, Executors.newFixedThreadPool(Math.max(1, sendThreads), runnable -> {
+            Thread thread = new Thread(runnable, "stock-stream-send");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    StockStreamService(ObjectMapper objectMapper, Executor sendExecutor) {
+        this.objectMapper = objectMapper;
+        this.sendExecutor = sendExecutor;
+        this.ownedExecutor = sendExecutor instanceof ExecutorService executorService ? executorService : null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 재고 스트림 구독
+     *
+     * @return 구독자용 SSE 연결
+     */
+    public SseEmitter subscribe() {
+        return register(new SseEmitter(emitterTimeoutMs));
+    }
+
+    SseEmitter register(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        log.debug("재고 스트림 구독: 구독자 {}명", subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * 현재 구독자 수
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * 재고 변경 기록 (같은 주기 안에서는 상품별 최신값만 유지)
+     */
+    public void publish(Long productNumber, Integer stockQuantity) {
+        pending.put(productNumber, stockQuantity);
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 재고 변경 기록
+     *
+     * 롤백된 주문의 재고가 전송되지 않도록 커밋 시점까지 기록을 미룹니다.
+     */
+    public void publishAfterCommit(Long productNumber, Integer stockQuantity) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(productNumber, stockQuantity);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(productNumber, stockQuantity);
+            }
+        });
+    }
+
+    /**
+     * 모아둔 재고 변경을 모든 구독자에게 전송
+     */
+    @Scheduled(fixedDelayString = "${stock.stream.coalesce-window-ms:200}")
+    public void flush() {
+        Map<Long, Integer> batch = drain();
+        if (batch.isEmpty() || subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            // 페이로드는 한 번만 직렬화하여 모든 구독자에게 공유
+            String payload = objectMapper.writeValueAsString(batch);
+            broadcast(SseEmitter.event().name(STOCK_EVENT).data(payload, MediaType.APPLICATION_JSON));
+        } catch (JsonProcessingException e) {
+            log.error("재고 스트림 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 유휴 연결 유지 및 끊어진 구독자 정리를 위한 하트비트
+     */
+    @Scheduled(fixedDelayString = "${stock.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            broadcast(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    /**
+     * 모아둔 재고 변경 꺼내기
+     *
+     * 꺼내는 도중 같은 상품이 다시 갱신되면 조건부 삭제가 실패하여 다음 주기에 최신값이 전송됩니다.
+     */
+    Map<Long, Integer> drain() {
+        if (pending.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Integer> batch = new TreeMap<>();
+        for (Map.Entry<Long, Integer> entry : pending.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue());
+            pending.remove(entry.getKey(), entry.getValue());
+        }
+        return batch;
+    }
+
+    /**
+     * 이벤트를 한 번만 만들어 모든 구독자의 전송 대기열에 추가 (SseEventBuilder.build()는 호출할 때마다 내용이 누적됨)
+     */
+    private void broadcast(SseEmitter.SseEventBuilder builder) {
+        Set<ResponseBodyEmitter.DataWithMediaType> event = builder.build();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    /**
+     * 구독자별 전송 대기열
+     *
+     * 한 번에 하나의 전송 작업만 대기열을 비우므로 구독자마다 이벤트 순서가 유지됩니다.
+     */
+    private final class Subscriber implements Runnable {
+
+        private final SseEmitter emitter;
+        private final ConcurrentLinkedQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean dropped;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (queued.incrementAndGet() > maxPendingEvents) {
+                // 전송이 막힌 구독자: 목록에서 빼고, 막힌 전송이 끝나면 전송 스레드에서 연결 종료
+                dropped = true;
+                subscribers.remove(this);
+                queue.clear();
+                log.debug("느린 재고 스트림 구독자 연결 종료: 대기 이벤트 {}건 초과", maxPendingEvents);
+                return;
+            }
+            queue.add(event);
+            if (scheduled.compareAndSet(false, true)) {
+                sendExecutor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            Set<ResponseBodyEmitter.DataWithMediaType> event;
+            while (!dropped && (event = queue.poll()) != null) {
+                queued.decrementAndGet();
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    subscribers.remove(this);
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+            if (dropped) {
+                emitter.complete();
+                return;
+            }
+            scheduled.set(false);
+            if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                sendExecutor.execute(this);
+            }
+        }
+    }
+}
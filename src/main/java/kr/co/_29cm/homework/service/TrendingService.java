@@ -0,0 +1,264 @@
+package kr.co._29cm.homework.service;
+
+import kr.co._29cm.homework.domain.Order;
+import kr.co._29cm.homework.domain.OrderItem;
+import kr.co._29cm.homework.dto.response.ProductResponse;
+import kr.co._29cm.homework.dto.response.TrendingProductResponse;
+import kr.co._29cm.homework.exception.InvalidRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 실시간 인기 상품 서비스
+ *
+ * 커밋된 주문 항목의 판매 수량을 시간 구간별 Count-Min 스케치에 누적하고,
+ * 구간마다 판매량이 많은 후보 상품을 일정 개수만 유지합니다.
+ * 조회 시 기간에 해당하는 구간의 스케치를 합산해 후보들의 판매량을 추정하고
+ * 최소 힙으로 상위 K개를 고릅니다. 기간을 벗어난 구간은 재사용 시 비워지므로
+ * 메모리 사용량은 상품 수와 관계없이 (구간 수 x 스케치 크기)로 일정합니다.
+ *
+ * @author 29CM Homework
+ * @version 1.0
+ * @since 2025-01-19
+ */
+@Slf4j
+@Service
+public class TrendingService {
+
+    public static final int MAX_LIMIT = 50;
+
+    private final ProductLookupService productLookupService;
+    private final Duration bucketDuration;
+    private final Bucket[] buckets;
+    private final int candidatesPerBucket;
+    private final int depth;
+    private final Clock clock;
+
+    @Autowired
+    public TrendingService(ProductLookupService productLookupService,
+                           @Value("${trending.bucket-duration:1m}") Duration bucketDuration,
+                           @Value("${trending.max-window:1h}") Duration maxWindow,
+                           @Value("${trending.sketch.depth:4}") int depth,
+                           @Value("${trending.sketch.width:1024}") int width) {
+        this(productLookupService, bucketDuration, maxWindow, depth, width, Clock.systemUTC());
+    }
+
+    TrendingService(ProductLookupService productLookupService, Duration bucketDuration, Duration maxWindow,
+                    int depth, int width, Clock clock) {
+        if (bucketDuration.isZero() || bucketDuration.isNegative() || maxWindow.compareTo(bucketDuration) < 0) {
+            throw new IllegalArgumentException("trending 구간/기간 설정이 올바르지 않습니다.");
+        }
+        this.productLookupService = productLookupService;
+        this.bucketDuration = bucketDuration;
+        this.clock = clock;
+        this.candidatesPerBucket = MAX_LIMIT * 2;
+        this.depth = depth;
+        // 현재 진행 중인 구간까지 포함하도록 하나를 더 둠
+        int bucketCount = (int) (maxWindow.toMillis() / bucketDuration.toMillis()) + 1;
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket(new CountMinSketch(depth, width));
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 주문 항목을 판매량에 반영
+     */
+    public void recordAfterCommit(Order order) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(order);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(order);
+            }
+        });
+    }
+
+    void record(Order order) {
+        long epoch = currentEpoch();
+        Bucket bucket = bucket(epoch);
+        synchronized (bucket) {
+            bucket.resetIfStale(epoch);
+            for (OrderItem item : order.getItems()) {
+                bucket.add(item.getProductNumber(), item.getQuantity(), candidatesPerBucket);
+            }
+        }
+    }
+
+    /**
+     * 기간 내 판매량 상위 상품을 상품 정보와 함께 조회
+     *
+     * @param window 조회 기간
+     * @param limit 조회 개수
+     * @return 추정 판매량 내림차순 상위 상품 (삭제된 상품 제외)
+     */
+    public List<TrendingProductResponse> trendingProducts(Duration window, int limit) {
+        List<TrendingProduct> top = topProducts(window, limit);
+        if (top.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ProductResponse> products = new HashMap<>();
+        for (ProductResponse product : productLookupService.findByProductNumbers(
+                top.stream().map(TrendingProduct::productNumber).toList()).getProducts()) {
+            products.put(product.getProductNumber(), product);
+        }
+
+        List<TrendingProductResponse> responses = new ArrayList<>(top.size());
+        for (TrendingProduct trending : top) {
+            ProductResponse product = products.get(trending.productNumber());
+            if (product == null) {
+                continue;
+            }
+            responses.add(TrendingProductResponse.builder()
+                    .rank(responses.size() + 1)
+                    .productNumber(product.getProductNumber())
+                    .name(product.getName())
+                    .price(product.getPrice())
+                    .quantitySold(trending.quantity())
+                    .build());
+        }
+        return responses;
+    }
+
+    /**
+     * 기간 내 판매량 상위 상품 조회
+     *
+     * @param window 조회 기간 (구간 단위로 올림, 현재 진행 중인 구간 포함)
+     * @param limit 조회 개수
+     * @return 추정 판매량 내림차순 상위 상품
+     * @throws InvalidRequestException 기간이나 개수가 허용 범위를 벗어난 경우
+     */
+    public List<TrendingProduct> topProducts(Duration window, int limit) {
+        int windowBuckets = (int) ((window.toMillis() + bucketDuration.toMillis() - 1) / bucketDuration.toMillis());
+        if (window.isNegative() || window.isZero() || windowBuckets > buckets.length - 1) {
+            throw new InvalidRequestException("조회 기간은 " + bucketDuration + " 이상 "
+                    + bucketDuration.multipliedBy(buckets.length - 1L) + " 이하여야 합니다.");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("조회 개수는 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+
+        // 1. 기간 내 구간들의 후보 수집
+        long epoch = currentEpoch();
+        long fromEpoch = epoch - windowBuckets;
+        Set<Long> candidates = new HashSet<>();
+        for (long e = fromEpoch; e <= epoch; e++) {
+            Bucket bucket = bucket(e);
+            synchronized (bucket) {
+                if (bucket.epoch == e) {
+                    candidates.addAll(bucket.candidates.keySet());
+                }
+            }
+        }
+
+        // 2. 후보별로 구간 스케치의 행별 카운터를 합산
+        Map<Long, long[]> rowSums = new HashMap<>(candidates.size() * 4 / 3 + 1);
+        for (Long productNumber : candidates) {
+            rowSums.put(productNumber, new long[depth]);
+        }
+        for (long e = fromEpoch; e <= epoch; e++) {
+            Bucket bucket = bucket(e);
+            synchronized (bucket) {
+                if (bucket.epoch == e) {
+                    rowSums.forEach((productNumber, sums) -> bucket.sketch.addRowCounts(productNumber, sums));
+                }
+            }
+        }
+
+        PriorityQueue<TrendingProduct> top = new PriorityQueue<>(limit + 1,
+                Comparator.comparingLong(TrendingProduct::quantity).thenComparing(TrendingProduct::productNumber,
+                        Comparator.reverseOrder()));
+        for (Map.Entry<Long, long[]> entry : rowSums.entrySet()) {
+            long quantity = Arrays.stream(entry.getValue()).min().orElse(0);
+            Long productNumber = entry.getKey();
+            if (quantity <= 0) {
+                continue;
+            }
+            top.offer(new TrendingProduct(productNumber, quantity));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<TrendingProduct> result = new ArrayList<>(top);
+        result.sort(top.comparator().reversed());
+        return result;
+    }
+
+    private Bucket bucket(long epoch) {
+        return buckets[(int) Math.floorMod(epoch, (long) buckets.length)];
+    }
+
+    private long currentEpoch() {
+        return clock.millis() / bucketDuration.toMillis();
+    }
+
+    /**
+     * 상품별 추정 판매량
+     */
+    public record TrendingProduct(Long productNumber, long quantity) {
+    }
+
+    /**
+     * 시간 구간 (스케치와 판매량 상위 후보)
+     */
+    private static final class Bucket {
+        private final CountMinSketch sketch;
+        private final Map<Long, Long> candidates = new HashMap<>();
+        private long epoch = -1;
+
+        Bucket(CountMinSketch sketch) {
+            this.sketch = sketch;
+        }
+
+        void resetIfStale(long currentEpoch) {
+            if (epoch != currentEpoch) {
+                sketch.clear();
+                candidates.clear();
+                epoch = currentEpoch;
+            }
+        }
+
+        /**
+         * 판매량 반영 후 후보 갱신 (후보가 가득 차면 추정치가 가장 작은 후보와 교체)
+         */
+        void add(long productNumber, long quantity, int capacity) {
+            sketch.add(productNumber, quantity);
+            long estimate = sketch.estimate(productNumber);
+            if (candidates.containsKey(productNumber) || candidates.size() < capacity) {
+                candidates.put(productNumber, estimate);
+                return;
+            }
+            Map.Entry<Long, Long> min = null;
+            for (Map.Entry<Long, Long> entry : candidates.entrySet()) {
+                if (min == null || entry.getValue() < min.getValue()) {
+                    min = entry;
+                }
+            }
+            if (min != null && estimate > min.getValue()) {
+                candidates.remove(min.getKey());
+                candidates.put(productNumber, estimate);
+            }
+        }
+    }
+}
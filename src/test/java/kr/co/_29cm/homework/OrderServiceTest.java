@@ -14,7 +14,12 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest
+/**
+ * OrderService 테스트
+ * 
+ * 테스트마다 컨텍스트를 새로 만들고, 컨텍스트마다 별도 인메모리 DB를 사용해 같은 상품을 다시 저장할 수 있게 합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:order_service_${random.uuid};MODE=MySQL")
 @DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
 class OrderServiceTest {
 
@@ -51,5 +56,3 @@ class OrderServiceTest {
         assertThat(order.getPaymentAmount()).isEqualByComparingTo(BigDecimal.valueOf(29100));
     }
 }
-
-
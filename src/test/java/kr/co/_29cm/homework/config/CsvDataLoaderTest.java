@@ -0,0 +1,155 @@
+package kr.co._29cm.homework.config;
+
+import kr.co._29cm.homework.dto.response.CatalogImportStatusResponse;
+import kr.co._29cm.homework.service.CatalogImportService;
+import kr.co._29cm.homework.service.CatalogSnapshotService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CsvDataLoader / CatalogHealthIndicator 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("카탈로그 적재 및 readiness 테스트")
+class CsvDataLoaderTest {
+
+    @Mock
+    private CatalogImportService catalogImportService;
+
+    @Mock
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @TempDir
+    Path tempDir;
+
+    private CsvDataLoader loader(String location) {
+        return loader(location, "");
+    }
+
+    private CsvDataLoader loader(String location, String snapshotFile) {
+        return new CsvDataLoader(catalogImportService, catalogSnapshotService, new DefaultResourceLoader(),
+                location, snapshotFile);
+    }
+
+    private static CatalogImportStatusResponse status(String state) {
+        return CatalogImportStatusResponse.builder().state(state).rowsRead(10).errors(List.of()).build();
+    }
+
+    @Test
+    @DisplayName("적재 전에는 OUT_OF_SERVICE, 가져오기와 스냅샷 생성 후 UP")
+    void 적재_전에는_OUT_OF_SERVICE_가져오기와_스냅샷_생성_후_UP() throws IOException {
+        // given
+        Path file = Files.writeString(tempDir.resolve("products.csv"), "상품번호,상품명,판매가격,재고수량\n");
+        String location = "file:" + file;
+        CsvDataLoader loader = loader(location);
+        CatalogHealthIndicator indicator = new CatalogHealthIndicator(loader, catalogImportService);
+        when(catalogImportService.status()).thenReturn(CatalogImportStatusResponse.builder()
+                .state("RUNNING").rowsRead(500).progressPercent(25.04).etaSeconds(30L).errors(List.of()).build());
+        Health loading = indicator.health();
+        when(catalogImportService.importFile(file, location)).thenReturn(status("COMPLETED"));
+
+        // when
+        loader.loadProducts();
+
+        // then
+        assertThat(loading.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(loading.getDetails()).containsEntry("phase", "PENDING")
+                .containsEntry("rowsRead", 500L)
+                .containsEntry("progressPercent", 25.0)
+                .containsEntry("etaSeconds", 30L);
+        assertThat(loader.getPhase()).isEqualTo(CsvDataLoader.Phase.READY);
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+        verify(catalogSnapshotService).refreshIfStale();
+    }
+
+    @Test
+    @DisplayName("가져오기 실패 시 DOWN, 스냅샷을 만들지 않음")
+    void 가져오기_실패_시_DOWN_스냅샷을_만들지_않음() throws IOException {
+        // given
+        Path file = Files.writeString(tempDir.resolve("products.csv"), "상품번호,상품명,판매가격,재고수량\n");
+        CsvDataLoader loader = loader("file:" + file);
+        when(catalogImportService.importFile(eq(file), any())).thenReturn(status("FAILED"));
+        when(catalogImportService.status()).thenReturn(status("FAILED"));
+
+        // when
+        loader.loadProducts();
+
+        // then
+        assertThat(loader.getPhase()).isEqualTo(CsvDataLoader.Phase.FAILED);
+        assertThat(new CatalogHealthIndicator(loader, catalogImportService).health().getStatus()).isEqualTo(Status.DOWN);
+        verify(catalogSnapshotService, never()).refreshIfStale();
+    }
+
+    @Test
+    @DisplayName("CSV가 없으면 가져오기 없이 준비 완료")
+    void CSV가_없으면_가져오기_없이_준비_완료() {
+        // given
+        CsvDataLoader loader = loader("file:" + tempDir.resolve("missing.csv"));
+
+        // when
+        loader.loadProducts();
+
+        // then
+        assertThat(loader.getPhase()).isEqualTo(CsvDataLoader.Phase.READY);
+        verify(catalogSnapshotService).refreshIfStale();
+    }
+
+    @Test
+    @DisplayName("바이너리 스냅샷에서 적재하면 CSV를 파싱하지 않음")
+    void 바이너리_스냅샷에서_적재하면_CSV를_파싱하지_않음() throws IOException {
+        // given
+        Path file = Files.writeString(tempDir.resolve("products.csv"), "상품번호,상품명,판매가격,재고수량\n");
+        Path snapshot = tempDir.resolve("catalog.snap");
+        CsvDataLoader loader = loader("file:" + file, snapshot.toString());
+        when(catalogImportService.restoreSnapshot(snapshot, Files.size(file), Files.getLastModifiedTime(file).toMillis()))
+                .thenReturn(Optional.of(status("COMPLETED")));
+
+        // when
+        loader.loadProducts();
+
+        // then
+        assertThat(loader.getPhase()).isEqualTo(CsvDataLoader.Phase.READY);
+        verify(catalogImportService, never()).importFile(any(), any());
+        verify(catalogImportService, never()).saveSnapshot(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("스냅샷을 쓸 수 없으면 CSV를 가져온 뒤 스냅샷 저장")
+    void 스냅샷을_쓸_수_없으면_CSV를_가져온_뒤_스냅샷_저장() throws IOException {
+        // given
+        Path file = Files.writeString(tempDir.resolve("products.csv"), "상품번호,상품명,판매가격,재고수량\n");
+        Path snapshot = tempDir.resolve("catalog.snap");
+        String location = "file:" + file;
+        CsvDataLoader loader = loader(location, snapshot.toString());
+        when(catalogImportService.restoreSnapshot(eq(snapshot), anyLong(), anyLong())).thenReturn(Optional.empty());
+        when(catalogImportService.importFile(file, location)).thenReturn(status("COMPLETED"));
+
+        // when
+        loader.loadProducts();
+
+        // then
+        assertThat(loader.getPhase()).isEqualTo(CsvDataLoader.Phase.READY);
+        verify(catalogImportService).saveSnapshot(snapshot, Files.size(file), Files.getLastModifiedTime(file).toMillis());
+    }
+}
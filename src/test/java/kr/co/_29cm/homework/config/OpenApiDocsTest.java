@@ -0,0 +1,62 @@
+package kr.co._29cm.homework.config;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OpenApiExporter / OpenApiConfig 테스트
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("OpenAPI 문서 테스트")
+class OpenApiDocsTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("실행 중인 서버의 OpenAPI 문서를 파일로 내보냄")
+    void 실행_중인_서버의_OpenAPI_문서를_파일로_내보냄() throws IOException {
+        // given
+        OpenApiExporter exporter = new OpenApiExporter(context, tempDir.resolve("docs/openapi.json"), "/api-docs");
+
+        // when
+        Path file = exporter.export(port);
+
+        // then
+        String document = Files.readString(file, StandardCharsets.UTF_8);
+        assertThat(document).contains("\"openapi\"")
+                .contains("29CM 상품 주문 API")
+                .contains("/api/orders")
+                .contains("/api/products");
+    }
+
+    @Test
+    @DisplayName("springdoc 런타임 문서 생성을 끄면 OpenAPI 빈을 등록하지 않음")
+    void springdoc_런타임_문서_생성을_끄면_OpenAPI_빈을_등록하지_않음() {
+        ApplicationContextRunner runner = new ApplicationContextRunner().withUserConfiguration(OpenApiConfig.class);
+
+        runner.run(enabled -> assertThat(enabled).hasSingleBean(OpenAPI.class));
+        runner.withPropertyValues("springdoc.api-docs.enabled=false")
+                .run(disabled -> assertThat(disabled).doesNotHaveBean(OpenAPI.class));
+    }
+}
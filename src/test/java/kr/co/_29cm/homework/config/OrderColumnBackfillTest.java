@@ -0,0 +1,87 @@
+package kr.co._29cm.homework.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OrderColumnBackfill 테스트
+ *
+ * 컬럼 추가 전에 저장된 행을 흉내 내기 위해 기본값 0으로 남은 행을 직접 넣고 백필합니다.
+ */
+@DisplayName("주문 컬럼 백필 테스트")
+class OrderColumnBackfillTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private OrderColumnBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:order_backfill_" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE orders (id BIGINT PRIMARY KEY, "
+                + "item_count INT DEFAULT 0 NOT NULL, total_quantity INT DEFAULT 0 NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE order_items (id BIGINT PRIMARY KEY, order_id BIGINT, "
+                + "unit_price DECIMAL(19, 2) NOT NULL, quantity INT NOT NULL, subtotal DECIMAL(19, 2) DEFAULT 0 NOT NULL)");
+        backfill = new OrderColumnBackfill(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("소계 컬럼 추가 전 행은 단가 × 수량으로 채우고 다시 실행해도 그대로")
+    void 소계_컬럼_추가_전_행은_단가_수량으로_채우고_다시_실행해도_그대로() {
+        // given
+        jdbcTemplate.update("INSERT INTO order_items (id, unit_price, quantity) VALUES (1, 2800, 3)");
+        jdbcTemplate.update("INSERT INTO order_items (id, unit_price, quantity, subtotal) VALUES (2, 21000, 1, 21000)");
+        jdbcTemplate.update("INSERT INTO order_items (id, unit_price, quantity) VALUES (3, 0, 2)");
+
+        // when
+        int first = backfill.backfillSubtotals();
+        int second = backfill.backfillSubtotals();
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(subtotal(1)).isEqualByComparingTo("8400");
+        assertThat(subtotal(2)).isEqualByComparingTo("21000");
+        assertThat(subtotal(3)).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("항목 수/총 수량 컬럼 추가 전 주문은 주문 항목에서 채우고 다시 실행해도 그대로")
+    void 항목_수_총_수량_컬럼_추가_전_주문은_주문_항목에서_채우고_다시_실행해도_그대로() {
+        // given
+        jdbcTemplate.update("INSERT INTO orders (id) VALUES (1)");
+        jdbcTemplate.update("INSERT INTO orders (id, item_count, total_quantity) VALUES (2, 1, 4)");
+        jdbcTemplate.update("INSERT INTO orders (id) VALUES (3)");
+        jdbcTemplate.update("INSERT INTO order_items (id, order_id, unit_price, quantity) VALUES (1, 1, 21000, 1)");
+        jdbcTemplate.update("INSERT INTO order_items (id, order_id, unit_price, quantity) VALUES (2, 1, 2800, 3)");
+        jdbcTemplate.update("INSERT INTO order_items (id, order_id, unit_price, quantity) VALUES (3, 2, 2800, 4)");
+
+        // when
+        backfill.backfill();
+        int again = backfill.backfillOrderCounts();
+
+        // then
+        assertThat(again).isZero();
+        assertThat(counts(1)).containsExactly(2, 4);
+        assertThat(counts(2)).containsExactly(1, 4);
+        assertThat(counts(3)).containsExactly(0, 0);
+        assertThat(subtotal(2)).isEqualByComparingTo("8400");
+    }
+
+    private int[] counts(long orderId) {
+        return jdbcTemplate.queryForObject("SELECT item_count, total_quantity FROM orders WHERE id = ?",
+                (rs, rowNum) -> new int[]{rs.getInt(1), rs.getInt(2)}, orderId);
+    }
+
+    private BigDecimal subtotal(long id) {
+        return jdbcTemplate.queryForObject("SELECT subtotal FROM order_items WHERE id = ?", BigDecimal.class, id);
+    }
+}
@@ -0,0 +1,156 @@
+package kr.co._29cm.homework.config;
+
+import kr.co._29cm.homework.domain.Product;
+import kr.co._29cm.homework.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 데이터소스 라우팅 테스트
+ *
+ * 두 개의 H2 인메모리 DB를 프라이머리/레플리카로 사용하고, 복제 대역을 직접 호출하여 동기화합니다.
+ */
+@SpringBootTest(properties = {
+        "datasource.routing.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "datasource.routing.replica.url=jdbc:h2:mem:routing_replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "datasource.routing.replica.h2-stand-in=true",
+        "datasource.routing.replica.sync-delay-ms=3600000"
+})
+@DisplayName("읽기/쓰기 데이터소스 라우팅 테스트")
+class ReadWriteRoutingTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicationState replicationState;
+
+    @Autowired
+    private H2ReplicationStandIn replicationStandIn;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistency.clear();
+    }
+
+    private String databaseName(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 프라이머리, 동기화된 읽기 전용 트랜잭션은 레플리카로 라우팅")
+    void 쓰기_트랜잭션은_프라이머리_동기화된_읽기_전용_트랜잭션은_레플리카로_라우팅() {
+        // given
+        replicationStandIn.sync();
+
+        // when & then
+        assertThat(databaseName(false)).isEqualToIgnoringCase("ROUTING_PRIMARY");
+        assertThat(databaseName(true)).isEqualToIgnoringCase("ROUTING_REPLICA");
+    }
+
+    @Test
+    @DisplayName("커밋된 쓰기는 복제 위치를 올리고 동기화 후 레플리카에서 조회")
+    void 커밋된_쓰기는_복제_위치를_올리고_동기화_후_레플리카에서_조회() {
+        // given
+        AtomicLong token = new AtomicLong();
+        replicationStandIn.sync();
+        long before = replicationState.replicaLsn();
+        ReadConsistency.begin(0L, token::set);
+
+        // when
+        productRepository.save(new Product(991001L, "라우팅 테스트 상품", BigDecimal.valueOf(1000), 5));
+
+        // then: 요청에 새 토큰이 전달되고, 레플리카가 따라잡기 전에는 읽기도 프라이머리로
+        assertThat(token.get()).isGreaterThan(before);
+        assertThat(replicationState.replicaCaughtUpTo(token.get())).isFalse();
+        assertThat(databaseName(true)).isEqualToIgnoringCase("ROUTING_PRIMARY");
+
+        replicationStandIn.sync();
+        assertThat(databaseName(true)).isEqualToIgnoringCase("ROUTING_REPLICA");
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Long replicated = readOnly.execute(status -> new JdbcTemplate(dataSource).queryForObject(
+                        "SELECT COUNT(*) FROM products WHERE product_number = 991001", Long.class));
+        assertThat(replicated).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("토큰 없이 읽으면 레플리카 지연과 관계없이 동기화된 레플리카 사용")
+    void 토큰_없이_읽으면_레플리카_지연과_관계없이_동기화된_레플리카_사용() {
+        // given: 레플리카 동기화 후 다른 요청의 쓰기 발생
+        replicationStandIn.sync();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                new JdbcTemplate(dataSource).update("UPDATE products SET stock_quantity = stock_quantity WHERE 1 = 0"));
+        ReadConsistency.begin(0L, lsn -> { });
+
+        // when & then
+        assertThat(databaseName(true)).isEqualToIgnoringCase("ROUTING_REPLICA");
+        assertThat(ReadConsistencyFilter.parseToken("abc")).isZero();
+        assertThat(ReadConsistencyFilter.parseToken(" 42 ")).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("레플리카 재적재는 진행 중인 레플리카 읽기가 끝난 뒤에 시작")
+    void 레플리카_재적재는_진행_중인_레플리카_읽기가_끝난_뒤에_시작() throws Exception {
+        // given: 동기화된 레플리카에서 읽기 트랜잭션 진행 중, 이후 프라이머리 쓰기 발생
+        replicationStandIn.sync();
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Long> reader = CompletableFuture.supplyAsync(() -> {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            return readOnly.execute(status -> {
+                JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+                assertThat(jdbc.queryForObject("SELECT DATABASE()", String.class)).isEqualToIgnoringCase("ROUTING_REPLICA");
+                reading.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return jdbc.queryForObject("SELECT COUNT(*) FROM products", Long.class);
+            });
+        });
+        assertThat(reading.await(10, TimeUnit.SECONDS)).isTrue();
+        AtomicLong token = new AtomicLong();
+        ReadConsistency.begin(0L, token::set);
+        productRepository.save(new Product(991002L, "재적재 테스트 상품", BigDecimal.valueOf(1000), 5));
+
+        // when
+        CompletableFuture<Void> sync = CompletableFuture.runAsync(replicationStandIn::sync);
+
+        // then: 읽기가 끝날 때까지 재적재하지 않고, 새 읽기는 프라이머리로
+        Thread.sleep(300);
+        assertThat(sync).isNotDone();
+        assertThat(databaseName(true)).isEqualToIgnoringCase("ROUTING_PRIMARY");
+        release.countDown();
+        assertThat(reader.get(10, TimeUnit.SECONDS)).isNotNull();
+        sync.get(10, TimeUnit.SECONDS);
+        assertThat(replicationState.replicaCaughtUpTo(token.get())).isTrue();
+        assertThat(databaseName(true)).isEqualToIgnoringCase("ROUTING_REPLICA");
+    }
+}
@@ -0,0 +1,195 @@
+package kr.co._29cm.homework.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReplicationHeartbeatProbe 테스트
+ *
+ * 복제 대역 없이 두 H2 DB를 프라이머리/레플리카로 사용하고, 복제 위치 행을 직접 복사하여 복제를 흉내 냅니다.
+ */
+@DisplayName("레플리카 heartbeat 확인 테스트")
+class ReplicationHeartbeatProbeTest {
+
+    private static final long MAX_LAG_MS = 5_000;
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicationState replicationState;
+    private ReplicationPosition position;
+    private MutableClock clock;
+    private ReplicationHeartbeatProbe probe;
+
+    @BeforeEach
+    void setUp() {
+        String name = UUID.randomUUID().toString();
+        primary = new DriverManagerDataSource("jdbc:h2:mem:probe_primary_" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        replica = new DriverManagerDataSource("jdbc:h2:mem:probe_replica_" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new JdbcTemplate(replica).execute(ReplicationPosition.CREATE_TABLE_SQL);
+        replicationState = new ReplicationState();
+        position = new ReplicationPosition(primary);
+        clock = new MutableClock(1_000_000L);
+        probe = new ReplicationHeartbeatProbe(position, replica, replicationState, MAX_LAG_MS, clock);
+    }
+
+    /**
+     * 프라이머리의 복제 위치 행을 레플리카로 복사 (복제 적용)
+     */
+    private void replicate() {
+        JdbcTemplate target = new JdbcTemplate(replica);
+        target.update("DELETE FROM replication_position");
+        new JdbcTemplate(primary).query("SELECT id, lsn, written_at FROM replication_position", rs -> {
+            target.update("INSERT INTO replication_position (id, lsn, written_at) VALUES (?, ?, ?)",
+                    rs.getInt(1), rs.getLong(2), rs.getLong(3));
+        });
+    }
+
+    @Test
+    @DisplayName("복제된 heartbeat 위치까지만 레플리카에서 읽을 수 있음")
+    void 복제된_heartbeat_위치까지만_레플리카에서_읽을_수_있음() {
+        // given: 첫 heartbeat가 아직 복제되지 않음
+        probe.probe();
+        assertThat(replicationState.replicaCaughtUpTo(0)).isFalse();
+
+        // when: 복제 적용
+        replicate();
+        probe.probe();
+
+        // then
+        assertThat(replicationState.replicaCaughtUpTo(0)).isTrue();
+
+        // 새 쓰기는 그 이후의 복제 위치가 복제될 때까지 레플리카에서 읽을 수 없음
+        long written = position.tokenAfterCommit();
+        assertThat(replicationState.replicaCaughtUpTo(written)).isFalse();
+        replicate();
+        assertThat(replicationState.replicaCaughtUpTo(written)).isFalse();
+        probe.probe();
+        assertThat(replicationState.replicaCaughtUpTo(written)).isFalse();
+        assertThat(replicationState.replicaCaughtUpTo(0)).isTrue();
+        replicate();
+        probe.probe();
+        assertThat(replicationState.replicaCaughtUpTo(written)).isTrue();
+    }
+
+    @Test
+    @DisplayName("레플리카 지연이 허용치를 넘거나 읽을 수 없으면 사용하지 않음")
+    void 레플리카_지연이_허용치를_넘거나_읽을_수_없으면_사용하지_않음() {
+        // given
+        probe.probe();
+        replicate();
+        probe.probe();
+        assertThat(replicationState.replicaCaughtUpTo(0)).isTrue();
+
+        // when & then: 복제가 멈춘 채로 시간이 지남
+        clock.advance(MAX_LAG_MS + 1);
+        probe.probe();
+        assertThat(replicationState.replicaCaughtUpTo(0)).isFalse();
+
+        replicate();
+        probe.probe();
+        assertThat(replicationState.replicaCaughtUpTo(0)).isTrue();
+
+        new JdbcTemplate(replica).execute("DROP TABLE replication_position");
+        probe.probe();
+        assertThat(replicationState.replicaCaughtUpTo(0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("일관성 토큰은 다른 인스턴스와 재시작 후에도 같은 기준으로 비교")
+    void 일관성_토큰은_다른_인스턴스와_재시작_후에도_같은_기준으로_비교() {
+        // given: 인스턴스 B는 쓰기 없이 heartbeat만 확인하며 레플리카를 따라잡은 상태
+        ReplicationState stateB = new ReplicationState();
+        ReplicationHeartbeatProbe probeB = new ReplicationHeartbeatProbe(
+                new ReplicationPosition(primary), replica, stateB, MAX_LAG_MS, clock);
+        for (int i = 0; i < 5; i++) {
+            probeB.probe();
+        }
+        replicate();
+        probeB.probe();
+
+        // when: 인스턴스 A가 쓰기 후 토큰 발급, 재시작한 인스턴스도 같은 DB 위치를 사용
+        long tokenA = position.tokenAfterCommit();
+        long tokenAfterRestart = new ReplicationPosition(primary).tokenAfterCommit();
+
+        // then: B의 레플리카 위치는 A의 쓰기 이후 위치가 복제되기 전까지 토큰을 만족하지 않음
+        assertThat(stateB.replicaCaughtUpTo(tokenA)).isFalse();
+        assertThat(tokenAfterRestart).isEqualTo(tokenA);
+        probeB.probe();
+        replicate();
+        probeB.probe();
+        assertThat(stateB.replicaCaughtUpTo(tokenA)).isTrue();
+    }
+
+    @Test
+    @DisplayName("heartbeat로 확인된 레플리카로 읽기 전용 트랜잭션 라우팅")
+    void heartbeat로_확인된_레플리카로_읽기_전용_트랜잭션_라우팅() {
+        // given
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primary, replica, replicationState, position));
+        TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(routing));
+        readOnly.setReadOnly(true);
+        String primaryName = new JdbcTemplate(primary).queryForObject("SELECT DATABASE()", String.class);
+        String replicaName = new JdbcTemplate(replica).queryForObject("SELECT DATABASE()", String.class);
+
+        // when
+        probe.probe();
+        String beforeReplication = readOnly.execute(status ->
+                new JdbcTemplate(routing).queryForObject("SELECT DATABASE()", String.class));
+        replicate();
+        probe.probe();
+        String afterReplication = readOnly.execute(status ->
+                new JdbcTemplate(routing).queryForObject("SELECT DATABASE()", String.class));
+
+        // then
+        assertThat(beforeReplication).isEqualTo(primaryName);
+        assertThat(afterReplication).isEqualTo(replicaName);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private long millis;
+
+        private MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(long deltaMillis) {
+            millis += deltaMillis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package kr.co._29cm.homework.controller;
+
+import kr.co._29cm.homework.dto.response.CatalogImportStatusResponse;
+import kr.co._29cm.homework.service.CatalogImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * CatalogImportController 테스트
+ */
+@WebMvcTest({CatalogImportController.class, kr.co._29cm.homework.exception.GlobalExceptionHandler.class})
+@DisplayName("상품 카탈로그 가져오기 컨트롤러 테스트")
+class CatalogImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CatalogImportService catalogImportService;
+
+    @Test
+    @DisplayName("가져오기 상태 조회 성공")
+    void 가져오기_상태_조회_성공() throws Exception {
+        // given
+        when(catalogImportService.status()).thenReturn(CatalogImportStatusResponse.builder()
+                .state("RUNNING")
+                .source("classpath:products.csv")
+                .rowsRead(200_000)
+                .inserted(199_990)
+                .failed(10)
+                .rowsPerSecond(50_000)
+                .errors(List.of(new CatalogImportStatusResponse.RowError(42, "판매가격 형식이 올바르지 않습니다: abc")))
+                .build());
+
+        // when & then
+        mockMvc.perform(get("/api/catalog/import"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.state").value("RUNNING"))
+                .andExpect(jsonPath("$.data.rowsRead").value(200000))
+                .andExpect(jsonPath("$.data.errors[0].lineNumber").value(42));
+    }
+}
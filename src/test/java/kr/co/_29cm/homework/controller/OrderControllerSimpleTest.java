@@ -7,6 +7,9 @@ import kr.co._29cm.homework.domain.Product;
 import kr.co._29cm.homework.dto.response.OrderResponse;
 import kr.co._29cm.homework.mapper.OrderMapper;
 import kr.co._29cm.homework.service.IdempotencyService;
+import kr.co._29cm.homework.service.ClosedRangeOrderPageCache;
+import kr.co._29cm.homework.service.OrderExportService;
+import kr.co._29cm.homework.service.OrderResponseCache;
 import kr.co._29cm.homework.service.OrderService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -31,6 +35,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * OrderController 기본 기능 테스트 (기존 테스트 대체)
  */
 @WebMvcTest({OrderController.class, kr.co._29cm.homework.exception.GlobalExceptionHandler.class})
+@Import({OrderResponseCache.class, ClosedRangeOrderPageCache.class})
 @DisplayName("주문 컨트롤러 기본 테스트")
 class OrderControllerSimpleTest {
 
@@ -46,6 +51,9 @@ class OrderControllerSimpleTest {
     @MockBean
     private IdempotencyService idempotencyService;
 
+    @MockBean
+    private OrderExportService orderExportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -10,6 +10,9 @@ import kr.co._29cm.homework.exception.InvalidOrderException;
 import kr.co._29cm.homework.exception.ProductNotFoundException;
 import kr.co._29cm.homework.mapper.OrderMapper;
 import kr.co._29cm.homework.service.IdempotencyService;
+import kr.co._29cm.homework.service.ClosedRangeOrderPageCache;
+import kr.co._29cm.homework.service.OrderExportService;
+import kr.co._29cm.homework.service.OrderResponseCache;
 import kr.co._29cm.homework.service.OrderService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -34,6 +38,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * OrderController 테스트 - 새로운 API 구조에 맞게 재작성
  */
 @WebMvcTest({OrderController.class, kr.co._29cm.homework.exception.GlobalExceptionHandler.class})
+@Import({OrderResponseCache.class, ClosedRangeOrderPageCache.class})
 @DisplayName("주문 컨트롤러 테스트")
 class OrderControllerTest {
 
@@ -49,6 +54,9 @@ class OrderControllerTest {
     @MockBean
     private IdempotencyService idempotencyService;
 
+    @MockBean
+    private OrderExportService orderExportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -9,6 +9,9 @@ import kr.co._29cm.homework.dto.response.OrderSummaryResponse;
 import kr.co._29cm.homework.exception.OrderNotFoundException;
 import kr.co._29cm.homework.mapper.OrderMapper;
 import kr.co._29cm.homework.service.IdempotencyService;
+import kr.co._29cm.homework.service.ClosedRangeOrderPageCache;
+import kr.co._29cm.homework.service.OrderExportService;
+import kr.co._29cm.homework.service.OrderResponseCache;
 import kr.co._29cm.homework.service.OrderService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,11 +19,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -30,7 +35,11 @@ import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -38,6 +47,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * OrderController의 주문 조회 기능 테스트
  */
 @WebMvcTest({OrderController.class, kr.co._29cm.homework.exception.GlobalExceptionHandler.class})
+@Import({OrderResponseCache.class, ClosedRangeOrderPageCache.class})
 @DisplayName("주문 조회 컨트롤러 테스트")
 class OrderQueryControllerTest {
 
@@ -53,6 +63,9 @@ class OrderQueryControllerTest {
     @MockBean
     private IdempotencyService idempotencyService;
 
+    @MockBean
+    private OrderExportService orderExportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -91,6 +104,7 @@ class OrderQueryControllerTest {
                 testOrderNumber,
                 testOrder.getOrderedAt(),
                 1,
+                1,
                 BigDecimal.valueOf(23500)
         );
     }
@@ -99,8 +113,7 @@ class OrderQueryControllerTest {
     @DisplayName("주문 상세 조회 성공")
     void 주문_상세_조회_성공() throws Exception {
         // given
-        when(orderService.findOrderByOrderNumber(testOrderNumber)).thenReturn(Optional.of(testOrder));
-        when(orderMapper.toResponse(testOrder)).thenReturn(orderResponse);
+        when(orderService.findOrderResponse(testOrderNumber)).thenReturn(Optional.of(orderResponse));
 
         // when & then
         mockMvc.perform(get("/api/orders/{orderNumber}", testOrderNumber)
@@ -113,6 +126,23 @@ class OrderQueryControllerTest {
                 .andExpect(jsonPath("$.data.paymentAmount").value(23500));
     }
 
+    @Test
+    @DisplayName("주문 상세 재조회 - 캐시된 응답을 조회 없이 반환")
+    void 주문_상세_재조회_캐시된_응답을_조회_없이_반환() throws Exception {
+        // given
+        when(orderService.findOrderResponse(testOrderNumber)).thenReturn(Optional.of(orderResponse));
+        mockMvc.perform(get("/api/orders/{orderNumber}", testOrderNumber))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(get("/api/orders/{orderNumber}", testOrderNumber))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data.orderNumber").value(testOrderNumber))
+                .andExpect(jsonPath("$.data.items[0].productNumber").value(768848));
+        verify(orderService, times(1)).findOrderResponse(testOrderNumber);
+    }
+
     // TODO: GlobalExceptionHandler 통합 후 활성화
     // @Test
     // @DisplayName("주문 상세 조회 실패 - 주문을 찾을 수 없음")
@@ -133,10 +163,8 @@ class OrderQueryControllerTest {
     @DisplayName("주문 목록 페이징 조회 성공")
     void 주문_목록_페이징_조회_성공() throws Exception {
         // given
-        List<Order> orders = List.of(testOrder);
-        Page<Order> orderPage = new PageImpl<>(orders);
-        when(orderService.findOrders(any(Pageable.class))).thenReturn(orderPage);
-        when(orderMapper.toSummaryResponse(testOrder)).thenReturn(orderSummaryResponse);
+        Page<OrderSummaryResponse> orderPage = new PageImpl<>(List.of(orderSummaryResponse));
+        when(orderService.findOrderSummaries(any(Pageable.class))).thenReturn(orderPage);
 
         // when & then
         mockMvc.perform(get("/api/orders")
@@ -157,11 +185,9 @@ class OrderQueryControllerTest {
     @DisplayName("기간별 주문 조회 성공")
     void 기간별_주문_조회_성공() throws Exception {
         // given
-        List<Order> orders = List.of(testOrder);
-        Page<Order> orderPage = new PageImpl<>(orders);
-        when(orderService.findOrdersByDateRange(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+        Page<OrderSummaryResponse> orderPage = new PageImpl<>(List.of(orderSummaryResponse));
+        when(orderService.findOrderSummariesByDateRange(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
                 .thenReturn(orderPage);
-        when(orderMapper.toSummaryResponse(testOrder)).thenReturn(orderSummaryResponse);
 
         // when & then
         mockMvc.perform(get("/api/orders")
@@ -176,12 +202,93 @@ class OrderQueryControllerTest {
                 .andExpect(jsonPath("$.data.content").value(org.hamcrest.Matchers.hasSize(1)));
     }
 
+    @Test
+    @DisplayName("종료된 기간 재조회 - 캐시된 페이지를 조회 없이 반환")
+    void 종료된_기간_재조회_캐시된_페이지를_조회_없이_반환() throws Exception {
+        // given
+        LocalDateTime startDate = LocalDateTime.of(2024, 3, 1, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(2024, 3, 31, 23, 59, 59);
+        when(orderService.findOrderSummariesByDateRange(eq(startDate), eq(endDate), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(orderSummaryResponse)));
+
+        // when & then
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/orders")
+                            .param("startDate", "2024-03-01T00:00:00")
+                            .param("endDate", "2024-03-31T23:59:59")
+                            .param("page", "0")
+                            .param("size", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content").value(org.hamcrest.Matchers.hasSize(1)))
+                    .andExpect(jsonPath("$.data.totalElements").value(1));
+        }
+        verify(orderService, times(1)).findOrderSummariesByDateRange(eq(startDate), eq(endDate), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("현재 시점에 걸친 기간은 매번 조회")
+    void 현재_시점에_걸친_기간은_매번_조회() throws Exception {
+        // given
+        LocalDateTime startDate = LocalDateTime.now().minusDays(1).withNano(0);
+        LocalDateTime endDate = LocalDateTime.now().plusDays(1).withNano(0);
+        when(orderService.findOrderSummariesByDateRange(eq(startDate), eq(endDate), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(orderSummaryResponse)));
+
+        // when & then
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/orders")
+                            .param("startDate", startDate.toString())
+                            .param("endDate", endDate.toString()))
+                    .andExpect(status().isOk());
+        }
+        verify(orderService, times(2)).findOrderSummariesByDateRange(eq(startDate), eq(endDate), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("주문 내보내기 - NDJSON 스트리밍 응답")
+    void 주문_내보내기_NDJSON_스트리밍_응답() throws Exception {
+        // given
+        org.mockito.Mockito.doAnswer(invocation -> {
+            java.io.OutputStream out = invocation.getArgument(3);
+            out.write("{\"orderNumber\":\"order-1\"}\n".getBytes(java.nio.charset.StandardCharsets.UTF_8));
+            return 1L;
+        }).when(orderExportService).export(any(LocalDateTime.class), any(LocalDateTime.class),
+                eq(OrderExportService.Format.NDJSON), any(java.io.OutputStream.class));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/orders/export")
+                        .param("startDate", "2025-01-01T00:00:00")
+                        .param("endDate", "2025-01-31T23:59:59")
+                        .param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition",
+                        org.hamcrest.Matchers.containsString("orders-2025-01-01-2025-01-31.ndjson")))
+                .andExpect(content().string("{\"orderNumber\":\"order-1\"}\n"));
+    }
+
+    @Test
+    @DisplayName("주문 내보내기 - 지원하지 않는 형식")
+    void 주문_내보내기_지원하지_않는_형식() throws Exception {
+        mockMvc.perform(get("/api/orders/export")
+                        .param("startDate", "2025-01-01T00:00:00")
+                        .param("endDate", "2025-01-31T23:59:59")
+                        .param("format", "xlsx"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"));
+    }
+
     @Test
     @DisplayName("주문 목록 조회 - 빈 결과")
     void 주문_목록_조회_빈_결과() throws Exception {
         // given
-        Page<Order> emptyPage = new PageImpl<>(List.of());
-        when(orderService.findOrders(any(Pageable.class))).thenReturn(emptyPage);
+        Page<OrderSummaryResponse> emptyPage = new PageImpl<>(List.of());
+        when(orderService.findOrderSummaries(any(Pageable.class))).thenReturn(emptyPage);
 
         // when & then
         mockMvc.perform(get("/api/orders")
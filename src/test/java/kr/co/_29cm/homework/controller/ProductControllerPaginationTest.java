@@ -5,13 +5,19 @@ import kr.co._29cm.homework.domain.Product;
 import kr.co._29cm.homework.dto.response.ProductResponse;
 import kr.co._29cm.homework.mapper.ProductMapper;
 import kr.co._29cm.homework.repository.ProductRepository;
+import kr.co._29cm.homework.service.CatalogSnapshotService;
+import kr.co._29cm.homework.service.CatalogVersion;
+import kr.co._29cm.homework.service.ProductLookupService;
 import kr.co._29cm.homework.service.ShippingCalculator;
+import kr.co._29cm.homework.service.StockStreamService;
+import kr.co._29cm.homework.service.TrendingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -31,6 +37,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * ProductController의 페이징 기능 테스트
  */
 @WebMvcTest(ProductController.class)
+@Import(CatalogVersion.class)
 @DisplayName("상품 컨트롤러 페이징 테스트")
 class ProductControllerPaginationTest {
 
@@ -46,6 +53,18 @@ class ProductControllerPaginationTest {
     @MockBean
     private ShippingCalculator shippingCalculator;
 
+    @MockBean
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @MockBean
+    private StockStreamService stockStreamService;
+
+    @MockBean
+    private ProductLookupService productLookupService;
+
+    @MockBean
+    private TrendingService trendingService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -82,11 +101,8 @@ class ProductControllerPaginationTest {
     @DisplayName("상품 목록 페이징 조회 성공")
     void 상품_목록_페이징_조회_성공() throws Exception {
         // given
-        List<Product> products = List.of(testProduct1, testProduct2);
-        Page<Product> productPage = new PageImpl<>(products);
-        when(productRepository.findAll(any(Pageable.class))).thenReturn(productPage);
-        when(productMapper.toResponse(testProduct1)).thenReturn(productResponse1);
-        when(productMapper.toResponse(testProduct2)).thenReturn(productResponse2);
+        Page<ProductResponse> productPage = new PageImpl<>(List.of(productResponse1, productResponse2));
+        when(productRepository.findProductResponses(any(Pageable.class))).thenReturn(productPage);
 
         // when & then
         mockMvc.perform(get("/api/products")
@@ -107,11 +123,9 @@ class ProductControllerPaginationTest {
     @DisplayName("상품명 검색 기능 테스트")
     void 상품명_검색_기능_테스트() throws Exception {
         // given
-        List<Product> products = List.of(testProduct1);
-        Page<Product> productPage = new PageImpl<>(products);
-        when(productRepository.findByNameContainingIgnoreCase(anyString(), any(Pageable.class)))
+        Page<ProductResponse> productPage = new PageImpl<>(List.of(productResponse1));
+        when(productRepository.findProductResponsesByName(anyString(), any(Pageable.class)))
                 .thenReturn(productPage);
-        when(productMapper.toResponse(testProduct1)).thenReturn(productResponse1);
 
         // when & then
         mockMvc.perform(get("/api/products")
@@ -129,10 +143,8 @@ class ProductControllerPaginationTest {
     @DisplayName("재고 있는 상품만 필터링 테스트")
     void 재고_있는_상품만_필터링_테스트() throws Exception {
         // given
-        List<Product> products = List.of(testProduct1, testProduct2);
-        Page<Product> productPage = new PageImpl<>(products);
-        when(productRepository.findAvailableProducts(any(Pageable.class))).thenReturn(productPage);
-        when(productMapper.toResponse(any(Product.class))).thenReturn(productResponse1);
+        Page<ProductResponse> productPage = new PageImpl<>(List.of(productResponse1, productResponse2));
+        when(productRepository.findAvailableProductResponses(any(Pageable.class))).thenReturn(productPage);
 
         // when & then
         mockMvc.perform(get("/api/products")
@@ -149,10 +161,8 @@ class ProductControllerPaginationTest {
     @DisplayName("정렬 기능 테스트 - 가격 내림차순")
     void 정렬_기능_테스트_가격_내림차순() throws Exception {
         // given
-        List<Product> products = List.of(testProduct1, testProduct2);
-        Page<Product> productPage = new PageImpl<>(products);
-        when(productRepository.findAll(any(Pageable.class))).thenReturn(productPage);
-        when(productMapper.toResponse(any(Product.class))).thenReturn(productResponse1);
+        Page<ProductResponse> productPage = new PageImpl<>(List.of(productResponse2, productResponse1));
+        when(productRepository.findProductResponses(any(Pageable.class))).thenReturn(productPage);
 
         // when & then
         mockMvc.perform(get("/api/products")
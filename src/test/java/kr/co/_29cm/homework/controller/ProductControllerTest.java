@@ -2,17 +2,25 @@ package kr.co._29cm.homework.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.co._29cm.homework.domain.Product;
+import kr.co._29cm.homework.dto.response.ProductBatchResponse;
 import kr.co._29cm.homework.dto.response.ProductResponse;
+import kr.co._29cm.homework.dto.response.TrendingProductResponse;
 import kr.co._29cm.homework.dto.response.ShippingPolicyResponse;
 import kr.co._29cm.homework.mapper.ProductMapper;
 import kr.co._29cm.homework.repository.ProductRepository;
+import kr.co._29cm.homework.service.CatalogSnapshotService;
+import kr.co._29cm.homework.service.CatalogVersion;
+import kr.co._29cm.homework.service.ProductLookupService;
 import kr.co._29cm.homework.service.ShippingCalculator;
+import kr.co._29cm.homework.service.StockStreamService;
+import kr.co._29cm.homework.service.TrendingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -20,18 +28,24 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
  * ProductController 테스트 - 새로운 API 구조에 맞게 재작성
  */
 @WebMvcTest({ProductController.class, kr.co._29cm.homework.exception.GlobalExceptionHandler.class})
+@Import(CatalogVersion.class)
 @DisplayName("상품 컨트롤러 테스트")
 class ProductControllerTest {
 
@@ -47,9 +61,24 @@ class ProductControllerTest {
     @MockBean
     private ShippingCalculator shippingCalculator;
 
+    @MockBean
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @MockBean
+    private StockStreamService stockStreamService;
+
+    @MockBean
+    private ProductLookupService productLookupService;
+
+    @MockBean
+    private TrendingService trendingService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CatalogVersion catalogVersion;
+
     private Product testProduct1;
     private Product testProduct2;
     private ProductResponse productResponse1;
@@ -83,11 +112,8 @@ class ProductControllerTest {
     @DisplayName("상품 목록 페이징 조회 성공")
     void 상품_목록_페이징_조회_성공() throws Exception {
         // given
-        List<Product> products = List.of(testProduct1, testProduct2);
-        Page<Product> productPage = new PageImpl<>(products);
-        when(productRepository.findAll(any(Pageable.class))).thenReturn(productPage);
-        when(productMapper.toResponse(testProduct1)).thenReturn(productResponse1);
-        when(productMapper.toResponse(testProduct2)).thenReturn(productResponse2);
+        Page<ProductResponse> productPage = new PageImpl<>(List.of(productResponse1, productResponse2));
+        when(productRepository.findProductResponses(any(Pageable.class))).thenReturn(productPage);
 
         // when & then
         mockMvc.perform(get("/api/products")
@@ -109,11 +135,9 @@ class ProductControllerTest {
     @DisplayName("상품명 검색 기능")
     void 상품명_검색_기능() throws Exception {
         // given
-        List<Product> products = List.of(testProduct1);
-        Page<Product> productPage = new PageImpl<>(products);
-        when(productRepository.findByNameContainingIgnoreCase(anyString(), any(Pageable.class)))
+        Page<ProductResponse> productPage = new PageImpl<>(List.of(productResponse1));
+        when(productRepository.findProductResponsesByName(anyString(), any(Pageable.class)))
                 .thenReturn(productPage);
-        when(productMapper.toResponse(testProduct1)).thenReturn(productResponse1);
 
         // when & then
         mockMvc.perform(get("/api/products")
@@ -131,10 +155,8 @@ class ProductControllerTest {
     @DisplayName("재고 있는 상품만 필터링")
     void 재고_있는_상품만_필터링() throws Exception {
         // given
-        List<Product> products = List.of(testProduct1, testProduct2);
-        Page<Product> productPage = new PageImpl<>(products);
-        when(productRepository.findAvailableProducts(any(Pageable.class))).thenReturn(productPage);
-        when(productMapper.toResponse(any(Product.class))).thenReturn(productResponse1);
+        Page<ProductResponse> productPage = new PageImpl<>(List.of(productResponse1, productResponse2));
+        when(productRepository.findAvailableProductResponses(any(Pageable.class))).thenReturn(productPage);
 
         // when & then
         mockMvc.perform(get("/api/products")
@@ -151,9 +173,7 @@ class ProductControllerTest {
     @DisplayName("전체 상품 목록 조회 (기존 API)")
     void 전체_상품_목록_조회_기존_API() throws Exception {
         // given
-        List<Product> products = List.of(testProduct1, testProduct2);
-        when(productRepository.findAll()).thenReturn(products);
-        when(productMapper.toResponseList(products)).thenReturn(
+        when(productRepository.findAllProductResponses()).thenReturn(
             List.of(productResponse1, productResponse2)
         );
 
@@ -194,10 +214,8 @@ class ProductControllerTest {
     @DisplayName("정렬 기능 - 가격 내림차순")
     void 정렬_기능_가격_내림차순() throws Exception {
         // given
-        List<Product> products = List.of(testProduct1, testProduct2);
-        Page<Product> productPage = new PageImpl<>(products);
-        when(productRepository.findAll(any(Pageable.class))).thenReturn(productPage);
-        when(productMapper.toResponse(any(Product.class))).thenReturn(productResponse1);
+        Page<ProductResponse> productPage = new PageImpl<>(List.of(productResponse2, productResponse1));
+        when(productRepository.findProductResponses(any(Pageable.class))).thenReturn(productPage);
 
         // when & then
         mockMvc.perform(get("/api/products")
@@ -214,8 +232,8 @@ class ProductControllerTest {
     @DisplayName("빈 상품 목록 조회")
     void 빈_상품_목록_조회() throws Exception {
         // given
-        Page<Product> emptyPage = new PageImpl<>(List.of());
-        when(productRepository.findAll(any(Pageable.class))).thenReturn(emptyPage);
+        Page<ProductResponse> emptyPage = new PageImpl<>(List.of());
+        when(productRepository.findProductResponses(any(Pageable.class))).thenReturn(emptyPage);
 
         // when & then
         mockMvc.perform(get("/api/products")
@@ -228,4 +246,144 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.data.content").value(org.hamcrest.Matchers.hasSize(0)))
                 .andExpect(jsonPath("$.data.totalElements").value(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("카탈로그 ETag 일치 시 조회 없이 304 응답")
+    void 카탈로그_ETag_일치_시_조회_없이_304_응답() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/products/all")
+                        .header("If-None-Match", catalogVersion.etag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", catalogVersion.etag()));
+
+        verify(productRepository, never()).findAllProductResponses();
+    }
+
+    @Test
+    @DisplayName("카탈로그 버전 변경 후 이전 ETag는 200 응답")
+    void 카탈로그_버전_변경_후_이전_ETag는_200_응답() throws Exception {
+        // given
+        String staleEtag = catalogVersion.etag();
+        catalogVersion.bump();
+        when(productRepository.findProductResponses(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(productResponse1)));
+
+        // when & then
+        mockMvc.perform(get("/api/products")
+                        .header("If-None-Match", staleEtag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", catalogVersion.etag()))
+                .andExpect(jsonPath("$.data.content").value(org.hamcrest.Matchers.hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("전체 상품 목록 - 스냅샷이 있으면 미리 압축된 바이트 응답")
+    void 전체_상품_목록_스냅샷이_있으면_미리_압축된_바이트_응답() throws Exception {
+        // given
+        byte[] identity = "{\"success\":true}".getBytes(StandardCharsets.UTF_8);
+        byte[] gzip = {0x1f, (byte) 0x8b, 0x08};
+        CatalogSnapshotService.Snapshot snapshot = new CatalogSnapshotService.Snapshot(
+                catalogVersion.current(), catalogVersion.etag(), identity, gzip, java.util.Map.of());
+        when(catalogSnapshotService.latest()).thenReturn(Optional.of(snapshot));
+
+        // when & then
+        mockMvc.perform(get("/api/products/all")
+                        .header("Accept-Encoding", "br, gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", org.hamcrest.Matchers.containsString("Accept-Encoding")))
+                .andExpect(header().string("ETag", snapshot.gzipEtag()))
+                .andExpect(content().bytes(gzip));
+
+        mockMvc.perform(get("/api/products/all"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(header().string("ETag", snapshot.etag()))
+                .andExpect(content().bytes(identity));
+
+        verify(productRepository, never()).findAllProductResponses();
+    }
+
+    @Test
+    @DisplayName("전체 상품 목록 - 카탈로그 버전이 앞서도 직전 스냅샷을 그 버전의 ETag로 응답")
+    void 전체_상품_목록_카탈로그_버전이_앞서도_직전_스냅샷을_그_버전의_ETag로_응답() throws Exception {
+        // given
+        byte[] identity = "{\"success\":true}".getBytes(StandardCharsets.UTF_8);
+        byte[] gzip = {0x1f, (byte) 0x8b, 0x08};
+        CatalogSnapshotService.Snapshot snapshot = new CatalogSnapshotService.Snapshot(
+                catalogVersion.current(), catalogVersion.etag(), identity, gzip, java.util.Map.of());
+        catalogVersion.bump();
+        when(catalogSnapshotService.latest()).thenReturn(Optional.of(snapshot));
+
+        // when & then
+        mockMvc.perform(get("/api/products/all")
+                        .header("If-None-Match", snapshot.gzipEtag())
+                        .header("Accept-Encoding", "gzip"))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/api/products/all")
+                        .header("If-None-Match", snapshot.gzipEtag()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", snapshot.etag()))
+                .andExpect(content().bytes(identity));
+
+        verify(productRepository, never()).findAllProductResponses();
+    }
+
+    @Test
+    @DisplayName("상품 다건 조회 - 쉼표 구분 상품번호")
+    void 상품_다건_조회_쉼표_구분_상품번호() throws Exception {
+        // given
+        when(productLookupService.findByProductNumbers(List.of(768848L, 999999L)))
+                .thenReturn(new ProductBatchResponse(List.of(productResponse1), List.of(999999L)));
+
+        // when & then
+        mockMvc.perform(get("/api/products/batch")
+                        .param("numbers", "768848,999999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.products[0].productNumber").value(768848))
+                .andExpect(jsonPath("$.data.notFound[0]").value(999999));
+    }
+
+    @Test
+    @DisplayName("상품 다건 조회 (POST) - 빈 목록은 400")
+    void 상품_다건_조회_POST_빈_목록은_400() throws Exception {
+        // when & then
+        mockMvc.perform(post("/api/products/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productNumbers\":[]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("VALIDATION_ERROR"));
+    }
+
+    @Test
+    @DisplayName("인기 상품 조회 - 기간 문자열 해석")
+    void 인기_상품_조회_기간_문자열_해석() throws Exception {
+        // given
+        when(trendingService.trendingProducts(java.time.Duration.ofMinutes(30), 5)).thenReturn(List.of(
+                TrendingProductResponse.builder()
+                        .rank(1)
+                        .productNumber(768848L)
+                        .name("[STANLEY] GO CERAMIVAC 진공 텀블러/보틀 3종")
+                        .quantitySold(42)
+                        .build()));
+
+        // when & then
+        mockMvc.perform(get("/api/products/trending")
+                        .param("window", "30m")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].rank").value(1))
+                .andExpect(jsonPath("$.data[0].quantitySold").value(42));
+    }
+
+    @Test
+    @DisplayName("인기 상품 조회 - 잘못된 기간 형식은 400")
+    void 인기_상품_조회_잘못된_기간_형식은_400() throws Exception {
+        mockMvc.perform(get("/api/products/trending")
+                        .param("window", "an hour"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"));
+    }
+}
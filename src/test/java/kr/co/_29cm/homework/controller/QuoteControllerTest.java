@@ -0,0 +1,73 @@
+package kr.co._29cm.homework.controller;
+
+import kr.co._29cm.homework.dto.request.QuoteRequest;
+import kr.co._29cm.homework.dto.response.QuoteResponse;
+import kr.co._29cm.homework.service.QuoteService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * QuoteController 테스트
+ */
+@WebMvcTest({QuoteController.class, kr.co._29cm.homework.exception.GlobalExceptionHandler.class})
+@DisplayName("견적 컨트롤러 테스트")
+class QuoteControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private QuoteService quoteService;
+
+    @Test
+    @DisplayName("장바구니 견적 성공")
+    void 장바구니_견적_성공() throws Exception {
+        // given
+        when(quoteService.quote(any(QuoteRequest.class))).thenReturn(new QuoteResponse(List.of(
+                QuoteResponse.CartQuoteResponse.builder()
+                        .cartId("cart-1")
+                        .items(List.of())
+                        .notFound(List.of())
+                        .totalAmount(BigDecimal.valueOf(26600))
+                        .shippingFee(BigDecimal.valueOf(2500))
+                        .paymentAmount(BigDecimal.valueOf(29100))
+                        .orderable(true)
+                        .build())));
+
+        // when & then
+        mockMvc.perform(post("/api/quotes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"carts\":[{\"cartId\":\"cart-1\",\"items\":[{\"productNumber\":768848,\"quantity\":1}]}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.carts[0].cartId").value("cart-1"))
+                .andExpect(jsonPath("$.data.carts[0].paymentAmount").value(29100))
+                .andExpect(jsonPath("$.data.carts[0].orderable").value(true));
+    }
+
+    @Test
+    @DisplayName("장바구니 견적 실패 - 잘못된 수량")
+    void 장바구니_견적_실패_잘못된_수량() throws Exception {
+        mockMvc.perform(post("/api/quotes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"carts\":[{\"items\":[{\"productNumber\":768848,\"quantity\":0}]}]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(quoteService, never()).quote(any());
+    }
+}
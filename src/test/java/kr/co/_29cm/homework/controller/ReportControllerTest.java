@@ -0,0 +1,77 @@
+package kr.co._29cm.homework.controller;
+
+import kr.co._29cm.homework.dto.response.SalesReportResponse;
+import kr.co._29cm.homework.service.SalesRollupService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * ReportController 테스트
+ */
+@WebMvcTest({ReportController.class, kr.co._29cm.homework.exception.GlobalExceptionHandler.class})
+@DisplayName("리포트 컨트롤러 테스트")
+class ReportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SalesRollupService salesRollupService;
+
+    @Test
+    @DisplayName("판매 리포트 조회 성공")
+    void 판매_리포트_조회_성공() throws Exception {
+        // given
+        LocalDateTime from = LocalDateTime.of(2025, 1, 19, 0, 0);
+        when(salesRollupService.report(eq(from), eq(from.plusDays(1)), eq(SalesRollupService.Granularity.DAY), isNull()))
+                .thenReturn(SalesReportResponse.builder()
+                        .granularity("DAY")
+                        .from(from)
+                        .to(from.plusDays(1))
+                        .totalUnits(3)
+                        .totalRevenue(BigDecimal.valueOf(26600))
+                        .totalOrderCount(2)
+                        .buckets(List.of(SalesReportResponse.SalesBucketResponse.builder()
+                                .bucketStart(from)
+                                .units(3)
+                                .revenue(BigDecimal.valueOf(26600))
+                                .orderCount(2)
+                                .build()))
+                        .build());
+
+        // when & then
+        mockMvc.perform(get("/api/reports/sales")
+                        .param("from", "2025-01-19T00:00:00")
+                        .param("to", "2025-01-20T00:00:00")
+                        .param("granularity", "day"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.totalOrderCount").value(2))
+                .andExpect(jsonPath("$.data.buckets[0].units").value(3));
+    }
+
+    @Test
+    @DisplayName("판매 리포트 조회 실패 - 지원하지 않는 집계 단위")
+    void 판매_리포트_조회_실패_지원하지_않는_집계_단위() throws Exception {
+        mockMvc.perform(get("/api/reports/sales")
+                        .param("from", "2025-01-19T00:00:00")
+                        .param("to", "2025-01-20T00:00:00")
+                        .param("granularity", "minute"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"));
+    }
+}
@@ -268,4 +268,44 @@ class MoneyTest {
         assertThat(money1.hashCode()).isEqualTo(money2.hashCode());
         assertThat(money1.hashCode()).isNotEqualTo(money3.hashCode());
     }
+
+    @Test
+    @DisplayName("최소 단위 금액 변환")
+    void testMinorUnits() {
+        // Given
+        Money money = Money.of(new BigDecimal("12345.675"));
+
+        // When & Then
+        assertThat(money.getMinorUnits()).isEqualTo(1234568L);
+        assertThat(Money.ofMinorUnits(1234568L).equals(money)).isTrue();
+        assertThat(Money.fromMinorUnits(1234568L)).isEqualByComparingTo(new BigDecimal("12345.68"));
+        assertThat(Money.fromMinorUnits(1234568L).scale()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("음수 금액 나누기 - HALF_UP")
+    void testDivideNegative() {
+        // Given
+        Money money = Money.of(new BigDecimal("-0.05"));
+
+        // When & Then
+        assertThat(money.divide(2).getAmount()).isEqualByComparingTo(new BigDecimal("-0.03"));
+        assertThat(Money.of(new BigDecimal("0.05")).divide(-2).getAmount()).isEqualByComparingTo(new BigDecimal("-0.03"));
+        assertThat(Money.of(new BigDecimal("0.04")).divide(3).getAmount()).isEqualByComparingTo(new BigDecimal("0.01"));
+    }
+
+    @Test
+    @DisplayName("범위를 넘는 연산 시 예외 발생")
+    void testOverflow_ShouldThrowException() {
+        // Given
+        Money max = Money.ofMinorUnits(Long.MAX_VALUE);
+
+        // When & Then
+        assertThatThrownBy(() -> max.add(Money.ofMinorUnits(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.multiply(2))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1E+30")))
+                .isInstanceOf(ArithmeticException.class);
+    }
 }
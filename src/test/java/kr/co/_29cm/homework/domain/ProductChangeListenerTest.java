@@ -0,0 +1,59 @@
+package kr.co._29cm.homework.domain;
+
+import kr.co._29cm.homework.repository.ProductRepository;
+import kr.co._29cm.homework.service.CatalogSnapshotService;
+import kr.co._29cm.homework.service.CatalogVersion;
+import kr.co._29cm.homework.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProductChangeListener 테스트
+ *
+ * 주문으로 재고가 바뀌면 카탈로그 버전이 올라가지만, 전체 목록은 재생성 전까지 직전 스냅샷으로 응답하는지 확인합니다.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:product_change_${random.uuid};MODE=MySQL")
+@DisplayName("상품 변경 리스너 테스트")
+class ProductChangeListenerTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.save(new Product(768848L, "[STANLEY] GO CERAMIVAC 진공 텀블러/보틀 3종",
+                BigDecimal.valueOf(21000), 45));
+    }
+
+    @Test
+    @DisplayName("주문 커밋 후 카탈로그 버전이 증가해도 전체 목록 스냅샷은 계속 사용")
+    void 주문_커밋_후_카탈로그_버전이_증가해도_전체_목록_스냅샷은_계속_사용() {
+        // given
+        catalogSnapshotService.refreshIfStale();
+        long before = catalogVersion.current();
+
+        // when
+        orderService.placeOrder(List.of(new OrderService.OrderItemRequest(768848L, 1)));
+
+        // then
+        assertThat(catalogVersion.current()).isGreaterThan(before);
+        assertThat(catalogSnapshotService.latest()).isPresent();
+    }
+}
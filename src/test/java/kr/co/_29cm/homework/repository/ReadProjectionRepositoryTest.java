@@ -0,0 +1,162 @@
+package kr.co._29cm.homework.repository;
+
+import kr.co._29cm.homework.domain.Order;
+import kr.co._29cm.homework.domain.OrderItem;
+import kr.co._29cm.homework.domain.Product;
+import kr.co._29cm.homework.dto.response.OrderSummaryResponse;
+import kr.co._29cm.homework.dto.response.ProductResponse;
+import kr.co._29cm.homework.repository.projection.OrderDetailRow;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 전용 DTO 프로젝션 쿼리 테스트
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("조회 프로젝션 리포지토리 테스트")
+class ReadProjectionRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Order order;
+
+    private Statistics statistics() {
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    @BeforeEach
+    void setUp() {
+        Product tumbler = entityManager.persist(new Product(768848L, "[STANLEY] GO CERAMIVAC 진공 텀블러/보틀 3종",
+                BigDecimal.valueOf(21000), 45));
+        Product strap = entityManager.persist(new Product(759928L, "마스크 스트랩 분실방지 오염방지 목걸이",
+                BigDecimal.valueOf(2800), 0));
+
+        order = new Order("order-projection-1", LocalDateTime.of(2025, 1, 10, 12, 0));
+        order.addItem(new OrderItem(tumbler, 1));
+        order.addItem(new OrderItem(strap, 3));
+        order.setPaymentAmount(BigDecimal.valueOf(31900));
+        entityManager.persist(order);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("상품 목록 프로젝션 페이징 조회")
+    void 상품_목록_프로젝션_페이징_조회() {
+        Page<ProductResponse> page = productRepository.findProductResponses(
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "price")));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(ProductResponse::getProductNumber)
+                .containsExactly(768848L, 759928L);
+    }
+
+    @Test
+    @DisplayName("상품명 검색 및 재고 필터 프로젝션 조회")
+    void 상품명_검색_및_재고_필터_프로젝션_조회() {
+        Page<ProductResponse> searched = productRepository.findProductResponsesByName("stanley", PageRequest.of(0, 10));
+        Page<ProductResponse> available = productRepository.findAvailableProductResponses(PageRequest.of(0, 10));
+        List<ProductResponse> all = productRepository.findAllProductResponses();
+
+        assertThat(searched.getContent()).extracting(ProductResponse::getProductNumber).containsExactly(768848L);
+        assertThat(available.getContent()).extracting(ProductResponse::getProductNumber).containsExactly(768848L);
+        assertThat(all).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("상품번호 목록으로 프로젝션 다건 조회")
+    void 상품번호_목록으로_프로젝션_다건_조회() {
+        List<ProductResponse> found = productRepository.findProductResponsesByProductNumberIn(
+                List.of(768848L, 759928L, 999999L));
+
+        assertThat(found).extracting(ProductResponse::getProductNumber)
+                .containsExactlyInAnyOrder(768848L, 759928L);
+    }
+
+    @Test
+    @DisplayName("주문 상세 프로젝션 - 한 번의 쿼리로 주문과 항목 조회")
+    void 주문_상세_프로젝션_한_번의_쿼리로_주문과_항목_조회() {
+        Statistics statistics = statistics();
+
+        List<OrderDetailRow> rows = orderRepository.findOrderDetailRows(order.getOrderNumber());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).paymentAmount()).isEqualByComparingTo("31900");
+        assertThat(rows.get(1).subtotal()).isEqualByComparingTo("8400");
+    }
+
+    @Test
+    @DisplayName("주문번호 조회 - 엔티티 그래프로 항목까지 한 번의 쿼리로 로딩")
+    void 주문번호_조회_엔티티_그래프로_항목까지_한_번의_쿼리로_로딩() {
+        Statistics statistics = statistics();
+
+        Order found = orderRepository.findByOrderNumber(order.getOrderNumber()).orElseThrow();
+        int itemCount = found.getItems().size();
+
+        assertThat(itemCount).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주문 요약 목록 - order_items를 조회하지 않음")
+    void 주문_요약_목록_order_items를_조회하지_않음() {
+        Statistics statistics = statistics();
+
+        orderRepository.findOrderSummaries(PageRequest.of(0, 10));
+
+        // 내용 조회 1회 (단일 페이지이므로 count 쿼리 생략)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("기간 조회 - 주문일시 인덱스 범위 스캔 사용")
+    void 기간_조회_주문일시_인덱스_범위_스캔_사용() {
+        String plan = (String) entityManager.getEntityManager().createNativeQuery(
+                "EXPLAIN SELECT o.order_number FROM orders o " +
+                "WHERE o.ordered_at BETWEEN TIMESTAMP '2025-01-01 00:00:00' AND TIMESTAMP '2025-01-31 23:59:59' " +
+                "ORDER BY o.ordered_at DESC").getSingleResult();
+
+        assertThat(plan.toUpperCase()).contains("IDX_ORDERS_ORDERED_AT");
+    }
+
+    @Test
+    @DisplayName("주문 요약 프로젝션 페이징 조회")
+    void 주문_요약_프로젝션_페이징_조회() {
+        Page<OrderSummaryResponse> page = orderRepository.findOrderSummaries(PageRequest.of(0, 10));
+        Page<OrderSummaryResponse> ranged = orderRepository.findOrderSummariesByDateRange(
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 31, 23, 59), PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getContent().get(0).getItemCount()).isEqualTo(2);
+        assertThat(page.getContent().get(0).getTotalQuantity()).isEqualTo(4);
+        assertThat(ranged.getTotalElements()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,96 @@
+package kr.co._29cm.homework.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CatalogBinarySnapshot 테스트
+ */
+@DisplayName("카탈로그 바이너리 스냅샷 테스트")
+class CatalogBinarySnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    private record Row(long productNumber, String name, BigDecimal price, int stockQuantity) {}
+
+    private static List<Row> readAll(CatalogBinarySnapshot snapshot) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        snapshot.forEach((productNumber, name, price, stockQuantity) ->
+                rows.add(new Row(productNumber, name, price, stockQuantity)));
+        return rows;
+    }
+
+    @Test
+    @DisplayName("저장한 행과 원본 정보를 그대로 읽음")
+    void 저장한_행과_원본_정보를_그대로_읽음() throws IOException {
+        // given
+        CatalogBinarySnapshot.Writer writer = new CatalogBinarySnapshot.Writer();
+        for (int i = 0; i < 3000; i++) {
+            writer.add(100000L + i, "상품 " + i + " 😀", new BigDecimal("1000.50").add(BigDecimal.valueOf(i)), i % 7);
+        }
+        writer.add(200000L, "", BigDecimal.ZERO, 0);
+        Path file = tempDir.resolve("catalog.snap");
+
+        // when
+        long bytes = writer.writeTo(file, new CatalogBinarySnapshot.Source(1234, 5678), 42);
+        CatalogBinarySnapshot snapshot = CatalogBinarySnapshot.open(file);
+        List<Row> rows = readAll(snapshot);
+
+        // then
+        assertThat(bytes).isEqualTo(Files.size(file));
+        assertThat(snapshot.sizeBytes()).isEqualTo(bytes);
+        assertThat(snapshot.source()).isEqualTo(new CatalogBinarySnapshot.Source(1234, 5678));
+        assertThat(snapshot.createdAt()).isEqualTo(42);
+        assertThat(snapshot.count()).isEqualTo(3001);
+        assertThat(rows).hasSize(3001);
+        assertThat(rows.get(1234).productNumber()).isEqualTo(101234L);
+        assertThat(rows.get(1234).name()).isEqualTo("상품 1234 😀");
+        assertThat(rows.get(1234).price()).isEqualByComparingTo("2234.50");
+        assertThat(rows.get(1234).stockQuantity()).isEqualTo(1234 % 7);
+        assertThat(rows.get(3000).name()).isEmpty();
+        assertThat(Files.exists(tempDir.resolve("catalog.snap.tmp"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("본문이 바뀌면 체크섬 오류")
+    void 본문이_바뀌면_체크섬_오류() throws IOException {
+        // given
+        CatalogBinarySnapshot.Writer writer = new CatalogBinarySnapshot.Writer();
+        writer.add(1L, "상품", BigDecimal.valueOf(1000), 10);
+        Path file = tempDir.resolve("catalog.snap");
+        writer.writeTo(file, new CatalogBinarySnapshot.Source(1, 2), 3);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[CatalogBinarySnapshot.HEADER_BYTES + 20] ^= 1;
+        Files.write(file, bytes);
+
+        // when & then
+        assertThatThrownBy(() -> CatalogBinarySnapshot.open(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("체크섬");
+    }
+
+    @Test
+    @DisplayName("스냅샷 형식이 아니면 오류")
+    void 스냅샷_형식이_아니면_오류() throws IOException {
+        // given
+        Path file = Files.writeString(tempDir.resolve("products.csv"),
+                "상품번호,상품명,판매가격,재고수량\n1,상품,1000,10\n2,상품,1000,10\n");
+
+        // when & then
+        assertThatThrownBy(() -> CatalogBinarySnapshot.open(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("스냅샷 파일이 아닙니다");
+    }
+}
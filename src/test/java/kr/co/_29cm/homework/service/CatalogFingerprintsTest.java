@@ -0,0 +1,50 @@
+package kr.co._29cm.homework.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CatalogFingerprints 테스트
+ */
+@DisplayName("카탈로그 지문 테이블 테스트")
+class CatalogFingerprintsTest {
+
+    @Test
+    @DisplayName("지문은 상품명/가격이 같으면 같고 하나라도 다르면 다름, 재고 지문은 따로 계산")
+    void 지문은_상품명_가격이_같으면_같고_하나라도_다르면_다름_재고_지문은_따로_계산() {
+        long fingerprint = CatalogFingerprints.of("상품", new BigDecimal("1000"));
+
+        assertThat(CatalogFingerprints.of("상품", new BigDecimal("1000.00"))).isEqualTo(fingerprint);
+        assertThat(CatalogFingerprints.of("상품 ", new BigDecimal("1000"))).isNotEqualTo(fingerprint);
+        assertThat(CatalogFingerprints.of("상품", new BigDecimal("1000.01"))).isNotEqualTo(fingerprint);
+        assertThat(fingerprint).isNotEqualTo(CatalogFingerprints.ABSENT);
+        assertThat(CatalogFingerprints.ofStock(4)).isNotEqualTo(CatalogFingerprints.ofStock(5));
+        assertThat(CatalogFingerprints.ofStock(0)).isNotEqualTo(CatalogFingerprints.ABSENT);
+    }
+
+    @Test
+    @DisplayName("용량을 넘겨 늘어나도 모든 상품번호의 지문 유지")
+    void 용량을_넘겨_늘어나도_모든_상품번호의_지문_유지() {
+        // given
+        CatalogFingerprints fingerprints = new CatalogFingerprints(4);
+
+        // when
+        for (long productNumber = -50_000; productNumber < 50_000; productNumber++) {
+            fingerprints.put(productNumber, productNumber * 31 + 7);
+        }
+        fingerprints.put(Long.MIN_VALUE, 99);
+        fingerprints.put(10, 1);
+
+        // then
+        assertThat(fingerprints.size()).isEqualTo(100_001);
+        assertThat(fingerprints.get(-50_000)).isEqualTo(-50_000 * 31L + 7);
+        assertThat(fingerprints.get(49_999)).isEqualTo(49_999 * 31L + 7);
+        assertThat(fingerprints.get(10)).isEqualTo(1);
+        assertThat(fingerprints.get(Long.MIN_VALUE)).isEqualTo(99);
+        assertThat(fingerprints.get(50_000)).isEqualTo(CatalogFingerprints.ABSENT);
+    }
+}
@@ -0,0 +1,209 @@
+package kr.co._29cm.homework.service;
+
+import kr.co._29cm.homework.domain.Product;
+import kr.co._29cm.homework.dto.response.CatalogImportStatusResponse;
+import kr.co._29cm.homework.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CatalogImportService 테스트
+ * 
+ * 청크마다 별도 트랜잭션으로 커밋되므로 테스트 트랜잭션 없이 실행하고 데이터를 정리합니다.
+ */
+@DataJpaTest(properties = "catalog.import.chunk-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CatalogImportService.class, CatalogVersion.class})
+@DisplayName("상품 카탈로그 가져오기 서비스 테스트")
+class CatalogImportServiceTest {
+
+    @Autowired
+    private CatalogImportService catalogImportService;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("청크 단위 일괄 추가 및 기존 상품 상품명/가격 갱신 - 재고는 유지")
+    void 청크_단위_일괄_추가_및_기존_상품_상품명_가격_갱신_재고는_유지() {
+        // given
+        productRepository.save(new Product(920001L, "기존 상품", BigDecimal.valueOf(1000), 7));
+        productRepository.save(new Product(920002L, "그대로인 상품", BigDecimal.valueOf(2000), 3));
+        long version = catalogVersion.current();
+        String csv = """
+                상품번호,상품명,판매가격,재고수량
+                920001,"새 이름, 쉼표 포함",1500,100
+                920002,그대로인 상품,2000,100
+                920003,"따옴표 ""강조"" 상품",3000,10
+                920004,신규 상품,4000,20
+                920005,신규 상품 2,5000,30
+                """;
+
+        // when
+        CatalogImportStatusResponse result = catalogImportService.importCsv(new StringReader(csv), "test.csv");
+
+        // then
+        assertThat(result.getState()).isEqualTo("COMPLETED");
+        assertThat(result.getRowsRead()).isEqualTo(5);
+        assertThat(result.getInserted()).isEqualTo(3);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getUnchanged()).isEqualTo(1);
+        assertThat(result.getFailed()).isZero();
+
+        Product updated = productRepository.findByProductNumber(920001L).orElseThrow();
+        assertThat(updated.getName()).isEqualTo("새 이름, 쉼표 포함");
+        assertThat(updated.getPrice()).isEqualByComparingTo("1500");
+        assertThat(updated.getStockQuantity()).isEqualTo(7);
+        assertThat(updated.getVersion()).isEqualTo(1L);
+        assertThat(productRepository.findByProductNumber(920003L).orElseThrow().getName()).isEqualTo("따옴표 \"강조\" 상품");
+        assertThat(catalogVersion.current()).isGreaterThan(version);
+        assertThat(catalogImportService.status().getInserted()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("잘못된 행은 줄 번호와 사유를 기록하고 나머지는 반영")
+    void 잘못된_행은_줄_번호와_사유를_기록하고_나머지는_반영() {
+        // given
+        String csv = """
+                상품번호,상품명,판매가격,재고수량
+                920011,정상 상품,1000,1
+                abc,번호 오류,1000,1
+                920012,가격 오류,1천원,1
+                920013,필드 부족
+                920014,음수 재고,1000,-1
+                920015,정상 상품 2,2000,2
+                """;
+
+        // when
+        CatalogImportStatusResponse result = catalogImportService.importCsv(new StringReader(csv), "test.csv");
+
+        // then
+        assertThat(result.getRowsRead()).isEqualTo(6);
+        assertThat(result.getInserted()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(4);
+        assertThat(result.getErrors()).extracting(CatalogImportStatusResponse.RowError::getLineNumber)
+                .containsExactly(3L, 4L, 5L, 6L);
+        assertThat(result.getErrors().get(0).getMessage()).contains("상품번호");
+    }
+
+    @Test
+    @DisplayName("로컬 파일 가져오기 - 메모리 맵 병렬 파싱으로 반영")
+    void 로컬_파일_가져오기_메모리_맵_병렬_파싱으로_반영(@TempDir Path tempDir) throws IOException {
+        // given
+        productRepository.save(new Product(920021L, "기존 상품", BigDecimal.valueOf(1000), 7));
+        Path file = tempDir.resolve("products.csv");
+        Files.writeString(file, """
+                상품번호,상품명,판매가격,재고수량
+                920021,이름 변경,1000,100
+                920022,"신규, 상품",2500.50,10
+                920023,신규 상품 2,3000,-5
+                920024,신규 상품 3,4000,20
+                """, StandardCharsets.UTF_8);
+
+        // when
+        CatalogImportStatusResponse result = catalogImportService.importFile(file, "products.csv");
+
+        // then
+        assertThat(result.getState()).isEqualTo("COMPLETED");
+        assertThat(result.getRowsRead()).isEqualTo(4);
+        assertThat(result.getInserted()).isEqualTo(2);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(CatalogImportStatusResponse.RowError::getLineNumber).containsExactly(4L);
+        assertThat(productRepository.findByProductNumber(920021L).orElseThrow().getStockQuantity()).isEqualTo(7);
+        assertThat(productRepository.findByProductNumber(920022L).orElseThrow().getPrice()).isEqualByComparingTo("2500.50");
+        assertThat(result.getBytesRead()).isEqualTo(Files.size(file));
+        assertThat(result.getProgressPercent()).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("스트림 가져오기 - 읽은 바이트로 진행률 계산")
+    void 스트림_가져오기_읽은_바이트로_진행률_계산() {
+        // given
+        byte[] csv = """
+                상품번호,상품명,판매가격,재고수량
+                920031,스트림 상품,1000,1
+                920032,스트림 상품 2,2000,2
+                """.getBytes(StandardCharsets.UTF_8);
+
+        // when
+        CatalogImportStatusResponse result = catalogImportService.importStream(
+                new ByteArrayInputStream(csv), csv.length, "stream.csv");
+
+        // then
+        assertThat(result.getInserted()).isEqualTo(2);
+        assertThat(result.getBytesRead()).isEqualTo(csv.length);
+        assertThat(result.getTotalBytes()).isEqualTo(csv.length);
+        assertThat(result.getProgressPercent()).isEqualTo(100.0);
+        assertThat(result.getEtaSeconds()).isZero();
+    }
+
+    @Test
+    @DisplayName("바이너리 스냅샷 저장 후 빈 테이블에 그대로 복원")
+    void 바이너리_스냅샷_저장_후_빈_테이블에_그대로_복원(@TempDir Path tempDir) throws IOException {
+        // given
+        productRepository.save(new Product(930001L, "스냅샷 상품 \"A\", 쉼표", new BigDecimal("1234.50"), 7));
+        productRepository.save(new Product(930002L, "스냅샷 상품 B", BigDecimal.valueOf(2000), 0));
+        productRepository.save(new Product(930003L, "스냅샷 상품 C", BigDecimal.valueOf(3000), 30));
+        Path snapshot = tempDir.resolve("catalog.snap");
+        int saved = catalogImportService.saveSnapshot(snapshot, 100, 200);
+        productRepository.deleteAll();
+        long version = catalogVersion.current();
+
+        // when
+        CatalogImportStatusResponse result = catalogImportService.restoreSnapshot(snapshot, 100, 200).orElseThrow();
+
+        // then
+        assertThat(saved).isEqualTo(3);
+        assertThat(result.getState()).isEqualTo("COMPLETED");
+        assertThat(result.getRowsRead()).isEqualTo(3);
+        assertThat(result.getInserted()).isEqualTo(3);
+        assertThat(result.getBytesRead()).isEqualTo(Files.size(snapshot));
+        assertThat(catalogVersion.current()).isGreaterThan(version);
+        Product restored = productRepository.findByProductNumber(930001L).orElseThrow();
+        assertThat(restored.getName()).isEqualTo("스냅샷 상품 \"A\", 쉼표");
+        assertThat(restored.getPrice()).isEqualByComparingTo("1234.50");
+        assertThat(restored.getStockQuantity()).isEqualTo(7);
+        assertThat(productRepository.findByProductNumber(930002L).orElseThrow().getStockQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("원본 CSV가 바뀌었거나 테이블이 비어 있지 않으면 스냅샷을 사용하지 않음")
+    void 원본_CSV가_바뀌었거나_테이블이_비어_있지_않으면_스냅샷을_사용하지_않음(@TempDir Path tempDir) throws IOException {
+        // given
+        productRepository.save(new Product(930001L, "스냅샷 상품", BigDecimal.valueOf(1000), 7));
+        Path snapshot = tempDir.resolve("catalog.snap");
+        catalogImportService.saveSnapshot(snapshot, 100, 200);
+
+        // when & then
+        assertThat(catalogImportService.restoreSnapshot(snapshot, 100, 200)).isEmpty();
+        productRepository.deleteAll();
+        assertThat(catalogImportService.restoreSnapshot(snapshot, 101, 200)).isEmpty();
+        assertThat(catalogImportService.restoreSnapshot(tempDir.resolve("missing.snap"), 100, 200)).isEmpty();
+        assertThat(productRepository.count()).isZero();
+    }
+}
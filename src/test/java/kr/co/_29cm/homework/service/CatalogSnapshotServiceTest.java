@@ -0,0 +1,153 @@
+package kr.co._29cm.homework.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kr.co._29cm.homework.dto.response.ProductResponse;
+import kr.co._29cm.homework.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CatalogSnapshotService 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("카탈로그 스냅샷 서비스 테스트")
+class CatalogSnapshotServiceTest {
+
+    private static final long MAX_STALE_MS = 10_000;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private Clock clock;
+
+    private CatalogVersion catalogVersion;
+    private ObjectMapper objectMapper;
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersion = new CatalogVersion();
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        catalogSnapshotService = new CatalogSnapshotService(productRepository, catalogVersion, objectMapper,
+                MAX_STALE_MS, clock);
+    }
+
+    private void givenCatalog() {
+        when(productRepository.findAllProductResponses()).thenReturn(List.of(
+                ProductResponse.builder()
+                        .id(1L)
+                        .productNumber(768848L)
+                        .name("[STANLEY] GO CERAMIVAC 진공 텀블러/보틀 3종")
+                        .price(BigDecimal.valueOf(21000))
+                        .stockQuantity(45)
+                        .build()
+        ));
+    }
+
+    @Test
+    @DisplayName("스냅샷 생성 - gzip 변형은 원본과 동일한 JSON으로 복원")
+    void 스냅샷_생성_gzip_변형은_원본과_동일한_JSON으로_복원() throws Exception {
+        // given
+        givenCatalog();
+        when(clock.millis()).thenReturn(0L);
+
+        // when
+        catalogSnapshotService.refreshIfStale();
+
+        // then
+        CatalogSnapshotService.Snapshot snapshot = catalogSnapshotService.current().orElseThrow();
+        byte[] unzipped;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(snapshot.gzip()))) {
+            unzipped = in.readAllBytes();
+        }
+        assertThat(unzipped).isEqualTo(snapshot.identity());
+        assertThat(snapshot.etag()).isEqualTo(catalogVersion.etag());
+
+        JsonNode json = objectMapper.readTree(snapshot.identity());
+        assertThat(json.get("data").get(0).get("productNumber").asLong()).isEqualTo(768848L);
+    }
+
+    @Test
+    @DisplayName("카탈로그 버전이 바뀌면 다음 주기에 재생성하고 그때까지 전체 목록은 직전 스냅샷 사용")
+    void 카탈로그_버전이_바뀌면_다음_주기에_재생성하고_그때까지_전체_목록은_직전_스냅샷_사용() {
+        // given
+        givenCatalog();
+        when(clock.millis()).thenReturn(0L);
+        catalogSnapshotService.refreshIfStale();
+        catalogSnapshotService.refreshIfStale();
+        long builtVersion = catalogVersion.current();
+
+        // when
+        catalogVersion.bump();
+
+        // then
+        assertThat(catalogSnapshotService.current()).isEmpty();
+        assertThat(catalogSnapshotService.latest()).get()
+                .extracting(CatalogSnapshotService.Snapshot::version).isEqualTo(builtVersion);
+        catalogSnapshotService.refreshIfStale();
+        assertThat(catalogSnapshotService.current()).isPresent();
+        assertThat(catalogSnapshotService.latest()).get()
+                .extracting(CatalogSnapshotService.Snapshot::version).isEqualTo(catalogVersion.current());
+        verify(productRepository, times(2)).findAllProductResponses();
+    }
+
+    @Test
+    @DisplayName("생성한 지 오래된 스냅샷은 전체 목록에도 사용하지 않음")
+    void 생성한_지_오래된_스냅샷은_전체_목록에도_사용하지_않음() {
+        // given
+        givenCatalog();
+        when(clock.millis()).thenReturn(0L, MAX_STALE_MS, MAX_STALE_MS + 1);
+        catalogSnapshotService.refreshIfStale();
+
+        // when & then
+        assertThat(catalogSnapshotService.latest()).isPresent();
+        assertThat(catalogSnapshotService.latest()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("원본과 gzip 응답은 서로 다른 강한 ETag 사용")
+    void 원본과_gzip_응답은_서로_다른_강한_ETag_사용() {
+        // given
+        CatalogSnapshotService.Snapshot snapshot = new CatalogSnapshotService.Snapshot(
+                42L, "\"42\"", new byte[]{1}, new byte[]{2}, java.util.Map.of());
+
+        // when
+        ResponseEntity<byte[]> identity = snapshot.toResponseEntity(null);
+        ResponseEntity<byte[]> gzip = snapshot.toResponseEntity("gzip");
+
+        // then
+        assertThat(identity.getHeaders().getETag()).isEqualTo("\"42\"").isEqualTo(snapshot.etag(null));
+        assertThat(gzip.getHeaders().getETag()).isEqualTo("\"42-gzip\"").isEqualTo(snapshot.etag("gzip"));
+        assertThat(gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 해석")
+    void Accept_Encoding_해석() {
+        assertThat(CatalogSnapshotService.Snapshot.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(CatalogSnapshotService.Snapshot.acceptsGzip("br;q=1.0, gzip;q=0.8")).isTrue();
+        assertThat(CatalogSnapshotService.Snapshot.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(CatalogSnapshotService.Snapshot.acceptsGzip("identity")).isFalse();
+        assertThat(CatalogSnapshotService.Snapshot.acceptsGzip(null)).isFalse();
+    }
+}
@@ -0,0 +1,185 @@
+package kr.co._29cm.homework.service;
+
+import kr.co._29cm.homework.domain.Product;
+import kr.co._29cm.homework.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CatalogSyncService 테스트
+ * 
+ * 마지막으로 반영한 지문이 테스트 사이에 남지 않도록 테스트마다 서비스를 새로 만듭니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(CatalogVersion.class)
+@DisplayName("상품 카탈로그 증분 동기화 서비스 테스트")
+class CatalogSyncServiceTest {
+
+    @TempDir
+    Path directory;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectProvider<StockStreamService> stockStreamService;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private CatalogSyncService catalogSyncService;
+
+    @BeforeEach
+    void setUp() {
+        catalogSyncService = new CatalogSyncService(jdbcTemplate, transactionManager, catalogVersion, stockStreamService,
+                directory.toString(), 0, 2, 2, Clock.systemDefaultZone());
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    private Path write(String name, String rows) throws IOException {
+        return Files.writeString(directory.resolve(name), "상품번호,상품명,판매가격,재고수량\n" + rows, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("달라진 행만 반영 - 첫 동기화는 DB 상품과 비교하고 이후에는 마지막 파일과 비교")
+    void 달라진_행만_반영_첫_동기화는_DB_상품과_비교하고_이후에는_마지막_파일과_비교() throws IOException {
+        // given
+        productRepository.save(new Product(930001L, "그대로인 상품", new BigDecimal("1000.00"), 10));
+        productRepository.save(new Product(930002L, "가격 바뀔 상품", new BigDecimal("2000.00"), 20));
+        productRepository.save(new Product(930003L, "재고 바뀔 상품", new BigDecimal("3000.00"), 30));
+
+        // when - 첫 동기화
+        CatalogSyncService.Result first = catalogSyncService.sync(write("first.csv", """
+                930001,그대로인 상품,1000,10
+                930002,가격 바뀔 상품,2500,20
+                930003,재고 바뀔 상품,3000,5
+                930004,신규 상품,4000,40
+                """));
+
+        // then
+        assertThat(first.state()).isEqualTo("COMPLETED");
+        assertThat(first.rowsRead()).isEqualTo(4);
+        assertThat(first.inserted()).isEqualTo(1);
+        assertThat(first.updated()).isEqualTo(2);
+        assertThat(first.unchanged()).isEqualTo(1);
+        assertThat(productRepository.findByProductNumber(930001L).orElseThrow().getVersion()).isZero();
+        assertThat(productRepository.findByProductNumber(930002L).orElseThrow().getPrice()).isEqualByComparingTo("2500");
+        assertThat(productRepository.findByProductNumber(930003L).orElseThrow().getStockQuantity()).isEqualTo(5);
+
+        // given - 주문으로 재고가 줄어든 상품은 파일이 바뀌지 않으면 덮어쓰지 않음
+        Product ordered = productRepository.findByProductNumber(930001L).orElseThrow();
+        ordered.decreaseStock(3);
+        productRepository.save(ordered);
+        long version = catalogVersion.current();
+
+        // when - 두 번째 동기화
+        CatalogSyncService.Result second = catalogSyncService.sync(write("second.csv", """
+                930001,그대로인 상품,1000,10
+                930002,가격 바뀔 상품,2500,20
+                930003,재고 바뀔 상품,3000,5
+                930004,신규 상품 이름 변경,4000,40
+                """));
+
+        // then
+        assertThat(second.updated()).isEqualTo(1);
+        assertThat(second.unchanged()).isEqualTo(3);
+        assertThat(productRepository.findByProductNumber(930001L).orElseThrow().getStockQuantity()).isEqualTo(7);
+        assertThat(productRepository.findByProductNumber(930004L).orElseThrow().getName()).isEqualTo("신규 상품 이름 변경");
+        assertThat(catalogVersion.current()).isGreaterThan(version);
+    }
+
+    @Test
+    @DisplayName("가격만 바뀐 행은 주문으로 줄어든 재고를 덮어쓰지 않음")
+    void 가격만_바뀐_행은_주문으로_줄어든_재고를_덮어쓰지_않음() throws IOException {
+        // given
+        productRepository.save(new Product(930031L, "가격만 바뀔 상품", new BigDecimal("1000.00"), 10));
+        catalogSyncService.sync(write("first.csv", "930031,가격만 바뀔 상품,1000,10\n"));
+        Product ordered = productRepository.findByProductNumber(930031L).orElseThrow();
+        ordered.decreaseStock(4);
+        productRepository.save(ordered);
+
+        // when
+        CatalogSyncService.Result priceOnly = catalogSyncService.sync(write("second.csv", "930031,가격만 바뀔 상품,1500,10\n"));
+
+        // then
+        assertThat(priceOnly.updated()).isEqualTo(1);
+        Product product = productRepository.findByProductNumber(930031L).orElseThrow();
+        assertThat(product.getPrice()).isEqualByComparingTo("1500");
+        assertThat(product.getStockQuantity()).isEqualTo(6);
+
+        // when - 파일의 재고수량이 바뀌면 재고를 덮어씀
+        catalogSyncService.sync(write("third.csv", "930031,가격만 바뀔 상품,1500,20\n"));
+
+        // then
+        assertThat(productRepository.findByProductNumber(930031L).orElseThrow().getStockQuantity()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 카탈로그 버전을 올리지 않음")
+    void 변경이_없으면_카탈로그_버전을_올리지_않음() throws IOException {
+        // given
+        productRepository.save(new Product(930011L, "상품", new BigDecimal("1000.00"), 1));
+        catalogSyncService.sync(write("first.csv", "930011,상품,1000,1\n"));
+        long version = catalogVersion.current();
+
+        // when
+        CatalogSyncService.Result result = catalogSyncService.sync(write("second.csv", "930011,상품,1000.00,1\n"));
+
+        // then
+        assertThat(result.unchanged()).isEqualTo(1);
+        assertThat(result.updated()).isZero();
+        assertThat(catalogVersion.current()).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("동기화 디렉터리의 파일을 처리한 뒤 processed 디렉터리로 이동")
+    void 동기화_디렉터리의_파일을_처리한_뒤_processed_디렉터리로_이동() throws IOException {
+        // given
+        write("catalog.csv", "930021,디렉터리 상품,1000,1\n");
+        Files.writeString(directory.resolve("readme.txt"), "무시");
+
+        // when
+        int processed = catalogSyncService.poll();
+
+        // then
+        assertThat(processed).isEqualTo(1);
+        assertThat(productRepository.findByProductNumber(930021L)).isPresent();
+        assertThat(directory.resolve("catalog.csv")).doesNotExist();
+        try (Stream<Path> moved = Files.list(directory.resolve(CatalogSyncService.PROCESSED_DIRECTORY))) {
+            assertThat(moved.map(file -> file.getFileName().toString()))
+                    .singleElement().asString().endsWith("-catalog.csv");
+        }
+    }
+}
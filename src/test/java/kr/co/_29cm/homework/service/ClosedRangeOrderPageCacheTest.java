@@ -0,0 +1,65 @@
+package kr.co._29cm.homework.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kr.co._29cm.homework.dto.response.OrderSummaryResponse;
+import kr.co._29cm.homework.dto.response.PageResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ClosedRangeOrderPageCache 테스트
+ */
+@DisplayName("종료된 기간 주문 목록 캐시 테스트")
+class ClosedRangeOrderPageCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 19, 12, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private ClosedRangeOrderPageCache cache(long maxBytes) {
+        Clock clock = Clock.fixed(Instant.from(NOW.atOffset(ZoneOffset.UTC)), ZoneOffset.UTC);
+        return new ClosedRangeOrderPageCache(objectMapper, new OffHeapLruStore<>(maxBytes, 1024, 128),
+                Duration.ofMinutes(1), clock);
+    }
+
+    @Test
+    @DisplayName("커밋 지연 허용 구간이 지난 기간만 종료된 기간으로 판단")
+    void 커밋_지연_허용_구간이_지난_기간만_종료된_기간으로_판단() {
+        ClosedRangeOrderPageCache cache = cache(4096);
+
+        assertThat(cache.isClosed(NOW.minusMinutes(2))).isTrue();
+        assertThat(cache.isClosed(NOW.minusSeconds(30))).isFalse();
+        assertThat(cache.isClosed(NOW.plusDays(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("기간과 페이지, 크기별로 구분하여 저장")
+    void 기간과_페이지_크기별로_구분하여_저장() {
+        // given
+        ClosedRangeOrderPageCache cache = cache(4096);
+        LocalDateTime start = LocalDateTime.of(2024, 12, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 12, 31, 23, 59, 59);
+        PageResponse<OrderSummaryResponse> page = PageResponse.from(new PageImpl<>(List.of(
+                new OrderSummaryResponse("order-1", start.plusDays(1), 1, 2, BigDecimal.valueOf(23500)))));
+
+        // when
+        byte[] stored = cache.put(start, end, 0, 10, page);
+
+        // then
+        assertThat(cache.get(start, end, 0, 10)).hasValue(stored);
+        assertThat(cache.get(start, end, 1, 10)).isEmpty();
+        assertThat(cache.get(start, end, 0, 20)).isEmpty();
+    }
+}
@@ -0,0 +1,232 @@
+package kr.co._29cm.homework.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * MappedProductCsvParser 테스트
+ * 
+ * 구간 크기를 아주 작게 잡아 따옴표 필드와 레코드가 구간 경계에 걸치도록 합니다.
+ */
+@DisplayName("메모리 맵 병렬 상품 CSV 파서 테스트")
+class MappedProductCsvParserTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private record Result(List<ProductCsvReader.Row> rows, List<String> errors) {}
+
+    private Result parse(String csv, int segmentBytes) throws IOException {
+        Path file = tempDir.resolve("products-" + segmentBytes + ".csv");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+        List<ProductCsvReader.Row> rows = Collections.synchronizedList(new ArrayList<>());
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        new MappedProductCsvParser(segmentBytes, 3).parse(file, pool, new MappedProductCsvParser.Sink() {
+            @Override
+            public void rows(List<ProductCsvReader.Row> batch) {
+                rows.addAll(batch);
+            }
+
+            @Override
+            public void error(long lineNumber, String message) {
+                errors.add(lineNumber + ":" + message);
+            }
+        });
+        List<ProductCsvReader.Row> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparingLong(ProductCsvReader.Row::lineNumber));
+        List<String> sortedErrors = new ArrayList<>(errors);
+        sortedErrors.sort(Comparator.comparingLong(e -> Long.parseLong(e.substring(0, e.indexOf(':')))));
+        return new Result(sorted, sortedErrors);
+    }
+
+    private static Result readWithReader(String csv) throws IOException {
+        List<ProductCsvReader.Row> rows = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        new ProductCsvReader(new BufferedReader(new StringReader(csv))).readAll(new ProductCsvReader.Handler() {
+            @Override
+            public void row(ProductCsvReader.Row row) {
+                rows.add(row);
+            }
+
+            @Override
+            public void error(long lineNumber, String message) {
+                errors.add(lineNumber + ":" + message);
+            }
+        });
+        return new Result(rows, errors);
+    }
+
+    @Test
+    @DisplayName("작은 구간으로 나누어도 스트림 읽기와 같은 결과")
+    void 작은_구간으로_나누어도_스트림_읽기와_같은_결과() throws IOException {
+        // given
+        StringBuilder csv = new StringBuilder("상품번호,상품명,판매가격,재고수량\r\n");
+        for (int i = 0; i < 200; i++) {
+            switch (i % 5) {
+                case 0 -> csv.append(700000 + i).append(",\"쉼표, 포함 \"\"상품\"\" ").append(i).append("\",").append(1000 + i).append(",").append(i).append("\r\n");
+                case 1 -> csv.append(700000 + i).append(",상품 ").append(i).append(",").append(i).append(".5,3\n");
+                case 2 -> csv.append(700000 + i).append(",가격 오류,").append(i).append("원,3\n");
+                case 3 -> csv.append("\n");
+                default -> csv.append(" ").append(700000 + i).append(" , 공백 상품 , 1e3 ,\"7\"\n");
+            }
+        }
+        Result expected = readWithReader(csv.toString());
+        List<ProductCsvReader.Row> expectedRows = expected.rows();
+        List<String> expectedErrors = expected.errors();
+
+        for (int segmentBytes : new int[]{7, 64, 1 << 20}) {
+            // when
+            Result result = parse(csv.toString(), segmentBytes);
+
+            // then
+            assertThat(result.rows()).as("구간 %d바이트", segmentBytes).isEqualTo(expectedRows);
+            assertThat(result.errors()).as("구간 %d바이트", segmentBytes).isEqualTo(expectedErrors);
+        }
+        assertThat(expectedRows).hasSize(120);
+        assertThat(expectedErrors).hasSize(40);
+    }
+
+    @Test
+    @DisplayName("따옴표 안의 줄바꿈은 레코드를 나누지 않고 줄 번호는 파일 기준")
+    void 따옴표_안의_줄바꿈은_레코드를_나누지_않고_줄_번호는_파일_기준() throws IOException {
+        // given
+        String csv = """
+                상품번호,상품명,판매가격,재고수량
+                710001,"여러 줄
+                상품명",1000,1
+                710002,필드 부족
+                710003,정상 상품,99999999999999999999.99,2
+                """;
+
+        // when
+        Result result = parse(csv, 5);
+
+        // then
+        assertThat(result.rows()).extracting(ProductCsvReader.Row::lineNumber).containsExactly(2L, 5L);
+        assertThat(result.rows().get(0).name()).isEqualTo("여러 줄\n상품명");
+        assertThat(result.rows().get(1).price()).isEqualByComparingTo("99999999999999999999.99");
+        assertThat(result.errors()).containsExactly("4:필드 수가 부족합니다: 2개");
+    }
+
+    @Test
+    @DisplayName("필드 중간의 따옴표는 글자 그대로 읽고 뒤의 레코드에 영향을 주지 않음")
+    void 필드_중간의_따옴표는_글자_그대로_읽고_뒤의_레코드에_영향을_주지_않음() throws IOException {
+        // given: 2번째 줄 상품명에 짝이 없는 따옴표
+        StringBuilder csv = new StringBuilder("상품번호,상품명,판매가격,재고수량\n");
+        csv.append("700000,27\" 모니터,350000,5\n");
+        for (int i = 1; i < 1000; i++) {
+            if (i % 10 == 0) {
+                csv.append(700000 + i).append(",\"쉼표, 포함 \"\"상품\"\"\",").append(1000 + i).append(",").append(i).append("\n");
+            } else {
+                csv.append(700000 + i).append(",상품 ").append(i).append(",").append(1000 + i).append(",").append(i).append("\n");
+            }
+        }
+        Result expected = readWithReader(csv.toString());
+
+        for (int segmentBytes : new int[]{7, 64, 4096, 1 << 20}) {
+            // when
+            Result result = parse(csv.toString(), segmentBytes);
+
+            // then
+            assertThat(result.rows()).as("구간 %d바이트", segmentBytes).isEqualTo(expected.rows());
+            assertThat(result.errors()).as("구간 %d바이트", segmentBytes).isEqualTo(expected.errors());
+        }
+        assertThat(expected.rows()).hasSize(1000);
+        assertThat(expected.errors()).isEmpty();
+        assertThat(expected.rows().get(0).name()).isEqualTo("27\" 모니터");
+        assertThat(expected.rows().get(10).name()).isEqualTo("쉼표, 포함 \"상품\"");
+    }
+
+    @Test
+    @DisplayName("여러 줄 따옴표 필드는 스트림 읽기와 메모리 맵 파싱이 같은 레코드로 읽음")
+    void 여러_줄_따옴표_필드는_스트림_읽기와_메모리_맵_파싱이_같은_레코드로_읽음() throws IOException {
+        // given
+        String csv = """
+                상품번호,상품명,판매가격,재고수량
+                710001,"여러 줄
+                상품명",1000,1
+                710002,"쉼표, 줄바꿈
+                ""따옴표""
+                모두",2000,2
+                710003,필드 부족
+                710004,27" 모니터,3000,3
+                """;
+
+        // when
+        Result expected = readWithReader(csv);
+
+        // then
+        assertThat(expected.rows())
+                .extracting(ProductCsvReader.Row::lineNumber, ProductCsvReader.Row::name)
+                .containsExactly(
+                        tuple(2L, "여러 줄\n상품명"),
+                        tuple(4L, "쉼표, 줄바꿈\n\"따옴표\"\n모두"),
+                        tuple(8L, "27\" 모니터"));
+        assertThat(expected.errors()).containsExactly("7:필드 수가 부족합니다: 2개");
+        for (int segmentBytes : new int[]{3, 7, 1 << 20}) {
+            Result result = parse(csv, segmentBytes);
+            assertThat(result.rows()).as("구간 %d바이트", segmentBytes).isEqualTo(expected.rows());
+            assertThat(result.errors()).as("구간 %d바이트", segmentBytes).isEqualTo(expected.errors());
+        }
+    }
+
+    @Test
+    @DisplayName("필드 중간의 따옴표 뒤에도 여러 줄 따옴표 필드의 레코드 경계 유지")
+    void 필드_중간의_따옴표_뒤에도_여러_줄_따옴표_필드의_레코드_경계_유지() throws IOException {
+        // given
+        String csv = """
+                상품번호,상품명,판매가격,재고수량
+                710001,27" 모니터,1000,1
+                710002,"여러 줄 ""특가""
+                710099,가짜,1,1",2000,2
+                710003,"닫힌 뒤"의 따옴표,3000,3
+                710004,정상 상품,4000,4
+                """;
+
+        for (int segmentBytes : new int[]{3, 5, 7, 11, 1 << 20}) {
+            // when
+            Result result = parse(csv, segmentBytes);
+
+            // then
+            assertThat(result.errors()).as("구간 %d바이트", segmentBytes).isEmpty();
+            assertThat(result.rows()).as("구간 %d바이트", segmentBytes)
+                    .extracting(ProductCsvReader.Row::lineNumber, ProductCsvReader.Row::name)
+                    .containsExactly(
+                            tuple(2L, "27\" 모니터"),
+                            tuple(3L, "여러 줄 \"특가\"\n710099,가짜,1,1"),
+                            tuple(5L, "닫힌 뒤의 따옴표"),
+                            tuple(6L, "정상 상품"));
+        }
+    }
+
+    @Test
+    @DisplayName("빈 파일과 헤더만 있는 파일은 행 없음")
+    void 빈_파일과_헤더만_있는_파일은_행_없음() throws IOException {
+        assertThat(parse("", 16).rows()).isEmpty();
+        assertThat(parse("상품번호,상품명,판매가격,재고수량", 4).rows()).isEmpty();
+    }
+}
@@ -0,0 +1,120 @@
+package kr.co._29cm.homework.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co._29cm.homework.domain.Order;
+import kr.co._29cm.homework.domain.OrderItem;
+import kr.co._29cm.homework.domain.Product;
+import kr.co._29cm.homework.exception.InvalidRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OrderExportService 테스트
+ */
+@DataJpaTest
+@Import(OrderExportService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@DisplayName("주문 내보내기 서비스 테스트")
+class OrderExportServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 6, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2024, 6, 30, 23, 59, 59);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        Product tumbler = entityManager.persist(new Product(900001L, "텀블러, 500ml \"한정판\"", BigDecimal.valueOf(21000), 45));
+        Product strap = entityManager.persist(new Product(900002L, "마스크 스트랩", BigDecimal.valueOf(2800), 10));
+
+        Order first = new Order("export-order-1", LocalDateTime.of(2024, 6, 10, 9, 0));
+        first.addItem(new OrderItem(tumbler, 1));
+        first.addItem(new OrderItem(strap, 2));
+        first.setPaymentAmount(BigDecimal.valueOf(29100));
+        entityManager.persist(first);
+
+        Order second = new Order("export-order-2", LocalDateTime.of(2024, 6, 20, 9, 0));
+        second.addItem(new OrderItem(strap, 1));
+        second.setPaymentAmount(BigDecimal.valueOf(5300));
+        entityManager.persist(second);
+
+        Order outOfRange = new Order("export-order-3", LocalDateTime.of(2024, 7, 1, 9, 0));
+        outOfRange.addItem(new OrderItem(strap, 1));
+        outOfRange.setPaymentAmount(BigDecimal.valueOf(5300));
+        entityManager.persist(outOfRange);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("CSV - 주문 항목당 한 줄, 특수문자 이스케이프")
+    void CSV_주문_항목당_한_줄_특수문자_이스케이프() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long orders = orderExportService.export(START, END, OrderExportService.Format.CSV, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(orders).isEqualTo(2);
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).isEqualTo(OrderExportService.CSV_HEADER);
+        assertThat(lines[1]).isEqualTo(
+                "export-order-1,2024-06-10T09:00:00,29100.00,900001,\"텀블러, 500ml \"\"한정판\"\"\",1,21000.00,21000.00");
+        assertThat(lines[3]).startsWith("export-order-2,");
+    }
+
+    @Test
+    @DisplayName("NDJSON - 주문당 한 줄, 항목 배열 포함")
+    void NDJSON_주문당_한_줄_항목_배열_포함() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        orderExportService.export(START, END, OrderExportService.Format.NDJSON, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("orderNumber").asText()).isEqualTo("export-order-1");
+        assertThat(first.get("items")).hasSize(2);
+        assertThat(first.get("items").get(1).get("subtotal").decimalValue()).isEqualByComparingTo("5600");
+        assertThat(objectMapper.readTree(lines[1]).get("items")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("잘못된 형식과 기간은 예외 발생")
+    void 잘못된_형식과_기간은_예외_발생() {
+        assertThat(OrderExportService.Format.from("NdJson")).isEqualTo(OrderExportService.Format.NDJSON);
+        assertThatThrownBy(() -> OrderExportService.Format.from("xml"))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> orderExportService.validateRange(END, START))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package kr.co._29cm.homework.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kr.co._29cm.homework.dto.response.OrderResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OrderResponseCache 테스트
+ */
+@DisplayName("주문 응답 오프힙 캐시 테스트")
+class OrderResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private byte[] bytes(int length, char fill) {
+        return String.valueOf(fill).repeat(length).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    @DisplayName("여러 블록에 걸친 응답을 그대로 복원")
+    void 여러_블록에_걸친_응답을_그대로_복원() throws Exception {
+        // given
+        OrderResponseCache cache = new OrderResponseCache(objectMapper, 4096, 1024, 64);
+        OrderResponse response = OrderResponse.builder()
+                .orderNumber("order-1")
+                .orderedAt(LocalDateTime.of(2025, 1, 19, 12, 0))
+                .items(List.of(OrderResponse.OrderItemResponse.builder()
+                        .productNumber(768848L)
+                        .productName("[STANLEY] GO CERAMIVAC 진공 텀블러/보틀 3종")
+                        .quantity(1)
+                        .unitPrice(BigDecimal.valueOf(21000))
+                        .subtotal(BigDecimal.valueOf(21000))
+                        .build()))
+                .paymentAmount(BigDecimal.valueOf(23500))
+                .build();
+
+        // when
+        byte[] stored = cache.put(response);
+        byte[] cached = cache.get("order-1").orElseThrow();
+
+        // then
+        assertThat(stored.length).isGreaterThan(64);
+        assertThat(cached).isEqualTo(stored);
+        JsonNode json = objectMapper.readTree(cached);
+        assertThat(json.get("data").get("items").get(0).get("productName").asText())
+                .isEqualTo("[STANLEY] GO CERAMIVAC 진공 텀블러/보틀 3종");
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("바이트 예산 초과 시 가장 오래 사용되지 않은 주문부터 제거")
+    void 바이트_예산_초과_시_가장_오래_사용되지_않은_주문부터_제거() {
+        // given: 블록 8개 (64 bytes x 8)
+        OrderResponseCache cache = new OrderResponseCache(objectMapper, 512, 256, 64);
+        cache.put("a", bytes(150, 'a'));   // 3블록
+        cache.put("b", bytes(150, 'b'));   // 3블록
+        cache.get("a");                    // a를 최근 사용으로 갱신
+
+        // when: 3블록 필요, 남은 블록 2개 -> b 제거
+        cache.put("c", bytes(130, 'c'));
+
+        // then
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("a")).hasValueSatisfying(body -> assertThat(body).isEqualTo(bytes(150, 'a')));
+        assertThat(cache.get("c")).hasValueSatisfying(body -> assertThat(body).isEqualTo(bytes(130, 'c')));
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전체 용량보다 큰 응답은 저장하지 않음")
+    void 전체_용량보다_큰_응답은_저장하지_않음() {
+        // given
+        OrderResponseCache cache = new OrderResponseCache(objectMapper, 512, 256, 64);
+        cache.put("a", bytes(100, 'a'));
+
+        // when
+        cache.put("huge", bytes(600, 'h'));
+
+        // then
+        assertThat(cache.get("huge")).isEmpty();
+        assertThat(cache.get("a")).isPresent();
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+}
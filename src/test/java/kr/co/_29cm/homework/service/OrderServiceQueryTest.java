@@ -3,7 +3,10 @@ package kr.co._29cm.homework.service;
 import kr.co._29cm.homework.domain.Order;
 import kr.co._29cm.homework.domain.OrderItem;
 import kr.co._29cm.homework.domain.Product;
+import kr.co._29cm.homework.dto.response.OrderResponse;
+import kr.co._29cm.homework.dto.response.OrderSummaryResponse;
 import kr.co._29cm.homework.repository.OrderRepository;
+import kr.co._29cm.homework.repository.projection.OrderDetailRow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +28,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,6 +42,9 @@ class OrderServiceQueryTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderViewService orderViewService;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -183,4 +190,85 @@ class OrderServiceQueryTest {
         
         verify(orderRepository).findAllByOrderByOrderedAtDesc(pageable);
     }
+
+    @Test
+    @DisplayName("주문 상세 프로젝션 조회 - 조인 결과 행을 응답으로 조립")
+    void 주문_상세_프로젝션_조회_조인_결과_행을_응답으로_조립() {
+        // given
+        LocalDateTime orderedAt = LocalDateTime.now();
+        when(orderRepository.findOrderDetailRows(testOrderNumber1)).thenReturn(List.of(
+                new OrderDetailRow(testOrderNumber1, orderedAt, BigDecimal.valueOf(29100),
+                        768848L, "텀블러", 1, BigDecimal.valueOf(21000), BigDecimal.valueOf(21000)),
+                new OrderDetailRow(testOrderNumber1, orderedAt, BigDecimal.valueOf(29100),
+                        759928L, "스트랩", 2, BigDecimal.valueOf(2800), BigDecimal.valueOf(5600))
+        ));
+
+        // when
+        Optional<OrderResponse> result = orderService.findOrderResponse(testOrderNumber1);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getOrderNumber()).isEqualTo(testOrderNumber1);
+        assertThat(result.get().getPaymentAmount()).isEqualByComparingTo("29100");
+        assertThat(result.get().getItems()).extracting(OrderResponse.OrderItemResponse::getProductNumber)
+                .containsExactly(768848L, 759928L);
+    }
+
+    @Test
+    @DisplayName("주문 상세 프로젝션 조회 - 존재하지 않는 주문")
+    void 주문_상세_프로젝션_조회_존재하지_않는_주문() {
+        // given
+        when(orderRepository.findOrderDetailRows("non-existent-order")).thenReturn(List.of());
+
+        // when & then
+        assertThat(orderService.findOrderResponse("non-existent-order")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주문 요약 프로젝션 페이징 조회")
+    void 주문_요약_프로젝션_페이징_조회() {
+        // given
+        OrderSummaryResponse summary = new OrderSummaryResponse(testOrderNumber2, LocalDateTime.now(), 1, 2, BigDecimal.valueOf(46500));
+        Pageable pageable = PageRequest.of(0, 10);
+        when(orderRepository.findOrderSummaries(pageable)).thenReturn(new PageImpl<>(List.of(summary), pageable, 1));
+
+        // when
+        Page<OrderSummaryResponse> result = orderService.findOrderSummaries(pageable);
+
+        // then
+        assertThat(result.getContent()).containsExactly(summary);
+        verify(orderRepository).findOrderSummaries(pageable);
+    }
+
+    @Test
+    @DisplayName("주문 상세 조회 - 조회 모델이 있으면 조인 쿼리를 실행하지 않음")
+    void 주문_상세_조회_조회_모델이_있으면_조인_쿼리를_실행하지_않음() {
+        // given
+        OrderResponse view = OrderResponse.builder().orderNumber(testOrderNumber1).items(List.of()).build();
+        when(orderViewService.findOrderResponse(testOrderNumber1)).thenReturn(Optional.of(view));
+
+        // when
+        Optional<OrderResponse> result = orderService.findOrderResponse(testOrderNumber1);
+
+        // then
+        assertThat(result).containsSame(view);
+        verify(orderRepository, never()).findOrderDetailRows(any());
+    }
+
+    @Test
+    @DisplayName("주문 요약 조회 - 백필 완료 후 조회 모델에서 조회")
+    void 주문_요약_조회_백필_완료_후_조회_모델에서_조회() {
+        // given
+        OrderSummaryResponse summary = new OrderSummaryResponse(testOrderNumber2, LocalDateTime.now(), 1, 2, BigDecimal.valueOf(46500));
+        Pageable pageable = PageRequest.of(0, 10);
+        when(orderViewService.isBackfilled()).thenReturn(true);
+        when(orderViewService.findSummaries(pageable)).thenReturn(new PageImpl<>(List.of(summary), pageable, 1));
+
+        // when
+        Page<OrderSummaryResponse> result = orderService.findOrderSummaries(pageable);
+
+        // then
+        assertThat(result.getContent()).containsExactly(summary);
+        verify(orderRepository, never()).findOrderSummaries(any());
+    }
 }
@@ -0,0 +1,199 @@
+package kr.co._29cm.homework.service;
+
+import kr.co._29cm.homework.domain.Order;
+import kr.co._29cm.homework.domain.OrderItem;
+import kr.co._29cm.homework.domain.OrderViewBackfillWatermark;
+import kr.co._29cm.homework.domain.Product;
+import kr.co._29cm.homework.dto.response.OrderResponse;
+import kr.co._29cm.homework.dto.response.OrderSummaryResponse;
+import kr.co._29cm.homework.repository.OrderRepository;
+import kr.co._29cm.homework.repository.OrderViewBackfillWatermarkRepository;
+import kr.co._29cm.homework.repository.OrderViewRepository;
+import kr.co._29cm.homework.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 조회 모델 저장/조회 및 백필 테스트
+ * 
+ * 백필은 여러 스레드에서 별도 트랜잭션으로 실행되므로, 테스트 데이터를 커밋한 뒤 검증합니다.
+ */
+@DataJpaTest(properties = {
+        "order.view.backfill.chunk-size=2",
+        "order.view.backfill.parallelism=2"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({OrderViewService.class, OrderViewBackfillService.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@DisplayName("주문 조회 모델 테스트")
+class OrderViewServiceTest {
+
+    @Autowired
+    private OrderViewService orderViewService;
+
+    @Autowired
+    private OrderViewBackfillService orderViewBackfillService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderViewRepository orderViewRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderViewBackfillWatermarkRepository watermarkRepository;
+
+    private Product tumbler;
+    private Product strap;
+
+    @BeforeEach
+    void setUp() {
+        tumbler = productRepository.save(new Product(910001L, "텀블러", BigDecimal.valueOf(21000), 100));
+        strap = productRepository.save(new Product(910002L, "마스크 스트랩", BigDecimal.valueOf(2800), 100));
+        orderViewService.markBackfilled(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderViewRepository.deleteAllInBatch();
+        watermarkRepository.deleteAllInBatch();
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    private Order saveOrder(String orderNumber, int day, int strapQuantity) {
+        Order order = new Order(orderNumber, LocalDateTime.of(2024, 8, day, 10, 0));
+        order.addItem(new OrderItem(tumbler, 1));
+        order.addItem(new OrderItem(strap, strapQuantity));
+        order.setPaymentAmount(BigDecimal.valueOf(21000 + 2800L * strapQuantity));
+        return orderRepository.save(order);
+    }
+
+    @Test
+    @DisplayName("주문 저장 시 조회 모델 저장 - 상세 응답 복원")
+    void 주문_저장_시_조회_모델_저장_상세_응답_복원() {
+        // given
+        Order order = saveOrder("view-order-1", 1, 2);
+
+        // when
+        orderViewService.write(order);
+        OrderResponse response = orderViewService.findOrderResponse("view-order-1").orElseThrow();
+
+        // then
+        assertThat(response.getPaymentAmount()).isEqualByComparingTo("26600");
+        assertThat(response.getItems()).extracting(OrderResponse.OrderItemResponse::getProductNumber)
+                .containsExactly(910001L, 910002L);
+        assertThat(response.getItems().get(1).getSubtotal()).isEqualByComparingTo("5600");
+    }
+
+    @Test
+    @DisplayName("백필 - 조회 모델이 없는 주문만 병렬로 채우고 목록 조회 전환")
+    void 백필_조회_모델이_없는_주문만_병렬로_채우고_목록_조회_전환() {
+        // given
+        orderViewService.write(saveOrder("view-order-1", 1, 1));
+        for (int i = 2; i <= 5; i++) {
+            saveOrder("view-order-" + i, i, i);
+        }
+
+        // when
+        int written = orderViewBackfillService.backfill();
+        int again = orderViewBackfillService.backfill();
+
+        // then
+        assertThat(written).isEqualTo(4);
+        assertThat(again).isZero();
+        assertThat(orderViewService.isBackfilled()).isTrue();
+
+        Page<OrderSummaryResponse> page = orderViewService.findSummaries(PageRequest.of(0, 10));
+        assertThat(page.getContent()).extracting(OrderSummaryResponse::getOrderNumber)
+                .containsExactly("view-order-5", "view-order-4", "view-order-3", "view-order-2", "view-order-1");
+        assertThat(page.getContent().get(0).getItemCount()).isEqualTo(2);
+        assertThat(page.getContent().get(0).getTotalQuantity()).isEqualTo(6);
+
+        Page<OrderSummaryResponse> ranged = orderViewService.findSummariesByDateRange(
+                LocalDateTime.of(2024, 8, 2, 0, 0), LocalDateTime.of(2024, 8, 3, 23, 59), PageRequest.of(0, 10));
+        assertThat(ranged.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재생성 - 조회 모델을 모두 지우고 다시 채움")
+    void 재생성_조회_모델을_모두_지우고_다시_채움() {
+        // given
+        for (int i = 1; i <= 3; i++) {
+            orderViewService.write(saveOrder("view-order-" + i, i, i));
+        }
+
+        // when
+        int written = orderViewBackfillService.rebuild();
+
+        // then
+        assertThat(written).isEqualTo(3);
+        assertThat(orderViewRepository.count()).isEqualTo(3);
+        assertThat(orderViewService.findOrderResponse("view-order-3").orElseThrow().getItems()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("재시작 - 완료된 백필은 다시 하지 않고 바로 조회 모델로 전환")
+    void 재시작_완료된_백필은_다시_하지_않고_바로_조회_모델로_전환() {
+        // given
+        saveOrder("view-order-1", 1, 1);
+        orderViewBackfillService.backfill();
+        orderViewService.markBackfilled(false); // 재시작으로 메모리 상태 유실
+
+        // when
+        orderViewBackfillService.backfillOnStartup();
+
+        // then
+        assertThat(orderViewService.isBackfilled()).isTrue();
+        assertThat(watermarkRepository.findById(OrderViewBackfillWatermark.SINGLETON_ID).orElseThrow().isCompleted())
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("재시작 - 중단된 백필은 저장된 진행 위치 다음 주문부터 이어서 처리")
+    void 재시작_중단된_백필은_저장된_진행_위치_다음_주문부터_이어서_처리() {
+        // given
+        Order processed = null;
+        for (int i = 1; i <= 5; i++) {
+            Order order = saveOrder("view-order-" + i, i, i);
+            if (i == 3) {
+                processed = order;
+            }
+        }
+        OrderViewBackfillWatermark watermark = OrderViewBackfillWatermark.initial();
+        watermark.advanceTo(processed.getId());
+        watermarkRepository.save(watermark);
+
+        // when
+        int written = orderViewBackfillService.backfill();
+
+        // then
+        assertThat(written).isEqualTo(2);
+        assertThat(orderViewService.findOrderResponse("view-order-3")).isEmpty();
+        assertThat(orderViewService.findOrderResponse("view-order-4")).isPresent();
+        assertThat(orderViewService.findOrderResponse("view-order-5")).isPresent();
+        OrderViewBackfillWatermark saved = watermarkRepository.findById(OrderViewBackfillWatermark.SINGLETON_ID)
+                .orElseThrow();
+        assertThat(saved.isCompleted()).isTrue();
+        assertThat(saved.getLastOrderId()).isGreaterThanOrEqualTo(processed.getId() + 2);
+    }
+}
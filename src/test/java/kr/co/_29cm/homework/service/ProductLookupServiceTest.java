@@ -0,0 +1,105 @@
+package kr.co._29cm.homework.service;
+
+import kr.co._29cm.homework.dto.response.ProductBatchResponse;
+import kr.co._29cm.homework.dto.response.ProductResponse;
+import kr.co._29cm.homework.exception.InvalidRequestException;
+import kr.co._29cm.homework.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ProductLookupService 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("상품 다건 조회 서비스 테스트")
+class ProductLookupServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @InjectMocks
+    private ProductLookupService productLookupService;
+
+    private ProductResponse product(long productNumber) {
+        return ProductResponse.builder()
+                .id(productNumber)
+                .productNumber(productNumber)
+                .name("상품 " + productNumber)
+                .price(BigDecimal.valueOf(1000))
+                .stockQuantity(10)
+                .build();
+    }
+
+    @Test
+    @DisplayName("스냅샷에 있는 상품은 DB 조회 없이 반환하고 나머지만 IN 쿼리로 조회")
+    void 스냅샷에_있는_상품은_DB_조회_없이_반환하고_나머지만_IN_쿼리로_조회() {
+        // given
+        CatalogSnapshotService.Snapshot snapshot = new CatalogSnapshotService.Snapshot(
+                1L, "\"1\"", new byte[0], new byte[0], Map.of(768848L, product(768848L)));
+        when(catalogSnapshotService.current()).thenReturn(Optional.of(snapshot));
+        when(productRepository.findProductResponsesByProductNumberIn(List.of(748943L, 999999L)))
+                .thenReturn(List.of(product(748943L)));
+
+        // when
+        ProductBatchResponse result = productLookupService.findByProductNumbers(
+                List.of(748943L, 768848L, 999999L, 768848L));
+
+        // then
+        assertThat(result.getProducts()).extracting(ProductResponse::getProductNumber)
+                .containsExactly(748943L, 768848L);
+        assertThat(result.getNotFound()).containsExactly(999999L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("스냅샷이 없으면 청크 단위 IN 쿼리로 조회")
+    void 스냅샷이_없으면_청크_단위_IN_쿼리로_조회() {
+        // given
+        when(catalogSnapshotService.current()).thenReturn(Optional.empty());
+        when(productRepository.findProductResponsesByProductNumberIn(anyCollection()))
+                .thenAnswer(invocation -> ((Collection<Long>) invocation.getArgument(0)).stream()
+                        .map(this::product)
+                        .toList());
+        List<Long> numbers = LongStream.rangeClosed(1, 2500).boxed().toList();
+
+        // when
+        ProductBatchResponse result = productLookupService.findByProductNumbers(numbers);
+
+        // then
+        assertThat(result.getProducts()).hasSize(2500);
+        assertThat(result.getNotFound()).isEmpty();
+        verify(productRepository, times(3)).findProductResponsesByProductNumberIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("최대 개수 초과 시 예외 발생")
+    void 최대_개수_초과_시_예외_발생() {
+        List<Long> numbers = LongStream.rangeClosed(1, ProductLookupService.MAX_BATCH_SIZE + 1).boxed().toList();
+
+        assertThatThrownBy(() -> productLookupService.findByProductNumbers(numbers))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> productLookupService.findByProductNumbers(List.of()))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+}
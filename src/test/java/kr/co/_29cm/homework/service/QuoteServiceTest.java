@@ -0,0 +1,141 @@
+package kr.co._29cm.homework.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co._29cm.homework.config.ShippingProperties;
+import kr.co._29cm.homework.dto.request.OrderRequest;
+import kr.co._29cm.homework.dto.request.QuoteRequest;
+import kr.co._29cm.homework.dto.response.ProductBatchResponse;
+import kr.co._29cm.homework.dto.response.ProductResponse;
+import kr.co._29cm.homework.dto.response.QuoteResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * QuoteService 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("장바구니 견적 서비스 테스트")
+class QuoteServiceTest {
+
+    @Mock
+    private ProductLookupService productLookupService;
+
+    private QuoteService quoteService;
+
+    @BeforeEach
+    void setUp() {
+        ShippingRuleEngine engine = new ShippingRuleEngine(new ShippingProperties(), new ObjectMapper(), new CatalogVersion(), "");
+        quoteService = new QuoteService(productLookupService, new ShippingCalculator(engine));
+    }
+
+    private static ProductResponse product(long productNumber, long price, int stock) {
+        return ProductResponse.builder()
+                .productNumber(productNumber)
+                .name("상품 " + productNumber)
+                .price(BigDecimal.valueOf(price))
+                .stockQuantity(stock)
+                .build();
+    }
+
+    private static QuoteRequest.CartRequest cart(String cartId, OrderRequest.OrderItemRequest... items) {
+        return new QuoteRequest.CartRequest(cartId, List.of(items));
+    }
+
+    private static OrderRequest.OrderItemRequest item(long productNumber, int quantity) {
+        return new OrderRequest.OrderItemRequest(productNumber, quantity);
+    }
+
+    @Test
+    @DisplayName("장바구니별 소계, 배송비, 지불금액 계산 - 상품 조회는 한 번")
+    void 장바구니별_소계_배송비_지불금액_계산_상품_조회는_한_번() {
+        // given
+        when(productLookupService.findByProductNumbers(anyCollection())).thenReturn(new ProductBatchResponse(
+                List.of(product(768848L, 21000, 45), product(759928L, 2800, 10)), List.of()));
+        QuoteRequest request = new QuoteRequest(List.of(
+                cart("small", item(768848L, 1), item(759928L, 2)),
+                cart("large", item(768848L, 3))
+        ));
+
+        // when
+        QuoteResponse response = quoteService.quote(request);
+
+        // then
+        QuoteResponse.CartQuoteResponse small = response.getCarts().get(0);
+        assertThat(small.getCartId()).isEqualTo("small");
+        assertThat(small.getItems().get(1).getSubtotal()).isEqualByComparingTo("5600");
+        assertThat(small.getTotalAmount()).isEqualByComparingTo("26600");
+        assertThat(small.getShippingFee()).isEqualByComparingTo("2500");
+        assertThat(small.getPaymentAmount()).isEqualByComparingTo("29100");
+        assertThat(small.isOrderable()).isTrue();
+
+        QuoteResponse.CartQuoteResponse large = response.getCarts().get(1);
+        assertThat(large.getTotalAmount()).isEqualByComparingTo("63000");
+        assertThat(large.getShippingFee()).isEqualByComparingTo("0");
+        assertThat(large.getPaymentAmount()).isEqualByComparingTo("63000");
+
+        verify(productLookupService, times(1)).findByProductNumbers(anyCollection());
+    }
+
+    @Test
+    @DisplayName("없는 상품과 재고 부족 상품은 주문 불가로 표시")
+    void 없는_상품과_재고_부족_상품은_주문_불가로_표시() {
+        // given
+        when(productLookupService.findByProductNumbers(anyCollection())).thenReturn(new ProductBatchResponse(
+                List.of(product(759928L, 2800, 1)), List.of(999999L)));
+        QuoteRequest request = new QuoteRequest(List.of(
+                cart("missing", item(999999L, 1), item(759928L, 1)),
+                cart("short", item(759928L, 2))
+        ));
+
+        // when
+        QuoteResponse response = quoteService.quote(request);
+
+        // then
+        QuoteResponse.CartQuoteResponse missing = response.getCarts().get(0);
+        assertThat(missing.getNotFound()).containsExactly(999999L);
+        assertThat(missing.getItems()).hasSize(1);
+        assertThat(missing.getPaymentAmount()).isEqualByComparingTo("5300");
+        assertThat(missing.isOrderable()).isFalse();
+
+        QuoteResponse.CartQuoteResponse shortage = response.getCarts().get(1);
+        assertThat(shortage.getItems().get(0).isInStock()).isFalse();
+        assertThat(shortage.isOrderable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 상품을 여러 항목으로 담으면 수량을 합산하여 재고 확인")
+    void 같은_상품을_여러_항목으로_담으면_수량을_합산하여_재고_확인() {
+        // given
+        when(productLookupService.findByProductNumbers(anyCollection())).thenReturn(new ProductBatchResponse(
+                List.of(product(759928L, 2800, 3)), List.of()));
+        QuoteRequest request = new QuoteRequest(List.of(
+                cart("split", item(759928L, 2), item(759928L, 2)),
+                cart("fits", item(759928L, 1), item(759928L, 2))
+        ));
+
+        // when
+        QuoteResponse response = quoteService.quote(request);
+
+        // then
+        QuoteResponse.CartQuoteResponse split = response.getCarts().get(0);
+        assertThat(split.getItems()).extracting(QuoteResponse.QuoteItemResponse::isInStock).containsExactly(false, false);
+        assertThat(split.isOrderable()).isFalse();
+
+        QuoteResponse.CartQuoteResponse fits = response.getCarts().get(1);
+        assertThat(fits.getItems()).extracting(QuoteResponse.QuoteItemResponse::isInStock).containsExactly(true, true);
+        assertThat(fits.isOrderable()).isTrue();
+    }
+}
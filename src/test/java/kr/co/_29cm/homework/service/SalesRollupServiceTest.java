@@ -0,0 +1,145 @@
+package kr.co._29cm.homework.service;
+
+import kr.co._29cm.homework.domain.Order;
+import kr.co._29cm.homework.domain.OrderItem;
+import kr.co._29cm.homework.domain.Product;
+import kr.co._29cm.homework.dto.response.SalesReportResponse;
+import kr.co._29cm.homework.exception.InvalidRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SalesRollupService 테스트
+ */
+@DataJpaTest
+@Import(SalesRollupService.class)
+@DisplayName("판매 집계 서비스 테스트")
+class SalesRollupServiceTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 5, 1, 0, 0);
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    private Product tumbler;
+    private Product strap;
+
+    @BeforeEach
+    void setUp() {
+        tumbler = new Product(768848L, "[STANLEY] GO CERAMIVAC 진공 텀블러/보틀 3종", BigDecimal.valueOf(21000), 45);
+        strap = new Product(759928L, "마스크 스트랩 분실방지 오염방지 목걸이", BigDecimal.valueOf(2800), 45);
+    }
+
+    private Order order(LocalDateTime orderedAt, Product product, int quantity) {
+        Order order = new Order("rollup-" + orderedAt + "-" + product.getProductNumber(), orderedAt);
+        order.addItem(new OrderItem(product, quantity));
+        return order;
+    }
+
+    @Test
+    @DisplayName("시간대별 집계 - 반영된 집계와 반영 전 카운터를 합산")
+    void 시간대별_집계_반영된_집계와_반영_전_카운터를_합산() {
+        // given
+        Order mixed = order(DAY.plusHours(10).plusMinutes(5), tumbler, 1);
+        mixed.addItem(new OrderItem(strap, 2));
+        salesRollupService.record(mixed);
+        salesRollupService.record(order(DAY.plusHours(10).plusMinutes(40), strap, 1));
+        salesRollupService.flush();
+        salesRollupService.record(order(DAY.plusHours(13), tumbler, 2));   // 아직 반영 전
+
+        // when
+        SalesReportResponse report = salesRollupService.report(
+                DAY, DAY.plusDays(1), SalesRollupService.Granularity.HOUR, null);
+
+        // then
+        assertThat(report.getBuckets()).hasSize(2);
+        assertThat(report.getBuckets().get(0).getBucketStart()).isEqualTo(DAY.plusHours(10));
+        assertThat(report.getBuckets().get(0).getUnits()).isEqualTo(4);
+        assertThat(report.getBuckets().get(0).getRevenue()).isEqualByComparingTo("29400");
+        assertThat(report.getBuckets().get(0).getOrderCount()).isEqualTo(2);
+        assertThat(report.getTotalOrderCount()).isEqualTo(3);
+        assertThat(report.getTotalRevenue()).isEqualByComparingTo("71400");
+    }
+
+    @Test
+    @DisplayName("상품별 일 단위 집계 - 여러 번 반영해도 누적")
+    void 상품별_일_단위_집계_여러_번_반영해도_누적() {
+        // given
+        salesRollupService.record(order(DAY.plusHours(9), strap, 1));
+        salesRollupService.flush();
+        salesRollupService.record(order(DAY.plusHours(9).plusMinutes(30), strap, 3));
+        salesRollupService.record(order(DAY.plusHours(20), strap, 1));
+        salesRollupService.record(order(DAY.plusHours(20), tumbler, 1));
+        salesRollupService.flush();
+
+        // when
+        SalesReportResponse report = salesRollupService.report(
+                DAY, DAY.plusDays(1), SalesRollupService.Granularity.DAY, strap.getProductNumber());
+
+        // then
+        assertThat(report.getBuckets()).hasSize(1);
+        assertThat(report.getBuckets().get(0).getBucketStart()).isEqualTo(DAY);
+        assertThat(report.getTotalUnits()).isEqualTo(5);
+        assertThat(report.getTotalOrderCount()).isEqualTo(3);
+        assertThat(report.getTotalRevenue()).isEqualByComparingTo("14000");
+    }
+
+    @Test
+    @DisplayName("잘못된 기간과 집계 단위는 예외 발생")
+    void 잘못된_기간과_집계_단위는_예외_발생() {
+        assertThatThrownBy(() -> salesRollupService.report(DAY, DAY, SalesRollupService.Granularity.HOUR, null))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> SalesRollupService.Granularity.from("week"))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("주문 기록과 반영이 동시에 일어나도 수량/매출/주문 수가 누락 없이 함께 반영")
+    void 주문_기록과_반영이_동시에_일어나도_수량_매출_주문_수가_누락_없이_함께_반영() throws InterruptedException {
+        // given
+        int threads = 4;
+        int ordersPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < ordersPerThread; i++) {
+                        salesRollupService.record(order(DAY.plusHours(11), strap, 2));
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            salesRollupService.flush();
+        }
+        executor.shutdown();
+        salesRollupService.flush();
+
+        // then
+        SalesReportResponse report = salesRollupService.report(
+                DAY, DAY.plusDays(1), SalesRollupService.Granularity.DAY, null);
+        long orders = (long) threads * ordersPerThread;
+        assertThat(report.getTotalOrderCount()).isEqualTo(orders);
+        assertThat(report.getTotalUnits()).isEqualTo(orders * 2);
+        assertThat(report.getTotalRevenue()).isEqualByComparingTo(BigDecimal.valueOf(orders * 2 * 2800));
+    }
+}
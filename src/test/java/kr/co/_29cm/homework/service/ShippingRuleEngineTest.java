@@ -0,0 +1,160 @@
+package kr.co._29cm.homework.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.co._29cm.homework.config.ShippingProperties;
+import kr.co._29cm.homework.domain.Money;
+import kr.co._29cm.homework.domain.OrderItem;
+import kr.co._29cm.homework.domain.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ShippingRuleEngine 테스트
+ */
+@DisplayName("배송비 규칙 엔진 테스트")
+class ShippingRuleEngineTest {
+
+    private static final String RULES = """
+            {
+              "tiers": [
+                {"minAmount": 0, "fee": 3000},
+                {"minAmount": 30000, "fee": 2500},
+                {"minAmount": 50000, "fee": 0}
+              ],
+              "freeShippingProducts": [768848],
+              "bulkySurcharges": [{"productNumber": 648418, "surchargePerUnit": 5000}]
+            }
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private Path rulesFile;
+    private CatalogVersion catalogVersion;
+
+    private final Product tumbler = new Product(768848L, "텀블러", BigDecimal.valueOf(21000), 10);
+    private final Product strap = new Product(759928L, "마스크 스트랩", BigDecimal.valueOf(2800), 10);
+    private final Product sofa = new Product(648418L, "소파", BigDecimal.valueOf(300000), 10);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        rulesFile = tempDir.resolve("shipping-rules.json");
+        Files.writeString(rulesFile, RULES);
+        catalogVersion = new CatalogVersion();
+    }
+
+    private ShippingRuleEngine engine(String file) {
+        return new ShippingRuleEngine(new ShippingProperties(), new ObjectMapper(), catalogVersion, file);
+    }
+
+    private long fee(ShippingRuleEngine engine, long totalAmount, OrderItem... items) {
+        return engine.current().shippingFee(Money.of(totalAmount).getMinorUnits(), List.of(items));
+    }
+
+    private void rewrite(String content) throws Exception {
+        Files.writeString(rulesFile, content);
+        Files.setLastModifiedTime(rulesFile, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+    }
+
+    @Test
+    @DisplayName("금액 구간별 기본 배송비")
+    void 금액_구간별_기본_배송비() {
+        // given
+        ShippingRuleEngine engine = engine(rulesFile.toString());
+
+        // when & then
+        assertThat(fee(engine, 10000, new OrderItem(strap, 1))).isEqualTo(Money.of(3000).getMinorUnits());
+        assertThat(fee(engine, 30000, new OrderItem(strap, 1))).isEqualTo(Money.of(2500).getMinorUnits());
+        assertThat(fee(engine, 49999, new OrderItem(strap, 1))).isEqualTo(Money.of(2500).getMinorUnits());
+        assertThat(fee(engine, 50000, new OrderItem(strap, 1))).isZero();
+    }
+
+    @Test
+    @DisplayName("무료배송 상품 포함 시 기본 배송비 면제, 대형 상품은 수량당 추가 배송비")
+    void 무료배송_상품_포함_시_기본_배송비_면제_대형_상품은_수량당_추가_배송비() {
+        // given
+        ShippingRuleEngine engine = engine(rulesFile.toString());
+
+        // when & then
+        assertThat(fee(engine, 23800, new OrderItem(tumbler, 1), new OrderItem(strap, 1))).isZero();
+        assertThat(fee(engine, 600000, new OrderItem(sofa, 2))).isEqualTo(Money.of(10000).getMinorUnits());
+        assertThat(fee(engine, 321000, new OrderItem(tumbler, 1), new OrderItem(sofa, 1)))
+                .isEqualTo(Money.of(5000).getMinorUnits());
+    }
+
+    @Test
+    @DisplayName("규칙 파일 변경 시 검증 후 교체 및 카탈로그 버전 증가")
+    void 규칙_파일_변경_시_검증_후_교체_및_카탈로그_버전_증가() throws Exception {
+        // given
+        ShippingRuleEngine engine = engine(rulesFile.toString());
+        long version = catalogVersion.current();
+        rewrite("""
+                {"tiers": [{"minAmount": 0, "fee": 4000}, {"minAmount": 70000, "fee": 0}]}
+                """);
+
+        // when
+        boolean reloaded = engine.reloadIfChanged();
+
+        // then
+        assertThat(reloaded).isTrue();
+        assertThat(fee(engine, 60000, new OrderItem(tumbler, 1))).isEqualTo(Money.of(4000).getMinorUnits());
+        assertThat(engine.current().freeShippingThreshold()).isEqualByComparingTo("70000");
+        assertThat(catalogVersion.current()).isGreaterThan(version);
+        assertThat(engine.reloadIfChanged()).isFalse();
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 규칙은 적용하지 않고 기존 규칙 유지")
+    void 검증에_실패한_규칙은_적용하지_않고_기존_규칙_유지() throws Exception {
+        // given
+        ShippingRuleEngine engine = engine(rulesFile.toString());
+        ShippingRules before = engine.current();
+        rewrite("""
+                {"tiers": [{"minAmount": 0, "fee": 3000}, {"minAmount": 0, "fee": 0}]}
+                """);
+
+        // when
+        boolean reloaded = engine.reloadIfChanged();
+
+        // then
+        assertThat(reloaded).isFalse();
+        assertThat(engine.current()).isSameAs(before);
+    }
+
+    @Test
+    @DisplayName("기동 시 규칙 파일이 올바르지 않으면 실패")
+    void 기동_시_규칙_파일이_올바르지_않으면_실패() throws Exception {
+        // given
+        Files.writeString(rulesFile, """
+                {"tiers": [{"minAmount": 1000, "fee": 3000}]}
+                """);
+
+        // when & then
+        assertThatThrownBy(() -> engine(rulesFile.toString()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("첫 배송비 구간의 minAmount는 0이어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("규칙 파일 미지정 시 shipping.policy 설정 사용")
+    void 규칙_파일_미지정_시_shipping_policy_설정_사용() {
+        // given
+        ShippingRuleEngine engine = engine("");
+
+        // when & then
+        assertThat(fee(engine, 49999, new OrderItem(strap, 1))).isEqualTo(Money.of(2500).getMinorUnits());
+        assertThat(fee(engine, 50000, new OrderItem(strap, 1))).isZero();
+        assertThat(engine.reloadIfChanged()).isFalse();
+    }
+}
@@ -0,0 +1,197 @@
+package kr.co._29cm.homework.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StockStreamService 테스트
+ */
+@DisplayName("재고 스트림 서비스 테스트")
+class StockStreamServiceTest {
+
+    private StockStreamService stockStreamService;
+
+    @BeforeEach
+    void setUp() {
+        stockStreamService = new StockStreamService(new ObjectMapper(), Runnable::run);
+    }
+
+    @Test
+    @DisplayName("같은 주기 안의 재고 변경은 상품별 최신값으로 합쳐짐")
+    void 같은_주기_안의_재고_변경은_상품별_최신값으로_합쳐짐() {
+        // given
+        stockStreamService.publish(768848L, 44);
+        stockStreamService.publish(759928L, 80);
+        stockStreamService.publish(768848L, 42);
+
+        // when
+        Map<Long, Integer> batch = stockStreamService.drain();
+
+        // then
+        assertThat(batch).containsExactly(Map.entry(759928L, 80), Map.entry(768848L, 42));
+        assertThat(stockStreamService.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 커밋 전에는 재고 변경이 기록되지 않음")
+    void 트랜잭션_커밋_전에는_재고_변경이_기록되지_않음() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            stockStreamService.publishAfterCommit(768848L, 44);
+
+            // then
+            assertThat(stockStreamService.drain()).isEmpty();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(stockStreamService.drain()).containsEntry(768848L, 44);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("발행 시 모아둔 재고 변경을 비우고 구독자에게 전송")
+    void 발행_시_모아둔_재고_변경을_비우고_구독자에게_전송() {
+        // given
+        stockStreamService.subscribe();
+        stockStreamService.subscribe();
+        stockStreamService.publish(768848L, 44);
+
+        // when
+        stockStreamService.flush();
+
+        // then
+        assertThat(stockStreamService.getSubscriberCount()).isEqualTo(2);
+        assertThat(stockStreamService.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모든 구독자가 같은 이벤트를 한 번씩만 받음")
+    void 모든_구독자가_같은_이벤트를_한_번씩만_받음() {
+        // given
+        List<RecordingEmitter> emitters = List.of(new RecordingEmitter(), new RecordingEmitter(), new RecordingEmitter());
+        emitters.forEach(stockStreamService::register);
+        stockStreamService.publish(768848L, 44);
+
+        // when
+        stockStreamService.flush();
+        stockStreamService.publish(768848L, 43);
+        stockStreamService.flush();
+
+        // then
+        for (RecordingEmitter emitter : emitters) {
+            assertThat(emitter.sent).hasSize(2);
+            assertThat(emitter.sent.get(0)).isEqualTo(emitters.get(0).sent.get(0));
+            assertThat(emitter.sent.get(1)).isEqualTo(emitters.get(0).sent.get(1));
+        }
+        assertThat(emitters.get(2).sent.get(0)).isEqualTo(emitters.get(0).sent.get(0))
+                .contains("event:stock\n", "data:", "\"768848\":44", "\n\n");
+    }
+
+    @Test
+    @DisplayName("전송이 막힌 구독자는 발행을 지연시키지 않고 대기 한도를 넘으면 연결 종료")
+    void 전송이_막힌_구독자는_발행을_지연시키지_않고_대기_한도를_넘으면_연결_종료() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        StockStreamService service = new StockStreamService(new ObjectMapper(), executor);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter();
+        service.register(slow);
+        service.register(fast);
+
+        try {
+            // when
+            long startNanos = System.nanoTime();
+            for (int i = 0; i < 70; i++) {
+                service.publish(768848L, i);
+                service.flush();
+                fast.awaitSent(i + 1);
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            release.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+            // then
+            assertThat(elapsedMillis).isLessThan(2_000);
+            assertThat(fast.sent).hasSize(70);
+            assertThat(slow.sent.size()).isLessThan(70);
+            assertThat(slow.completed).isTrue();
+            assertThat(service.getSubscriberCount()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 전송 내용을 문자열로 기록하는 SSE 연결 (release가 열릴 때까지 전송이 막힐 수 있음)
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> sent = new ArrayList<>();
+        private final CountDownLatch release;
+        private volatile boolean completed;
+
+        RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            StringBuilder event = new StringBuilder();
+            items.forEach(item -> event.append(item.getData()));
+            synchronized (sent) {
+                sent.add(event.toString());
+            }
+        }
+
+        void awaitSent(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sentCount() < count && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+        }
+
+        private int sentCount() {
+            synchronized (sent) {
+                return sent.size();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package kr.co._29cm.homework.service;
+
+import kr.co._29cm.homework.domain.Order;
+import kr.co._29cm.homework.domain.OrderItem;
+import kr.co._29cm.homework.domain.Product;
+import kr.co._29cm.homework.dto.response.ProductBatchResponse;
+import kr.co._29cm.homework.dto.response.ProductResponse;
+import kr.co._29cm.homework.dto.response.TrendingProductResponse;
+import kr.co._29cm.homework.exception.InvalidRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * TrendingService 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("실시간 인기 상품 서비스 테스트")
+class TrendingServiceTest {
+
+    @Mock
+    private ProductLookupService productLookupService;
+
+    private MutableClock clock;
+    private TrendingService trendingService;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-19T12:00:00Z"));
+        trendingService = new TrendingService(productLookupService, Duration.ofMinutes(1), Duration.ofMinutes(10),
+                4, 1024, clock);
+    }
+
+    private void sell(long productNumber, int quantity) {
+        Order order = new Order("order-" + productNumber, LocalDateTime.now(clock));
+        order.addItem(new OrderItem(new Product(productNumber, "상품 " + productNumber, BigDecimal.valueOf(1000), 1000),
+                quantity));
+        trendingService.record(order);
+    }
+
+    @Test
+    @DisplayName("판매 수량 내림차순으로 상위 K개 조회")
+    void 판매_수량_내림차순으로_상위_K개_조회() {
+        // given: 다수의 소량 판매 상품 사이에 대량 판매 상품
+        for (long productNumber = 1; productNumber <= 2000; productNumber++) {
+            sell(productNumber, 1);
+        }
+        sell(768848L, 40);
+        clock.advance(Duration.ofMinutes(1));
+        sell(759928L, 25);
+        sell(768848L, 10);
+        sell(748943L, 30);
+
+        // when
+        List<TrendingService.TrendingProduct> top = trendingService.topProducts(Duration.ofMinutes(5), 3);
+
+        // then
+        assertThat(top).extracting(TrendingService.TrendingProduct::productNumber)
+                .containsExactly(768848L, 748943L, 759928L);
+        assertThat(top.get(0).quantity()).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("조회 기간을 벗어난 판매는 제외")
+    void 조회_기간을_벗어난_판매는_제외() {
+        // given
+        sell(768848L, 100);
+        clock.advance(Duration.ofMinutes(3));
+        sell(759928L, 1);
+
+        // when
+        List<TrendingService.TrendingProduct> recent = trendingService.topProducts(Duration.ofMinutes(1), 10);
+        List<TrendingService.TrendingProduct> wide = trendingService.topProducts(Duration.ofMinutes(5), 10);
+
+        // then
+        assertThat(recent).extracting(TrendingService.TrendingProduct::productNumber).containsExactly(759928L);
+        assertThat(wide).extracting(TrendingService.TrendingProduct::productNumber).containsExactly(768848L, 759928L);
+    }
+
+    @Test
+    @DisplayName("상품 정보와 순위를 포함하여 조회")
+    void 상품_정보와_순위를_포함하여_조회() {
+        // given
+        sell(768848L, 3);
+        when(productLookupService.findByProductNumbers(List.of(768848L))).thenReturn(new ProductBatchResponse(
+                List.of(ProductResponse.builder()
+                        .productNumber(768848L)
+                        .name("[STANLEY] GO CERAMIVAC 진공 텀블러/보틀 3종")
+                        .price(BigDecimal.valueOf(21000))
+                        .build()),
+                List.of()));
+
+        // when
+        List<TrendingProductResponse> result = trendingService.trendingProducts(Duration.ofMinutes(10), 5);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getRank()).isEqualTo(1);
+        assertThat(result.get(0).getName()).isEqualTo("[STANLEY] GO CERAMIVAC 진공 텀블러/보틀 3종");
+        assertThat(result.get(0).getQuantitySold()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("허용 범위를 벗어난 기간과 개수는 예외 발생")
+    void 허용_범위를_벗어난_기간과_개수는_예외_발생() {
+        assertThatThrownBy(() -> trendingService.topProducts(Duration.ofHours(1), 10))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> trendingService.topProducts(Duration.ZERO, 10))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> trendingService.topProducts(Duration.ofMinutes(5), TrendingService.MAX_LIMIT + 1))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}